@@ -0,0 +1,128 @@
+package com.bomberman.model;
+
+/**
+ * Représente un bonus appliqué à un joueur,
+ * avec son type, sa valeur (extraRange) et sa durée restante en secondes.
+ * <p>
+ * {@link Type} sert de registre des effets : chaque type a sa règle de cumul et son bit
+ * dans le masque des effets actifs du joueur ({@link Player#getEffectMask()}).
+ */
+public class ActiveBonus {
+    /** Règle appliquée quand un joueur reçoit un effet d'un type déjà actif. */
+    public enum Stacking {
+        /** Les effets se cumulent : valeurs additionnées, chacun expire à sa propre échéance. */
+        ADD,
+        /** Un seul effet actif : le nouveau prolonge l'existant jusqu'à la plus tardive des deux échéances. */
+        REFRESH
+    }
+
+    public enum Type {
+        FLAME(Stacking.ADD), JACKET(Stacking.REFRESH), LIFE(Stacking.REFRESH);
+
+        private final Stacking stacking;
+
+        Type(Stacking stacking) {
+            this.stacking = stacking;
+        }
+
+        /** @return règle de cumul de l'effet */
+        public Stacking getStacking() { return stacking; }
+
+        /** @return bit de l'effet dans le masque des effets actifs */
+        public int mask() { return 1 << ordinal(); }
+    }
+
+    private Type type;
+    private int extraValue;
+    /** Durée d'un tick de jeu pour le décompte des bonus, en secondes. */
+    public static final double TICK_SECONDS = 0.5;
+
+    private double secondsRemaining;  // durée restante en secondes
+    private long expiryTick = -1;     // tick d'expiration dans l'échéancier de la partie, -1 sinon
+    private int expiryEvent = -1;
+
+    /**
+     * @param type           type de bonus (ex : FLAME, JACKET, LIFE)
+     * @param extraValue     valeur associée au bonus (ex : +1 portée)
+     * @param durationSeconds durée du bonus en secondes
+     */
+    public ActiveBonus(Type type, int extraValue, double durationSeconds) {
+        this.type = type;
+        this.extraValue = extraValue;
+        this.secondsRemaining = durationSeconds;
+    }
+
+    /**
+     * Crée une copie indépendante d'un bonus actif.
+     * @param source bonus à copier
+     */
+    public ActiveBonus(ActiveBonus source) {
+        this.type = source.type;
+        this.extraValue = source.extraValue;
+        this.secondsRemaining = source.secondsRemaining;
+        this.expiryTick = source.expiryTick;
+    }
+
+    /**
+     * Recopie l'état d'un autre bonus actif dans celui-ci.
+     * @param source bonus à recopier
+     */
+    void copyFrom(ActiveBonus source) {
+        this.type = source.type;
+        this.extraValue = source.extraValue;
+        this.secondsRemaining = source.secondsRemaining;
+        this.expiryTick = source.expiryTick;
+        this.expiryEvent = -1;
+    }
+
+    /** @return nombre de ticks de jeu couverts par la durée restante (au moins 1) */
+    public int remainingTicks() {
+        return Math.max(1, (int) Math.ceil(secondsRemaining / TICK_SECONDS));
+    }
+
+    /** Enregistre l'expiration programmée dans l'échéancier de la partie. */
+    void scheduleExpiry(long expiryTick, int event) {
+        this.expiryTick = expiryTick;
+        this.expiryEvent = event;
+    }
+
+    /** @return tick d'expiration programmé, -1 si le bonus n'est pas dans un échéancier */
+    long getExpiryTick() { return expiryTick; }
+
+    /** @return identifiant de l'événement d'expiration, -1 si aucun */
+    int getExpiryEvent() { return expiryEvent; }
+
+    /** Prolonge la durée restante jusqu'à celle d'un autre bonus si elle est plus courte. */
+    void extend(ActiveBonus other) {
+        secondsRemaining = Math.max(secondsRemaining, other.secondsRemaining);
+    }
+
+    /** Marque le bonus comme expiré. */
+    void expire() {
+        secondsRemaining = 0;
+        expiryEvent = -1;
+    }
+
+    /** @return le type du bonus */
+    public Type getType() {
+        return type;
+    }
+
+    /** @return la valeur associée au bonus (ex : portée supplémentaire) */
+    public int getExtraValue() {
+        return extraValue;
+    }
+
+    /**
+     * À appeler à chaque tick (par ex. 0,5 s) pour décrémenter la durée réelle.
+     * @param tickDuration durée d'un tick en secondes
+     */
+    public void tick(double tickDuration) {
+        secondsRemaining -= tickDuration;
+    }
+
+    /** @return true si le bonus est expiré */
+    public boolean isExpired() {
+        return secondsRemaining <= 0;
+    }
+}
\ No newline at end of file
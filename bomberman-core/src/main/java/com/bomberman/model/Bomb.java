@@ -0,0 +1,115 @@
+package com.bomberman.model;
+
+/**
+ * Représente une bombe posée sur la grille de Bomberman.
+ * <p>
+ * Seule, la bombe décompte elle-même son timer avec {@link #tick()}. Posée dans une partie,
+ * sa détonation est programmée dans l'échéancier de la partie ({@link TimingWheel}) et
+ * {@link #getTimer()} se déduit du tick d'échéance.
+ */
+public class Bomb {
+    public static final int DEFAULT_TIMER = 6; // nombre de ticks avant explosion (~2s à 0.5s/tick)
+
+    private int x;
+    private int y;
+    private int timer; // nombre de ticks avant explosion
+    private int range; // rayon d’explosion
+    private Player owner; // joueur ayant posé la bombe
+    private TimingWheel clock; // échéancier de la partie, null si la bombe décompte seule
+    private long dueTick;
+    private int timerEvent = -1;
+
+    /**
+     * Crée une bombe avec un propriétaire explicite.
+     * @param x position X
+     * @param y position Y
+     * @param timer durée en ticks avant explosion
+     * @param range portée de l’explosion
+     * @param owner joueur ayant posé la bombe
+     */
+    public Bomb(int x, int y, int timer, int range, Player owner) {
+        this.x = x;
+        this.y = y;
+        this.timer = timer;
+        this.range = range;
+        this.owner = owner;
+    }
+
+    /**
+     * Constructeur rétrocompatible (sans owner).
+     * @param x position X
+     * @param y position Y
+     * @param timer durée en ticks avant explosion
+     * @param range portée de l’explosion
+     */
+    public Bomb(int x, int y, int timer, int range) {
+        this(x, y, timer, range, null);
+    }
+
+    /**
+     * Réinitialise tous les champs de la bombe (réutilisation d'une bombe existante lors d'une copie de partie).
+     */
+    void set(int x, int y, int timer, int range, Player owner) {
+        this.x = x;
+        this.y = y;
+        this.timer = timer;
+        this.range = range;
+        this.owner = owner;
+        this.clock = null;
+        this.timerEvent = -1;
+    }
+
+    /**
+     * Confie le décompte à un échéancier : la détonation est due au tick {@code dueTick}.
+     * @param event identifiant de l'événement de détonation programmé
+     */
+    void schedule(TimingWheel clock, long dueTick, int event) {
+        this.clock = clock;
+        this.dueTick = dueTick;
+        this.timerEvent = event;
+    }
+
+    /** @return true si la détonation est programmée dans un échéancier */
+    boolean isScheduled() { return clock != null; }
+
+    /** @return tick d'échéance de la détonation (si programmée) */
+    long getDueTick() { return dueTick; }
+
+    /** Marque la bombe comme explosée quand son événement de détonation est déclenché. */
+    void detonate() {
+        clock = null;
+        timerEvent = -1;
+        timer = 0;
+    }
+
+    /** @return position X de la bombe */
+    public int getX() { return x; }
+
+    /** @return position Y de la bombe */
+    public int getY() { return y; }
+
+    /** @return nombre de ticks restants avant explosion */
+    public int getTimer() {
+        return clock != null ? (int) Math.max(0, dueTick - clock.getCurrentTick()) : timer;
+    }
+
+    /** @return portée de l’explosion */
+    public int getRange() { return range; }
+
+    /** @return joueur ayant posé la bombe, ou null si inconnu */
+    public Player getOwner() { return owner; }
+
+    /** Fait avancer le timer d’un tick (sans effet si le décompte est confié à un échéancier). */
+    public void tick() {
+        if (clock == null) timer--;
+    }
+
+    /** Déclenche l'explosion immédiate de la bombe. */
+    public void forceExplode() {
+        if (clock != null) clock.cancel(timerEvent);
+        detonate();
+    }
+
+    /** @return true si la bombe a explosé */
+    public boolean isExploded() { return getTimer() <= 0; }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.bomberman.model;
+
+/**
+ * Bonus BOMB : augmente définitivement le nombre de bombes simultanées du joueur.
+ */
+public class BombBonus extends Bonus {
+    /** Nombre maximal de bombes simultanées qu'un joueur peut atteindre avec ce bonus. */
+    public static final int MAX_BOMBS = 8;
+
+    /**
+     * Crée un bonus Bomb à la position donnée.
+     * @param x position X
+     * @param y position Y
+     */
+    public BombBonus(int x, int y) {
+        super(x, y, "/images/items/bombe.png");
+    }
+
+    @Override
+    public Bonus copy() {
+        BombBonus copy = new BombBonus(x, y);
+        copy.setCollected(collected);
+        return copy;
+    }
+
+    /**
+     * Applique le bonus au joueur (une bombe simultanée de plus, dans la limite de {@link #MAX_BOMBS}).
+     * @param player joueur cible
+     */
+    @Override
+    public void applyTo(Player player) {
+        if (!isCollected()) {
+            if (player.getMaxBombs() < MAX_BOMBS) {
+                player.setMaxBombs(player.getMaxBombs() + 1);
+            }
+            setCollected(true);
+        }
+    }
+}
@@ -1,22 +1,18 @@
 package com.bomberman.model;
 
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import java.io.InputStream;
-
 /**
  * Classe abstraite représentant un bonus sur la map.
  * Chaque bonus sait :
  *   1) où il se trouve (en coordonnées « tile »),
  *   2) s’il a déjà été ramassé (collected),
- *   3) comment se dessiner (une image JavaFX),
+ *   3) quelle image le représente (chemin de ressource, chargé par la vue),
  *   4) comment s’appliquer à un Player (méthode abstraite applyTo).
  */
 public abstract class Bonus {
     protected int x;              // X en cases (tiles)
     protected int y;              // Y en cases (tiles)
     protected boolean collected;  // true si le bonus a déjà été ramassé
-    protected Image sprite;       // image du bonus
+    protected final String spritePath; // chemin de l'image du bonus, résolu par la vue
 
     /**
      * @param x         coordonnée X en cases
@@ -28,27 +24,15 @@ public abstract class Bonus {
         this.x = x;
         this.y = y;
         this.collected = false;
-        loadSprite(resource);
-    }
-
-    public Image getSprite() {
-        return sprite;
+        this.spritePath = resource;
     }
 
     /**
-     * Charge l’image depuis le classpath.
+     * Le moteur ne décode aucune image : la vue charge (et garde en cache) l'image de ce chemin.
+     * @return chemin dans le classpath de l'image du bonus
      */
-    private void loadSprite(String resourcePath) {
-        try (InputStream is = getClass().getResourceAsStream(resourcePath)) {
-            if (is == null) {
-                sprite = null;
-            } else {
-                sprite = new Image(is);
-            }
-        } catch (Exception e) {
-            // Aucun message de debug dans la console selon les consignes
-            sprite = null;
-        }
+    public String getSpritePath() {
+        return spritePath;
     }
 
     /** @return true si le bonus a déjà été collecté par le joueur */
@@ -70,6 +54,24 @@ public abstract class Bonus {
         return y;
     }
 
+    /**
+     * Crée une copie indépendante de ce bonus (même type, même position, même état).
+     * Utilisée pour copier une partie.
+     * @return la copie
+     */
+    public abstract Bonus copy();
+
+    /**
+     * Recopie position et état d'un bonus de même type dans celui-ci.
+     * Les bonus portant une valeur propre la redéfinissent.
+     * @param source bonus de même classe à recopier
+     */
+    public void copyFrom(Bonus source) {
+        this.x = source.x;
+        this.y = source.y;
+        this.collected = source.collected;
+    }
+
     /**
      * Méthode à surcharger : définit l’effet que ce bonus applique au Player.
      * Par exemple : augmenter la portée des bombes, la vitesse, etc.
@@ -0,0 +1,210 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Stockage compact de valeurs de 4 bits (0 à 15) pour de très grandes cartes,
+ * par blocs de 64x64 cases alloués à la demande.
+ * <p>
+ * Un bloc jamais modifié n'occupe aucune mémoire : toutes ses cases ont la valeur de
+ * remplissage du bloc. Un bloc alloué tient en 256 {@code long} (16 cases par mot, 2 Ko),
+ * si bien qu'une carte de 4096x4096 faite surtout de zones uniformes ne coûte que
+ * ses blocs réellement variés.
+ */
+public class CellChunks {
+    /** Côté d'un bloc, en cases. */
+    public static final int CHUNK_SIZE = 64;
+    private static final int CHUNK_SHIFT = 6;
+    private static final int WORDS_PER_CHUNK = CHUNK_SIZE * CHUNK_SIZE / 16;
+    private static final long NIBBLES = 0x1111111111111111L;
+
+    private final int width;
+    private int height;
+    private final int chunksX;
+    private int chunksY;
+    private long[][] chunks;  // [chunkY * chunksX + chunkX], null si uniforme
+    private byte[] fills;     // valeur des blocs non alloués
+    private int allocated = 0;
+
+    /**
+     * @param width largeur en cases
+     * @param height hauteur en cases
+     * @param fill valeur initiale de toutes les cases (0 à 15)
+     */
+    public CellChunks(int width, int height, int fill) {
+        checkValue(fill);
+        this.width = width;
+        this.chunksX = Math.max(1, (width + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        this.chunks = new long[0][];
+        this.fills = new byte[0];
+        ensureHeight(height, fill);
+    }
+
+    /**
+     * Crée une copie indépendante (seuls les blocs alloués de la source sont dupliqués).
+     * @param source stockage à copier
+     */
+    public CellChunks(CellChunks source) {
+        this.width = source.width;
+        this.height = source.height;
+        this.chunksX = source.chunksX;
+        this.chunksY = source.chunksY;
+        this.chunks = new long[source.chunks.length][];
+        this.fills = source.fills.clone();
+        for (int i = 0; i < chunks.length; i++) {
+            if (source.chunks[i] != null) chunks[i] = source.chunks[i].clone();
+        }
+        this.allocated = source.allocated;
+    }
+
+    /** @return largeur en cases */
+    public int getWidth() { return width; }
+
+    /** @return hauteur en cases */
+    public int getHeight() { return height; }
+
+    /** @return nombre total de blocs couvrant la surface */
+    public int getChunkCount() { return chunks.length; }
+
+    /** @return nombre de blocs effectivement alloués */
+    public int getAllocatedChunks() { return allocated; }
+
+    /** @return estimation de la mémoire occupée par les blocs et leurs tables, en octets */
+    public long memoryBytes() {
+        return (long) allocated * WORDS_PER_CHUNK * Long.BYTES + (long) chunks.length * (Integer.BYTES + 1);
+    }
+
+    /**
+     * Agrandit la surface vers le bas (chargement ligne par ligne d'une carte dont
+     * la hauteur n'est pas connue d'avance). Les nouvelles cases valent {@code fill}.
+     */
+    void ensureHeight(int newHeight, int fill) {
+        if (newHeight <= height) return;
+        height = newHeight;
+        int newChunksY = (newHeight + CHUNK_SIZE - 1) >>> CHUNK_SHIFT;
+        if (newChunksY <= chunksY) return;
+        int oldCount = chunks.length;
+        int newCount = newChunksY * chunksX;
+        chunks = Arrays.copyOf(chunks, newCount);
+        fills = Arrays.copyOf(fills, newCount);
+        Arrays.fill(fills, oldCount, newCount, (byte) fill);
+        chunksY = newChunksY;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0 || value > 15) throw new IllegalArgumentException("Valeur hors de 4 bits : " + value);
+    }
+
+    private int chunkIndex(int x, int y) {
+        return (y >>> CHUNK_SHIFT) * chunksX + (x >>> CHUNK_SHIFT);
+    }
+
+    /**
+     * @return la valeur de la case (x,y) ; les coordonnées doivent être dans la surface
+     */
+    public int get(int x, int y) {
+        int ci = chunkIndex(x, y);
+        long[] chunk = chunks[ci];
+        if (chunk == null) return fills[ci];
+        int local = ((y & (CHUNK_SIZE - 1)) << CHUNK_SHIFT) | (x & (CHUNK_SIZE - 1));
+        return (int) (chunk[local >>> 4] >>> ((local & 15) << 2)) & 0xF;
+    }
+
+    /**
+     * Écrit la valeur de la case (x,y). Écrire la valeur de remplissage dans un bloc
+     * non alloué ne l'alloue pas.
+     * @param value valeur de 0 à 15
+     */
+    public void set(int x, int y, int value) {
+        int ci = chunkIndex(x, y);
+        long[] chunk = chunks[ci];
+        if (chunk == null) {
+            if (value == fills[ci]) return;
+            checkValue(value);
+            chunk = allocate(ci);
+        }
+        int local = ((y & (CHUNK_SIZE - 1)) << CHUNK_SHIFT) | (x & (CHUNK_SIZE - 1));
+        int shift = (local & 15) << 2;
+        chunk[local >>> 4] = (chunk[local >>> 4] & ~(0xFL << shift)) | ((long) (value & 0xF) << shift);
+    }
+
+    private long[] allocate(int ci) {
+        long[] chunk = new long[WORDS_PER_CHUNK];
+        Arrays.fill(chunk, fills[ci] * NIBBLES);
+        chunks[ci] = chunk;
+        allocated++;
+        return chunk;
+    }
+
+    /**
+     * Libère les blocs alloués dont toutes les cases ont la même valeur.
+     * @return nombre de blocs libérés
+     */
+    public int compact() {
+        int freed = 0;
+        for (int ci = 0; ci < chunks.length; ci++) {
+            long[] chunk = chunks[ci];
+            if (chunk == null) continue;
+            long first = chunk[0];
+            if (first != (first & 0xF) * NIBBLES) continue;
+            boolean uniform = true;
+            for (int w = 1; w < WORDS_PER_CHUNK && uniform; w++) uniform = chunk[w] == first;
+            if (uniform) {
+                fills[ci] = (byte) (first & 0xF);
+                chunks[ci] = null;
+                allocated--;
+                freed++;
+            }
+        }
+        return freed;
+    }
+
+    /**
+     * Recopie les valeurs dans un stockage de mêmes dimensions, en réutilisant ses blocs alloués.
+     * @throws IllegalArgumentException si les dimensions diffèrent
+     */
+    public void copyInto(CellChunks target) {
+        checkSameSize(target);
+        for (int ci = 0; ci < chunks.length; ci++) {
+            target.fills[ci] = fills[ci];
+            if (chunks[ci] == null) {
+                if (target.chunks[ci] != null) {
+                    target.chunks[ci] = null;
+                    target.allocated--;
+                }
+            } else {
+                long[] dst = target.chunks[ci] != null ? target.chunks[ci] : target.allocate(ci);
+                System.arraycopy(chunks[ci], 0, dst, 0, WORDS_PER_CHUNK);
+            }
+        }
+    }
+
+    /**
+     * Charge les valeurs d'un autre stockage de mêmes dimensions en les traduisant par
+     * {@code mapping} ; les blocs uniformes de la source restent non alloués.
+     * @param mapping table de traduction indexée par valeur source (16 entrées)
+     */
+    void load(CellChunks source, int[] mapping) {
+        checkSameSize(source);
+        for (int ci = 0; ci < chunks.length; ci++) {
+            if (chunks[ci] != null) {
+                chunks[ci] = null;
+                allocated--;
+            }
+            fills[ci] = (byte) mapping[source.fills[ci]];
+            if (source.chunks[ci] == null) continue;
+            int x0 = (ci % chunksX) << CHUNK_SHIFT, y0 = (ci / chunksX) << CHUNK_SHIFT;
+            int x1 = Math.min(width, x0 + CHUNK_SIZE), y1 = Math.min(height, y0 + CHUNK_SIZE);
+            for (int y = y0; y < y1; y++) {
+                for (int x = x0; x < x1; x++) set(x, y, mapping[source.get(x, y)]);
+            }
+        }
+    }
+
+    private void checkSameSize(CellChunks other) {
+        if (other.width != width || other.height != height || other.chunks.length != chunks.length) {
+            throw new IllegalArgumentException("Dimensions différentes : "
+                    + width + "x" + height + " / " + other.width + "x" + other.height);
+        }
+    }
+}
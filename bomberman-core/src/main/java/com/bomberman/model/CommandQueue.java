@@ -0,0 +1,114 @@
+package com.bomberman.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * File bornée de commandes de joueurs, à plusieurs producteurs et un seul consommateur, sans verrou.
+ * <p>
+ * N'importe quel thread (clavier, réseau, robot externe) dépose des commandes horodatées avec
+ * {@link #offer(int, int, int, int, long)} ; le thread de simulation les consomme dans leur ordre
+ * de dépôt avec {@link #drain(Handler)}. Chaque case de l'anneau porte un numéro de séquence :
+ * un producteur réserve une position par CAS sur la queue, écrit les champs puis publie la
+ * séquence ; le consommateur ne lit une case que lorsque sa séquence annonce qu'elle est pleine.
+ * Les champs sont rangés dans des tableaux parallèles : déposer et consommer n'allouent rien.
+ */
+public class CommandQueue {
+    /** Déplacement d'une case (dx, dy). */
+    public static final int MOVE = 0;
+    /** Pose d'une bombe. */
+    public static final int BOMB = 1;
+
+    /** Reçoit les commandes consommées. */
+    public interface Handler {
+        /**
+         * @param kind {@link #MOVE} ou {@link #BOMB}
+         * @param slot emplacement du joueur
+         * @param dx déplacement horizontal (0 pour une bombe)
+         * @param dy déplacement vertical (0 pour une bombe)
+         * @param enqueuedNanos instant du dépôt ({@link System#nanoTime()})
+         */
+        void onCommand(int kind, int slot, int dx, int dy, long enqueuedNanos);
+    }
+
+    private final int mask;
+    private final AtomicLongArray sequence;
+    private final int[] kinds;
+    private final int[] slots;
+    private final int[] dxs;
+    private final int[] dys;
+    private final long[] enqueued;
+    private final AtomicLong tail = new AtomicLong();
+    private long head = 0; // propriété du consommateur
+
+    /**
+     * @param capacity nombre maximal de commandes en attente, arrondi à la puissance de deux supérieure
+     */
+    public CommandQueue(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity doit être positive : " + capacity);
+        int n = Integer.highestOneBit(capacity);
+        if (n < capacity) n <<= 1;
+        this.mask = n - 1;
+        this.sequence = new AtomicLongArray(n);
+        for (int i = 0; i < n; i++) sequence.set(i, i);
+        this.kinds = new int[n];
+        this.slots = new int[n];
+        this.dxs = new int[n];
+        this.dys = new int[n];
+        this.enqueued = new long[n];
+    }
+
+    /** @return nombre maximal de commandes en attente */
+    public int capacity() { return mask + 1; }
+
+    /**
+     * Dépose une commande ; utilisable depuis n'importe quel thread.
+     * @return false si la file est pleine (la commande est abandonnée)
+     */
+    public boolean offer(int kind, int slot, int dx, int dy, long enqueuedNanos) {
+        long pos;
+        while (true) {
+            pos = tail.get();
+            long seq = sequence.get((int) pos & mask);
+            if (seq == pos) {
+                if (tail.compareAndSet(pos, pos + 1)) break;
+            } else if (seq < pos) {
+                return false; // case pas encore libérée par le consommateur : file pleine
+            }
+            // sinon un autre producteur a pris cette position : réessayer
+        }
+        int i = (int) pos & mask;
+        kinds[i] = kind;
+        slots[i] = slot;
+        dxs[i] = dx;
+        dys[i] = dy;
+        enqueued[i] = enqueuedNanos;
+        sequence.set(i, pos + 1); // publication : les champs ci-dessus sont visibles du consommateur
+        return true;
+    }
+
+    /**
+     * Consomme, dans leur ordre de dépôt, les commandes publiées ; à n'appeler que depuis le
+     * thread consommateur. Une commande dont le dépôt n'est pas encore publié arrête la
+     * consommation : elle sera lue au prochain appel, toujours à sa place.
+     * @return nombre de commandes consommées
+     */
+    public int drain(Handler handler) {
+        int count = 0;
+        while (true) {
+            int i = (int) head & mask;
+            if (sequence.get(i) != head + 1) return count;
+            int kind = kinds[i], slot = slots[i], dx = dxs[i], dy = dys[i];
+            long at = enqueued[i];
+            sequence.set(i, head + mask + 1); // case libérée pour le tour suivant de l'anneau
+            head++;
+            handler.onCommand(kind, slot, dx, dy, at);
+            count++;
+        }
+    }
+
+    /** @return estimation du nombre de commandes en attente */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+}
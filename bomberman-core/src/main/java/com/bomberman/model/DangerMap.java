@@ -0,0 +1,200 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Carte des dangers d'un tick : pour chaque case, le nombre de ticks avant que le premier souffle
+ * l'atteigne, toutes bombes comprises. Calculée une fois par tick par la partie puis lue par
+ * toutes ses IA, elle remplace les parcours de bombes refaits pour chaque case examinée.
+ * <p>
+ * Les souffles suivent les règles de {@link Game} : ils s'arrêtent avant un mur indestructible et
+ * sur un mur destructible ({@link Grid#blastReach}). Les réactions en chaîne sont prises en compte :
+ * une bombe atteinte par un souffle explose en même temps que lui. Les bombes sont traitées par
+ * date d'explosion croissante (comme un plus court chemin), si bien qu'une case n'est peinte
+ * qu'avec des dates qui diminuent ; une bombe posée en cours de tick s'ajoute de la même façon
+ * ({@link #addBomb}). Les cases sont remises à zéro par tampon de génération.
+ */
+final class DangerMap {
+    /** Valeur d'une case qu'aucun souffle n'atteint. */
+    static final int SAFE = Integer.MAX_VALUE;
+
+    private static final int[][] DIRS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    private Grid grid;
+    private int width;
+    private long baseTick;
+    private int stamp = 0;
+    private int[] cellStamp = new int[0];
+    private int[] blastIn = new int[0];
+    private int[] bombAt = new int[0]; // indice + 1 de la bombe de la case, valide si cellStamp est à jour
+
+    // Bombes connues de la carte : position, portée, date d'explosion (chaînes comprises)
+    private int bombCount;
+    private int[] bombCell = new int[16];
+    private int[] bombRange = new int[16];
+    private int[] bombDue = new int[16];
+    // Tas binaire d'indices de bombes, par date croissante ; une bombe avancée y est remise avec sa
+    // nouvelle date, l'ancienne entrée est ignorée au dépilage
+    private int[] heap = new int[16];
+    private int[] heapKeys = new int[16];
+    private int heapSize;
+
+    /**
+     * Recalcule la carte pour l'état courant.
+     * @param grid grille de la partie
+     * @param bombs bombes en jeu
+     * @param tick tick courant de la partie (origine de {@link #earliestBlastTick})
+     */
+    void rebuild(Grid grid, List<Bomb> bombs, long tick) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.baseTick = tick;
+        int cells = width * grid.getHeight();
+        if (cellStamp.length < cells) {
+            cellStamp = new int[cells];
+            blastIn = new int[cells];
+            bombAt = new int[cells];
+            stamp = 0;
+        }
+        stamp++;
+        bombCount = 0;
+        heapSize = 0;
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb b = bombs.get(i);
+            int index = register(b);
+            if (index >= 0) push(index);
+        }
+        propagate();
+    }
+
+    /**
+     * Ajoute une bombe posée depuis le dernier calcul : elle explose à son échéance, ou plus tôt
+     * si un souffle connu atteint sa case, et peut avancer l'explosion d'autres bombes.
+     */
+    void addBomb(Bomb bomb) {
+        if (grid == null) return;
+        int index = register(bomb);
+        if (index < 0) return;
+        int blast = ticksUntilBlast(bombCell[index]);
+        if (blast < bombDue[index]) bombDue[index] = blast;
+        push(index);
+        propagate();
+    }
+
+    /** @return indice de la bombe enregistrée, -1 si sa case porte déjà une bombe ou est hors carte */
+    private int register(Bomb b) {
+        int x = b.getX(), y = b.getY();
+        if (!grid.isInBounds(x, y)) return -1;
+        int cell = y * width + x;
+        touch(cell);
+        if (bombAt[cell] != 0) return -1;
+        if (bombCount == bombCell.length) {
+            int n = bombCount * 2;
+            bombCell = Arrays.copyOf(bombCell, n);
+            bombRange = Arrays.copyOf(bombRange, n);
+            bombDue = Arrays.copyOf(bombDue, n);
+        }
+        int index = bombCount++;
+        bombCell[index] = cell;
+        bombRange[index] = b.getRange();
+        bombDue[index] = b.getTimer();
+        bombAt[cell] = index + 1;
+        return index;
+    }
+
+    /** Peint les souffles des bombes du tas, par date croissante, en propageant les chaînes. */
+    private void propagate() {
+        while (heapSize > 0) {
+            int key = heapKeys[0];
+            int b = pop();
+            if (key != bombDue[b]) continue; // entrée périmée : la bombe a été avancée depuis
+            int due = key, cell = bombCell[b];
+            int x = cell % width, y = cell / width;
+            paint(cell, due);
+            for (int[] dir : DIRS) {
+                int reach = grid.blastReach(x, y, dir[0], dir[1], bombRange[b]);
+                for (int k = 1; k <= reach; k++) {
+                    paint((y + dir[1] * k) * width + x + dir[0] * k, due);
+                }
+            }
+        }
+    }
+
+    private void paint(int cell, int due) {
+        touch(cell);
+        if (due >= blastIn[cell]) return;
+        blastIn[cell] = due;
+        int other = bombAt[cell] - 1;
+        if (other >= 0 && due < bombDue[other]) {
+            // Réaction en chaîne : la bombe atteinte explose avec ce souffle
+            bombDue[other] = due;
+            push(other);
+        }
+    }
+
+    private void touch(int cell) {
+        if (cellStamp[cell] != stamp) {
+            cellStamp[cell] = stamp;
+            blastIn[cell] = SAFE;
+            bombAt[cell] = 0;
+        }
+    }
+
+    /** @return nombre de ticks avant le premier souffle sur la case, {@link #SAFE} si aucun */
+    int ticksUntilBlast(int cell) {
+        return cellStamp[cell] == stamp ? blastIn[cell] : SAFE;
+    }
+
+    /** @return nombre de ticks avant le premier souffle sur (x,y), {@link #SAFE} si aucun */
+    int ticksUntilBlast(int x, int y) {
+        return ticksUntilBlast(y * width + x);
+    }
+
+    /** @return tick de la partie où le premier souffle atteint (x,y), {@link Long#MAX_VALUE} si aucun */
+    long earliestBlastTick(int x, int y) {
+        int t = ticksUntilBlast(x, y);
+        return t == SAFE ? Long.MAX_VALUE : baseTick + t;
+    }
+
+    /** @return true si la carte a été calculée pour cette grille */
+    boolean covers(Grid grid) {
+        return this.grid == grid && cellStamp.length >= grid.getWidth() * grid.getHeight();
+    }
+
+    private void push(int b) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+        }
+        int i = heapSize++;
+        int key = bombDue[b];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKeys[parent] <= key) break;
+            heap[i] = heap[parent];
+            heapKeys[i] = heapKeys[parent];
+            i = parent;
+        }
+        heap[i] = b;
+        heapKeys[i] = key;
+    }
+
+    private int pop() {
+        int top = heap[0];
+        int b = heap[--heapSize], key = heapKeys[heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) child++;
+            if (heapKeys[child] >= key) break;
+            heap[i] = heap[child];
+            heapKeys[i] = heapKeys[child];
+            i = child;
+        }
+        heap[i] = b;
+        heapKeys[i] = key;
+        return top;
+    }
+}
@@ -0,0 +1,207 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Champs de distance d'un tick, calculés une fois par la partie puis lus par toutes ses IA :
+ * pour chaque case, la distance de marche aux deux joueurs vivants les plus proches (et leurs
+ * emplacements), et la distance au mur destructible le plus proche.
+ * <p>
+ * Le champ des joueurs est un parcours en largeur à sources multiples où chaque case retient
+ * les deux premières sources distinctes qui l'atteignent. Une IA y lit en O(1) l'adversaire le
+ * plus proche de n'importe quelle case, elle-même exclue (si elle est la plus proche, c'est la
+ * seconde source), ce qui sert au choix de la cible comme au choix du pas : la case voisine la
+ * plus proche d'un adversaire. On marche sur les cases libres et les murs destructibles, que
+ * l'IA casse en chemin, comme {@link PathFinder}. Les positions sont celles du début des
+ * décisions du tick. Le champ des murs n'est recalculé que si un mur a changé, et seulement
+ * quand une IA le lit.
+ */
+final class DistanceFields {
+    /** Distance d'une case qu'aucune source n'atteint. */
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+    /**
+     * Taille maximale de carte pour laquelle les champs sont calculés. Ils coûtent quelques visites
+     * par case et par tick, quel que soit le nombre d'IA : c'est moins que les recherches de chemin
+     * de plusieurs IA sur une carte classique, mais plus que les chemins mémorisés par chaque IA
+     * ({@link PathFinder}) sur une arène de battle royale, où les IA s'en passent.
+     */
+    static final int MAX_CELLS = 32 * 32;
+
+    // Nature des cases, lue une fois par calcul : les parcours ne relisent pas la grille
+    private static final byte BLOCKED = 0, FREE = 1, WALL = 2;
+    private static final int SLOT_BITS = 9; // emplacement + 1 <= Game.MAX_PLAYERS
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private Grid grid;
+    private int width, height;
+    // Cases indexées avec une bordure d'une case bloquée : (x,y) est la case (y+1)*stride + x+1, et
+    // les parcours lisent leurs voisins sans test de bornes
+    private int stride;
+    private byte[] kind = new byte[0];
+    private int[] neighbour = new int[4];
+    // Deux sources les plus proches de chaque case, dans un seul long pour un seul accès mémoire :
+    // 32 bits de poids faible pour la première, 32 de poids fort pour la seconde, chacune
+    // (distance << SLOT_BITS) | (emplacement + 1), 0 si aucune
+    private long[] nearest = new long[0];
+    // Champ des murs, recalculé à la première lecture après un changement de mur
+    private int[] wallDist = new int[0];
+    private boolean wallsChanged;
+    // File du parcours : case et source de chaque entrée (au plus deux par case)
+    private int[] queueCell = new int[0];
+    private int[] queueSlot = new int[0];
+
+    /**
+     * Recalcule les champs pour l'état courant.
+     * @param players joueurs de la partie, leur indice dans la liste sert d'emplacement
+     */
+    void rebuild(Grid grid, List<Player> players) {
+        int w = grid.getWidth(), h = grid.getHeight();
+        int padded = (w + 2) * (h + 2);
+        if (grid != this.grid || w != width || h != height) {
+            this.grid = grid;
+            this.width = w;
+            this.height = h;
+            this.stride = w + 2;
+            neighbour[0] = 1;
+            neighbour[1] = -1;
+            neighbour[2] = stride;
+            neighbour[3] = -stride;
+            if (kind.length < padded) {
+                kind = new byte[padded];
+                nearest = new long[padded];
+                wallDist = new int[padded];
+                queueCell = new int[2 * padded];
+                queueSlot = new int[2 * padded];
+            }
+            Arrays.fill(kind, 0, padded, BLOCKED);
+            wallsChanged = true;
+        }
+        Arrays.fill(nearest, 0, padded, 0L);
+        readCells();
+        buildPlayerField(players);
+    }
+
+    /** Relit la nature des cases et note si un mur a changé. */
+    private void readCells() {
+        for (int y = 0; y < height; y++) {
+            int cell = (y + 1) * stride + 1;
+            for (int x = 0; x < width; x++, cell++) {
+                Grid.CellType type = grid.getCell(x, y);
+                byte k = type == Grid.CellType.EMPTY ? FREE : type == Grid.CellType.DESTRUCTIBLE ? WALL : BLOCKED;
+                if (k != kind[cell]) {
+                    kind[cell] = k;
+                    wallsChanged = true;
+                }
+            }
+        }
+    }
+
+    private void buildPlayerField(List<Player> players) {
+        int head = 0, tail = 0;
+        for (int slot = 0; slot < players.size(); slot++) {
+            Player p = players.get(slot);
+            if (!p.isAlive() || !grid.isInBounds(p.getX(), p.getY())) continue;
+            int cell = index(p.getX(), p.getY());
+            if (reach(cell, slot, 0)) {
+                queueCell[tail] = cell;
+                queueSlot[tail++] = slot;
+            }
+        }
+        while (head < tail) {
+            int cell = queueCell[head], slot = queueSlot[head++];
+            long entry = nearest[cell];
+            int first = (int) entry;
+            int dist = ((first & SLOT_MASK) == slot + 1 ? first : (int) (entry >>> 32)) >>> SLOT_BITS;
+            dist++;
+            for (int d = 0; d < 4; d++) {
+                int next = cell + neighbour[d];
+                if (kind[next] != BLOCKED && reach(next, slot, dist)) {
+                    queueCell[tail] = next;
+                    queueSlot[tail++] = slot;
+                }
+            }
+        }
+    }
+
+    /**
+     * Enregistre l'arrivée de la source {@code slot} sur la case, si c'est la première ou la
+     * seconde source distincte à l'atteindre (le parcours en largeur les amène par distance croissante).
+     */
+    private boolean reach(int cell, int slot, int dist) {
+        long entry = nearest[cell];
+        long label = ((long) dist << SLOT_BITS) | (slot + 1);
+        if (entry == 0) {
+            nearest[cell] = label;
+            return true;
+        }
+        if (((int) entry & SLOT_MASK) == slot + 1 || (entry >>> 32) != 0) return false;
+        nearest[cell] = entry | label << 32;
+        return true;
+    }
+
+    /** Parcours à sources multiples depuis tous les murs destructibles, par les cases libres. */
+    private void buildWallField() {
+        int padded = stride * (height + 2);
+        int head = 0, tail = 0;
+        for (int cell = 0; cell < padded; cell++) {
+            if (kind[cell] == WALL) {
+                wallDist[cell] = 0;
+                queueCell[tail++] = cell;
+            } else {
+                wallDist[cell] = UNREACHABLE;
+            }
+        }
+        while (head < tail) {
+            int cell = queueCell[head++];
+            int dist = wallDist[cell] + 1;
+            for (int d = 0; d < 4; d++) {
+                int next = cell + neighbour[d];
+                if (kind[next] != FREE || wallDist[next] != UNREACHABLE) continue;
+                wallDist[next] = dist;
+                queueCell[tail++] = next;
+            }
+        }
+    }
+
+    private int index(int x, int y) {
+        return (y + 1) * stride + x + 1;
+    }
+
+    /** @return distance de (x,y) au joueur vivant le plus proche autre que {@code slot}, {@link #UNREACHABLE} si aucun */
+    int nearestOtherDistance(int x, int y, int slot) {
+        int label = nearestOther(x, y, slot);
+        return label == 0 ? UNREACHABLE : label >>> SLOT_BITS;
+    }
+
+    /** @return emplacement du joueur vivant le plus proche de (x,y) autre que {@code slot}, -1 si aucun */
+    int nearestOtherSlot(int x, int y, int slot) {
+        return (nearestOther(x, y, slot) & SLOT_MASK) - 1;
+    }
+
+    /** @return étiquette de la plus proche des deux sources de la case autre que {@code slot}, 0 si aucune */
+    private int nearestOther(int x, int y, int slot) {
+        long entry = nearest[index(x, y)];
+        int first = (int) entry;
+        return first != 0 && (first & SLOT_MASK) != slot + 1 ? first : (int) (entry >>> 32);
+    }
+
+    /** @return distance de (x,y) au mur destructible le plus proche (0 sur un mur), {@link #UNREACHABLE} si aucun */
+    int wallDistance(int x, int y) {
+        if (wallsChanged) {
+            buildWallField();
+            wallsChanged = false;
+        }
+        return wallDist[index(x, y)];
+    }
+
+    /** @return true si les champs valent d'être calculés pour cette grille ({@link #MAX_CELLS}) */
+    static boolean worthBuilding(Grid grid) {
+        return grid.getWidth() * grid.getHeight() <= MAX_CELLS;
+    }
+
+    /** @return true si les champs ont été calculés pour cette grille */
+    boolean covers(Grid grid) {
+        return this.grid == grid && width == grid.getWidth() && height == grid.getHeight();
+    }
+}
@@ -0,0 +1,88 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stockage en colonnes (structure de tableaux) des champs des joueurs lus à chaque tick par
+ * la partie et les IA : positions et vivants.
+ * <p>
+ * Les objets {@link Player} restent l'interface du jeu (contrôleurs, vues, tests) ; chaque
+ * joueur recopie ses déplacements et sa mort dans les colonnes. Les boucles chaudes (ramassage
+ * des bonus, fin de partie, choix de cible des IA) parcourent alors des {@code int[]} contigus
+ * et un masque de bits au lieu de suivre des références dispersées dans le tas.
+ * <p>
+ * Les joueurs sont rangés par emplacement ({@link Player#getSlot()}), vivants dans un masque
+ * de bits. Les bombes et les bonus n'ont pas de colonnes : la partie les retrouve par case
+ * dans son {@link Occupancy}.
+ */
+public class EntityStore {
+    private int playerCount = 0;
+    private int[] playerX = new int[0];
+    private int[] playerY = new int[0];
+    private long[] alive = new long[0];
+
+    /**
+     * Remplit les colonnes à partir de l'état courant des joueurs (à l'activation du stockage
+     * ou après une copie de partie) et rattache les joueurs au stockage.
+     */
+    void rebuild(List<Player> players) {
+        playerCount = players.size();
+        if (playerX.length < playerCount) {
+            playerX = new int[playerCount];
+            playerY = new int[playerCount];
+            alive = new long[(playerCount + 63) >>> 6];
+        }
+        Arrays.fill(alive, 0L);
+        for (int i = 0; i < playerCount; i++) {
+            Player p = players.get(i);
+            p.attachStore(this);
+            playerX[i] = p.getX();
+            playerY[i] = p.getY();
+            if (p.isAlive()) alive[i >>> 6] |= 1L << i;
+        }
+    }
+
+    /** @return nombre de joueurs (emplacements 0 à n-1) */
+    public int getPlayerCount() { return playerCount; }
+
+    /** @return position X du joueur d'emplacement {@code slot} */
+    public int getPlayerX(int slot) { return playerX[slot]; }
+
+    /** @return position Y du joueur d'emplacement {@code slot} */
+    public int getPlayerY(int slot) { return playerY[slot]; }
+
+    /** @return true si le joueur d'emplacement {@code slot} est vivant */
+    public boolean isAlive(int slot) { return (alive[slot >>> 6] & (1L << slot)) != 0; }
+
+    /** @return mot {@code word} du masque des joueurs vivants (emplacements 64*word à 64*word+63) */
+    public long getAliveWord(int word) { return alive[word]; }
+
+    /** @return nombre de mots du masque des joueurs vivants */
+    public int getAliveWords() { return (playerCount + 63) >>> 6; }
+
+    /** @return nombre de joueurs vivants */
+    public int aliveCount() {
+        int n = 0;
+        for (int w = 0; w < getAliveWords(); w++) n += Long.bitCount(alive[w]);
+        return n;
+    }
+
+    /** @return emplacement du dernier joueur vivant, -1 s'il n'y en a aucun */
+    public int lastAliveSlot() {
+        for (int w = getAliveWords() - 1; w >= 0; w--) {
+            if (alive[w] != 0) return (w << 6) + 63 - Long.numberOfLeadingZeros(alive[w]);
+        }
+        return -1;
+    }
+
+    void movePlayer(int slot, int x, int y) {
+        playerX[slot] = x;
+        playerY[slot] = y;
+    }
+
+    void setAlive(int slot, boolean value) {
+        if (value) alive[slot >>> 6] |= 1L << slot;
+        else alive[slot >>> 6] &= ~(1L << slot);
+    }
+}
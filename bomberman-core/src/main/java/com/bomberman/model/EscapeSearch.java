@@ -0,0 +1,150 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Recherche de fuite en espace-temps : nombre minimal de pas pour qu'une IA partant d'une case
+ * atteigne une case qu'aucun souffle n'atteindra, sans se trouver sur une case au moment où elle
+ * explose, en tenant compte d'une bombe qu'elle envisage de poser (ou vient de poser).
+ * <p>
+ * En {@code h} pas, l'IA reste dans un carré de côté {@code 2h + 1} autour de sa case de départ :
+ * chaque ligne de ce carré tient dans un {@code long}, un bit par case. Un état (case, tick) est
+ * un bit de la couche de son tick ; la couche suivante s'obtient pour toute la fenêtre d'un coup
+ * (décalages d'un bit et lignes voisines, masqués par les cases libres et sûres à ce tick), si bien
+ * qu'une recherche coûte quelques opérations par ligne et par tick au lieu d'une file d'états.
+ * Les tableaux sont réutilisés d'une recherche à l'autre : rien n'est alloué en régime établi.
+ */
+final class EscapeSearch {
+    /** Horizon maximal : une ligne de la fenêtre (2h + 1 cases) tient dans un long. */
+    static final int MAX_HORIZON = 31;
+
+    private static final int[][] DIRS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    private final long[] passable = new long[2 * MAX_HORIZON + 1];
+    private final long[] goal = new long[passable.length];
+    private final long[] bombBlast = new long[passable.length];
+    private long[] frontier = new long[passable.length];
+    private long[] next = new long[passable.length];
+    // Cases interdites par couche : la couche k est celle du tick startTick + k
+    private final long[] unsafe = new long[(MAX_HORIZON + 1) * passable.length];
+
+    // Recherche en cours
+    private Grid grid;
+    private DangerMap danger;
+    private int ox, oy, side, startTick, radius;
+    private int bombX, bombY, bombDue;
+
+    /**
+     * @param grid grille de la partie
+     * @param danger carte des dangers du tick (bombes connues, chaînes comprises)
+     * @param sx colonne de départ
+     * @param sy ligne de départ
+     * @param startTick nombre de ticks, depuis le calcul de la carte, avant d'être sur la case de départ
+     * @param horizon nombre maximal de pas (borné à {@link #MAX_HORIZON})
+     * @param bombX colonne de la bombe envisagée, -1 sans bombe
+     * @param bombY ligne de la bombe envisagée
+     * @param bombRange portée de la bombe envisagée
+     * @param bombDue ticks avant son explosion, comptés depuis le calcul de la carte
+     * @return nombre minimal de pas pour être à l'abri, -1 si c'est impossible dans l'horizon
+     */
+    int ticksToSafety(Grid grid, DangerMap danger, int sx, int sy, int startTick, int horizon,
+                      int bombX, int bombY, int bombRange, int bombDue) {
+        int radius = Math.max(0, Math.min(horizon, MAX_HORIZON));
+        int side = 2 * radius + 1;
+        int ox = sx - radius, oy = sy - radius;
+        long rowMask = (1L << side) - 1;
+
+        // Souffle de la bombe envisagée ; elle explose plus tôt si un souffle connu atteint sa case
+        Arrays.fill(bombBlast, 0, side, 0L);
+        if (bombX >= 0 && grid.isInBounds(bombX, bombY)) {
+            bombDue = Math.min(bombDue, danger.ticksUntilBlast(bombX, bombY));
+            markBlast(bombX - ox, bombY - oy, side);
+            for (int[] dir : DIRS) {
+                int reach = grid.blastReach(bombX, bombY, dir[0], dir[1], bombRange);
+                for (int k = 1; k <= reach; k++) markBlast(bombX + dir[0] * k - ox, bombY + dir[1] * k - oy, side);
+            }
+        }
+
+        this.grid = grid;
+        this.danger = danger;
+        this.ox = ox;
+        this.oy = oy;
+        this.side = side;
+        this.startTick = startTick;
+        this.radius = radius;
+        this.bombX = bombX;
+        this.bombY = bombY;
+        this.bombDue = bombDue;
+
+        // Les cases sont lues anneau par anneau autour du départ, au fil des pas : une fuite
+        // trouvée en peu de pas ne lit que le voisinage immédiat
+        Arrays.fill(frontier, 0, side, 0L);
+        Arrays.fill(next, 0, side, 0L);
+        frontier[radius] = 1L << radius;
+        buildRing(0);
+        for (int step = 0; ; step++) {
+            for (int r = radius - step; r <= radius + step; r++) {
+                if ((frontier[r] & goal[r]) != 0) return step;
+            }
+            if (step == radius) return -1;
+            buildRing(step + 1);
+            long any = 0;
+            int layer = (step + 1) * side;
+            for (int r = radius - step - 1; r <= radius + step + 1; r++) {
+                long f = frontier[r];
+                long reach = f | (f << 1) | (f >>> 1); // rester, aller à droite, aller à gauche
+                if (r > 0) reach |= frontier[r - 1];
+                if (r < side - 1) reach |= frontier[r + 1];
+                reach &= passable[r] & ~unsafe[layer + r] & rowMask;
+                next[r] = reach;
+                any |= reach;
+            }
+            if (any == 0) return -1;
+            long[] swap = frontier;
+            frontier = next;
+            next = swap;
+        }
+    }
+
+    /** Lit les cases à distance {@code k} (en lignes ou en colonnes) du départ. */
+    private void buildRing(int k) {
+        int lo = radius - k, hi = radius + k;
+        clearRow(lo);
+        if (k > 0) clearRow(hi);
+        for (int j = lo; j <= hi; j++) {
+            buildCell(lo, j);
+            if (k > 0) buildCell(hi, j);
+        }
+        for (int r = lo + 1; r < hi; r++) {
+            buildCell(r, lo);
+            buildCell(r, hi);
+        }
+    }
+
+    /** Efface une ligne lue pour la première fois (les lignes jamais atteintes ne sont pas effacées). */
+    private void clearRow(int r) {
+        passable[r] = 0;
+        goal[r] = 0;
+        for (int layer = r; layer < (radius + 1) * side; layer += side) unsafe[layer] = 0;
+    }
+
+    private void buildCell(int r, int j) {
+        int x = ox + j, y = oy + r;
+        if (!grid.isInBounds(x, y)) return;
+        long bit = 1L << j;
+        if (grid.getCell(x, y) == Grid.CellType.EMPTY && !(x == bombX && y == bombY)) passable[r] |= bit;
+        int due = danger.ticksUntilBlast(x, y);
+        if ((bombBlast[r] & bit) != 0) due = Math.min(due, bombDue);
+        if (due == DangerMap.SAFE) {
+            goal[r] |= bit;
+            return;
+        }
+        // Interdite juste avant, pendant et juste après son explosion (marge d'un tick)
+        int from = Math.max(due - 1, startTick), to = Math.min(due + 1, startTick + radius);
+        for (int t = from; t <= to; t++) unsafe[(t - startTick) * side + r] |= bit;
+    }
+
+    private void markBlast(int col, int row, int side) {
+        if (col >= 0 && col < side && row >= 0 && row < side) bombBlast[row] |= 1L << col;
+    }
+}
@@ -4,7 +4,7 @@ package com.bomberman.model;
  * Bonus FLAME : augmente temporairement la portée des bombes.
  */
 public class FlameBonus extends Bonus {
-    private final int extraRange;
+    private int extraRange;
     private static final double DURATION_SECONDS = 10.0; // dure 10 secondes
 
     /**
@@ -18,6 +18,24 @@ public class FlameBonus extends Bonus {
         this.extraRange = extraRange;
     }
 
+    /** @return portée supplémentaire accordée */
+    public int getExtraRange() {
+        return extraRange;
+    }
+
+    @Override
+    public Bonus copy() {
+        FlameBonus copy = new FlameBonus(x, y, extraRange);
+        copy.setCollected(collected);
+        return copy;
+    }
+
+    @Override
+    public void copyFrom(Bonus source) {
+        super.copyFrom(source);
+        this.extraRange = ((FlameBonus) source).extraRange;
+    }
+
     /**
      * Applique le bonus au joueur (portée accrue temporaire).
      * @param player joueur cible
@@ -0,0 +1,912 @@
+package com.bomberman.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe principale du jeu Bomberman.
+ * Gère la grille, les joueurs (humains et IA), les bombes, les explosions et les bonus.
+ * <p>
+ * Les tables par case de la partie (explosions, occupation, dangers, recherches des IA) sont
+ * denses : une partie refuse les grilles en mode grande arène ({@link Grid#isLargeArena()}),
+ * réservé aux cartes et aux niveaux. L'arène du battle royale à {@link #MAX_PLAYERS} joueurs
+ * reste bien en deçà.
+ */
+public class Game {
+    private Grid grid;
+    private List<Player> players;
+    private boolean gameOver;
+    private Player winner;
+    private List<Bomb> bombs = new ArrayList<>();
+    private List<Bonus> bonuses = new ArrayList<>();
+    // Objets mis de côté (bombes explosées, surplus de copyInto) pour être réutilisés
+    private final List<Bomb> bombPool = new ArrayList<>();
+    private final List<Bonus> bonusPool = new ArrayList<>();
+    private final AIDifficulty aiDifficulty;
+    private final long seed;
+    private final GameRandom random;
+    private long tickCount = 0;
+    private final Occupancy occupancy;
+    private int indexedBombCount = 0;   // bombes de la liste déjà présentes dans l'index
+    private int indexedBonusCount = 0;  // bonus de la liste déjà présents dans l'index
+    private ReplayRecorder replayRecorder;
+    /** Colonnes des joueurs, parcourues par les boucles chaudes quand elles sont activées (null sinon). */
+    private EntityStore store;
+    /** Tableaux de recherche de chemin partagés par les IA de la partie. */
+    private final SearchBuffers searchBuffers = new SearchBuffers();
+    /** Carte des dangers lue par les IA, calculée au début de leurs décisions à chaque tick. */
+    private final DangerMap dangerMap = new DangerMap();
+    private boolean dangerMapCurrent;
+    /** Champs de distance aux joueurs et aux murs, calculés avec la carte des dangers si une IA difficile les lit (petites cartes). */
+    private final DistanceFields distanceFields = new DistanceFields();
+    private boolean distanceFieldsUsed;
+
+    /** Nombre maximal de joueurs d'une partie (mode battle royale). */
+    public static final int MAX_PLAYERS = 256;
+
+    // --- Commandes des joueurs ---
+    /** Nombre maximal de commandes en attente entre deux ticks. */
+    public static final int COMMAND_CAPACITY = 256;
+    /** Commandes déposées par n'importe quel thread, appliquées au début de chaque tick (non copiées). */
+    private final CommandQueue commands = new CommandQueue(COMMAND_CAPACITY);
+    private final CommandQueue.Handler commandHandler = this::applyCommand;
+    private long drainNanos;
+    private long commandsApplied;
+    private long totalCommandWaitNanos;
+    private long maxCommandWaitNanos;
+    private final LatencyHistogram commandWait = new LatencyHistogram();
+    /** Instants de dépôt des dernières commandes appliquées, indexés par rang d'application modulo la capacité. */
+    private final long[] appliedCommandNanos = new long[COMMAND_CAPACITY];
+
+    /** Événements de la partie, lus par l'affichage et les autres consommateurs (non copiés). */
+    private final GameEvents events = new GameEvents();
+
+    // --- TYPES EXPLOSION POUR AFFICHAGE ---
+    public enum ExplosionPartType { CENTRE, BRANCH, END }
+    public enum Direction { UP, DOWN, LEFT, RIGHT }
+    public static class ExplosionCell {
+        public final ExplosionPartType type;
+        public final Direction direction; // null pour centre
+        public ExplosionCell(ExplosionPartType type, Direction direction) {
+            this.type = type;
+            this.direction = direction;
+        }
+    }
+    // ---------------------------------------
+
+    /**
+     * Parties d'explosion partagées, indexées par le code stocké dans {@link #explosionLayer} :
+     * 0 = aucune, 1 = centre, 2 + direction = branche, 6 + direction = extrémité.
+     */
+    private static final ExplosionCell[] EXPLOSION_PARTS = new ExplosionCell[10];
+    private static final ExplosionCell FALLBACK_PART = new ExplosionCell(ExplosionPartType.BRANCH, Direction.RIGHT);
+    private static final byte PART_NONE = 0;
+    private static final byte PART_CENTRE = 1;
+    private static final byte PART_BRANCH = 2;
+    private static final byte PART_END = 6;
+    static {
+        EXPLOSION_PARTS[PART_CENTRE] = new ExplosionCell(ExplosionPartType.CENTRE, null);
+        for (Direction d : Direction.values()) {
+            EXPLOSION_PARTS[PART_BRANCH + d.ordinal()] = new ExplosionCell(ExplosionPartType.BRANCH, d);
+            EXPLOSION_PARTS[PART_END + d.ordinal()] = new ExplosionCell(ExplosionPartType.END, d);
+        }
+    }
+
+    /** Partie d'explosion affichée sur chaque case (indexée par y * largeur + x), remplie par {@link #explode}. */
+    private final byte[] explosionLayer;
+
+    // --- Résolution des réactions en chaîne ---
+    /** Bombes à faire exploser pendant le tick courant, dans l'ordre de déclenchement. */
+    private final ArrayDeque<Bomb> detonationQueue = new ArrayDeque<>();
+    /** Génération de résolution où chaque case a été soufflée / où son mur a été détruit. */
+    private final int[] blastStamp;
+    private final int[] wallStamp;
+    private int blastGeneration = 0;
+
+    // --- Échéancier ---
+    /** Types d'événements programmés dans {@link #timers}. */
+    static final int EVENT_DETONATION = 0;
+    static final int EVENT_EXPLOSION_END = 1;
+    static final int EVENT_BONUS_EXPIRY = 2;
+    /** Nombre de ticks pendant lesquels une case reste en explosion. */
+    private static final int EXPLOSION_TICKS = 1;
+    /** Détonations, fins d'explosion et expirations de bonus, avancé d'un cran par {@link #updateBombs()}. */
+    private final TimingWheel timers = new TimingWheel();
+    private final TimingWheel.Handler timerHandler = this::onTimer;
+    /** Tick de l'échéancier où prend fin l'explosion de chaque case (0 si aucune). */
+    private final long[] explosionEnd;
+
+    public Game(int width, int height, int playerCount, int iaCount, Level level, AIDifficulty aiDifficulty) {
+        this(width, height, playerCount, iaCount, level, aiDifficulty, GameRandom.randomSeed());
+    }
+
+    /**
+     * Crée une partie reproductible : la carte procédurale, les bonus et les décisions des IA
+     * ne dépendent que de la graine et des actions des joueurs humains.
+     * @param seed graine du générateur aléatoire de la partie
+     * @throws IllegalArgumentException si la grille dépasse {@link Grid#LARGE_ARENA_CELLS} cases
+     *         ou s'il y a plus de {@link #MAX_PLAYERS} joueurs
+     */
+    public Game(int width, int height, int playerCount, int iaCount, Level level, AIDifficulty aiDifficulty, long seed) {
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+        this.grid = new Grid(width, height, level, random);
+        if (grid.isLargeArena()) {
+            throw new IllegalArgumentException("Grille trop grande pour une partie : "
+                    + grid.getWidth() + "x" + grid.getHeight() + " (au plus " + Grid.LARGE_ARENA_CELLS + " cases)");
+        }
+        this.explosionLayer = new byte[grid.getWidth() * grid.getHeight()];
+        this.explosionEnd = new long[explosionLayer.length];
+        this.blastStamp = new int[explosionLayer.length];
+        this.wallStamp = new int[explosionLayer.length];
+        this.players = new ArrayList<>();
+        this.gameOver = false;
+        this.winner = null;
+        this.aiDifficulty = aiDifficulty;
+        if (playerCount + iaCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Au plus " + MAX_PLAYERS + " joueurs : " + (playerCount + iaCount));
+        }
+        this.occupancy = grid.initOccupancy(playerCount + iaCount);
+        initializePlayers(playerCount, iaCount);
+    }
+
+    /**
+     * Copie profonde d'une partie : crée une partie de même structure (grille, joueurs)
+     * puis y recopie l'état de la source avec {@link #copyInto(Game)}.
+     */
+    private Game(Game source) {
+        this.seed = source.seed;
+        this.random = new GameRandom(source.random.getState());
+        this.aiDifficulty = source.aiDifficulty;
+        this.grid = new Grid(source.grid);
+        this.explosionLayer = new byte[source.explosionLayer.length];
+        this.explosionEnd = new long[explosionLayer.length];
+        this.blastStamp = new int[explosionLayer.length];
+        this.wallStamp = new int[explosionLayer.length];
+        this.occupancy = grid.initOccupancy(source.players.size());
+        this.players = new ArrayList<>(source.players.size());
+        for (Player p : source.players) {
+            Player copy = (p instanceof PlayerAI ai)
+                    ? new PlayerAI(ai.getId(), ai.getX(), ai.getY(), ai.getDifficulty(), random)
+                    : new Player(p.getId(), p.getX(), p.getY(), p.isHuman());
+            copy.setSlot(players.size());
+            copy.attachToGame(timers, bombPool);
+            if (copy instanceof PlayerAI ai) {
+                shareWithAI(ai);
+            }
+            players.add(copy);
+            occupancy.addPlayer(copy.getSlot(), copy.getX(), copy.getY());
+        }
+        source.copyInto(this);
+    }
+
+    /**
+     * @return une copie profonde et indépendante de la partie (sans enregistreur de replay)
+     */
+    public Game copy() {
+        return new Game(this);
+    }
+
+    /**
+     * Recopie l'état complet de cette partie dans {@code target} : grille, couche d'explosion,
+     * joueurs et IA, bombes, bonus, explosions, compteur de ticks et état du générateur.
+     * Les objets de la cible sont réutilisés (valeurs recopiées dans ses joueurs, bombes et bonus
+     * existants, objets en surplus mis de côté pour les copies suivantes) : une fois la cible
+     * dimensionnée, une copie n'alloue rien. Utile pour simuler des futurs (IA à anticipation,
+     * retour arrière) à partir d'une partie de travail réutilisée.
+     * @param target partie de destination, créée par {@link #copy()} ou de même structure
+     * @throws IllegalArgumentException si la grille ou les joueurs de la cible diffèrent
+     */
+    public void copyInto(Game target) {
+        if (target == this) return;
+        checkSameStructure(target);
+        target.tickCount = tickCount;
+        target.gameOver = gameOver;
+        target.random.setState(random.getState());
+        grid.copyInto(target.grid);
+        System.arraycopy(explosionLayer, 0, target.explosionLayer, 0, explosionLayer.length);
+        System.arraycopy(explosionEnd, 0, target.explosionEnd, 0, explosionEnd.length);
+        target.detonationQueue.clear();
+        long now = timers.getCurrentTick();
+        target.timers.clear(now);
+
+        Occupancy targetIndex = target.occupancy;
+        for (int i = 0; i < players.size(); i++) {
+            Player dst = target.players.get(i);
+            targetIndex.removePlayer(dst.getSlot(), dst.getX(), dst.getY());
+            dst.copyStateFrom(players.get(i));
+            dst.setSlot(i);
+            targetIndex.addPlayer(i, dst.getX(), dst.getY());
+        }
+        target.winner = winner != null ? target.players.get(winner.getSlot()) : null;
+
+        // Bombes : mêmes objets réutilisés, surplus vers la réserve de la cible
+        List<Bomb> targetBombs = target.bombs;
+        for (int i = 0; i < targetBombs.size(); i++) targetIndex.removeBomb(targetBombs.get(i));
+        while (targetBombs.size() > bombs.size()) {
+            target.bombPool.add(targetBombs.remove(targetBombs.size() - 1));
+        }
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb src = bombs.get(i);
+            Bomb dst;
+            if (i < targetBombs.size()) {
+                dst = targetBombs.get(i);
+            } else {
+                dst = target.bombPool.isEmpty() ? new Bomb(0, 0, 0, 0) : target.bombPool.remove(target.bombPool.size() - 1);
+                targetBombs.add(dst);
+            }
+            Player owner = src.getOwner();
+            dst.set(src.getX(), src.getY(), src.getTimer(), src.getRange(),
+                    owner != null && owner.getSlot() >= 0 ? target.players.get(owner.getSlot()) : null);
+            targetIndex.putBomb(dst);
+            // Une bombe pas encore indexée sera programmée par la source au même tick
+            target.scheduleBomb(dst, src.isScheduled() ? src.getDueTick() : now + Math.max(1, src.getTimer()));
+            // Une bombe pas encore indexée n'est pas encore comptée chez son poseur dans la source
+            if (i >= indexedBombCount && dst.getOwner() != null) dst.getOwner().onBombPlaced();
+        }
+        target.indexedBombCount = targetBombs.size();
+
+        // Bonus : réutilisés quand la classe correspond
+        List<Bonus> targetBonuses = target.bonuses;
+        for (int i = 0; i < targetBonuses.size(); i++) targetIndex.removeBonus(targetBonuses.get(i));
+        while (targetBonuses.size() > bonuses.size()) {
+            target.bonusPool.add(targetBonuses.remove(targetBonuses.size() - 1));
+        }
+        for (int i = 0; i < bonuses.size(); i++) {
+            Bonus src = bonuses.get(i);
+            Bonus dst = i < targetBonuses.size() ? targetBonuses.get(i) : null;
+            if (dst == null || dst.getClass() != src.getClass()) {
+                if (dst != null) target.bonusPool.add(dst);
+                Bonus reused = target.takePooledBonus(src.getClass());
+                dst = reused != null ? reused : src.copy();
+                if (i < targetBonuses.size()) targetBonuses.set(i, dst);
+                else targetBonuses.add(dst);
+            }
+            dst.copyFrom(src);
+            targetIndex.putBonus(dst);
+        }
+        target.indexedBonusCount = targetBonuses.size();
+
+        // Échéances des explosions en cours et des bonus actifs
+        for (int cell = 0; cell < explosionEnd.length; cell++) {
+            if (explosionEnd[cell] > now) target.timers.schedule(explosionEnd[cell], EVENT_EXPLOSION_END, cell, null);
+        }
+        for (int i = 0; i < players.size(); i++) {
+            Player dst = target.players.get(i);
+            List<ActiveBonus> active = dst.getActiveBonuses();
+            for (int j = 0; j < active.size(); j++) {
+                ActiveBonus ab = active.get(j);
+                if (ab.getExpiryTick() > now) dst.scheduleExpiry(ab, ab.getExpiryTick());
+            }
+        }
+        if (store != null || target.store != null) target.enableEntityStore();
+    }
+
+    private void checkSameStructure(Game target) {
+        if (target.players.size() != players.size()) {
+            throw new IllegalArgumentException("Nombre de joueurs différent : " + players.size() + " / " + target.players.size());
+        }
+        for (int i = 0; i < players.size(); i++) {
+            Player src = players.get(i), dst = target.players.get(i);
+            if (src.getClass() != dst.getClass() || src.isHuman() != dst.isHuman()
+                    || (src instanceof PlayerAI ai && ai.getDifficulty() != ((PlayerAI) dst).getDifficulty())) {
+                throw new IllegalArgumentException("Joueur " + i + " de nature différente dans la partie cible");
+            }
+        }
+        // Les dimensions de grille sont vérifiées par Grid.copyInto
+        if (target.explosionLayer.length != explosionLayer.length) {
+            throw new IllegalArgumentException("Dimensions de grille différentes");
+        }
+    }
+
+    private Bonus takePooledBonus(Class<? extends Bonus> type) {
+        for (int i = bonusPool.size() - 1; i >= 0; i--) {
+            if (bonusPool.get(i).getClass() == type) {
+                Bonus b = bonusPool.get(i);
+                bonusPool.set(i, bonusPool.get(bonusPool.size() - 1));
+                bonusPool.remove(bonusPool.size() - 1);
+                return b;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Place les joueurs : dans les coins jusqu'à 4 joueurs, au-delà (battle royale) aux positions
+     * espacées de {@link SpawnPlanner}, dégagées de leurs murs destructibles voisins.
+     */
+    private void initializePlayers(int humanCount, int iaCount) {
+        boolean battleRoyale = humanCount + iaCount > 4;
+        int[][] startPositions = battleRoyale
+                ? SpawnPlanner.plan(grid, humanCount + iaCount)
+                : new int[][] {
+                        {1, 1},
+                        {grid.getWidth() - 2, grid.getHeight() - 2},
+                        {1, grid.getHeight() - 2},
+                        {grid.getWidth() - 2, 1}
+                };
+        if (battleRoyale) {
+            for (int[] pos : startPositions) clearSpawnArea(pos[0], pos[1]);
+        }
+        int index = 0;
+
+        // Humains
+        for (int i = 0; i < humanCount && index < startPositions.length; i++, index++) {
+            int x = startPositions[index][0];
+            int y = startPositions[index][1];
+            clearSpawnZoneOnly(x, y);
+            Player player = new Player(index + 1, x, y, true);
+            addPlayer(player);
+        }
+
+        // IA
+        for (int i = 0; i < iaCount && index < startPositions.length; i++, index++) {
+            int x = startPositions[index][0];
+            int y = startPositions[index][1];
+            clearSpawnZoneOnly(x, y);
+            PlayerAI ia = new PlayerAI(index + 1, x, y, aiDifficulty, random);
+            addPlayer(ia);
+        }
+    }
+
+    private void addPlayer(Player player) {
+        player.setSlot(players.size());
+        player.attachToGame(timers, bombPool);
+        if (player instanceof PlayerAI ai) {
+            shareWithAI(ai);
+        }
+        players.add(player);
+        occupancy.addPlayer(player.getSlot(), player.getX(), player.getY());
+    }
+
+    /** Donne à l'IA les tableaux et cartes calculés une fois par tick pour toutes les IA. */
+    private void shareWithAI(PlayerAI ai) {
+        ai.shareSearchBuffers(searchBuffers);
+        ai.shareDangerMap(dangerMap);
+        ai.shareDistanceFields(distanceFields);
+        if (ai.getDifficulty() == AIDifficulty.HARD) distanceFieldsUsed = true;
+    }
+
+    private void clearSpawnZoneOnly(int x, int y) {
+        if (grid.isInBounds(x, y)) {
+            grid.setCell(x, y, Grid.CellType.EMPTY);
+        }
+    }
+
+    /** Vide la case de départ et les murs destructibles qui la touchent, pour que la première bombe soit évitable. */
+    private void clearSpawnArea(int x, int y) {
+        clearSpawnZoneOnly(x, y);
+        for (int[] dir : BLAST_DIRS) {
+            int nx = x + dir[0], ny = y + dir[1];
+            if (grid.isInBounds(nx, ny) && grid.getCell(nx, ny) == Grid.CellType.DESTRUCTIBLE) {
+                grid.setCell(nx, ny, Grid.CellType.EMPTY);
+            }
+        }
+    }
+
+    public Grid getGrid() { return grid; }
+    public List<Player> getPlayers() { return players; }
+    public boolean isGameOver() { return gameOver; }
+    public Player getWinner() { return winner; }
+    public List<Bomb> getBombs() { return bombs; }
+    public List<Bonus> getBonuses() { return bonuses; }
+    /** @return difficulté des IA de la partie */
+    public AIDifficulty getAIDifficulty() { return aiDifficulty; }
+    /** @return graine du générateur aléatoire de la partie */
+    public long getSeed() { return seed; }
+    /** @return générateur aléatoire partagé de la partie */
+    public GameRandom getRandom() { return random; }
+    /** @return enregistreur de replay attaché, ou null */
+    public ReplayRecorder getReplayRecorder() { return replayRecorder; }
+    /**
+     * Attache un enregistreur de replay : chaque action des joueurs et des IA y est consignée.
+     * @param replayRecorder enregistreur, ou null pour arrêter l'enregistrement
+     */
+    public void setReplayRecorder(ReplayRecorder replayRecorder) { this.replayRecorder = replayRecorder; }
+    /** @return index d'occupation des cases (bombes, bonus, joueurs) */
+    public Occupancy getOccupancy() { return occupancy; }
+    /**
+     * Active le stockage en colonnes des joueurs ({@link EntityStore}) : ramassage des bonus,
+     * fin de partie et choix de cible des IA parcourent alors des tableaux contigus.
+     * Activé par le mode battle royale ; le déroulement de la partie est identique avec ou sans.
+     */
+    public void enableEntityStore() {
+        if (store == null) store = new EntityStore();
+        store.rebuild(players);
+    }
+
+    /** @return colonnes des joueurs, ou null si elles ne sont pas activées */
+    public EntityStore getEntityStore() { return store; }
+
+    /** @return nombre de ticks logiques exécutés via {@link #tick()} */
+    public long getTickCount() { return tickCount; }
+
+    /**
+     * Exécute un tick logique complet : commandes en attente des joueurs, décisions des IA
+     * puis bombes, explosions et bonus. Appelé par {@link GameEngine} à pas fixe.
+     */
+    public void tick() {
+        drainCommands();
+        updateAIs();
+        updateBombs();
+        tickCount++;
+    }
+
+    public void updateAIs() {
+        indexAppendedEntities();
+        // Une seule carte des dangers pour toutes les IA du tick, complétée à chaque bombe posée
+        dangerMap.rebuild(grid, bombs, timers.getCurrentTick());
+        dangerMapCurrent = true;
+        // Idem pour les distances : positions du début des décisions, murs inchangés jusqu'aux explosions
+        if (distanceFieldsUsed && DistanceFields.worthBuilding(grid)) distanceFields.rebuild(grid, players);
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) instanceof PlayerAI ai) {
+                int prevX = ai.getX(), prevY = ai.getY(), prevBombs = bombs.size();
+                ai.updateAI(grid, bombs, players);
+                if (replayRecorder != null && bombs.size() > prevBombs) replayRecorder.recordBomb(tickCount, ai.getSlot(), true);
+                if (ai.getX() != prevX || ai.getY() != prevY) {
+                    if (replayRecorder != null) {
+                        replayRecorder.recordMove(tickCount, ai.getSlot(), ai.getX() - prevX, ai.getY() - prevY, true);
+                    }
+                    emitMove(ai, prevX, prevY);
+                }
+                // Les IA suivantes voient la bombe dans l'index et la carte des dangers : la liste
+                // n'a jamais plus d'une bombe non indexée, quel que soit le nombre d'IA qui posent
+                indexAppendedEntities();
+            }
+        }
+        dangerMapCurrent = false;
+    }
+
+    /**
+     * Indexe les bombes et bonus ajoutés directement aux listes depuis le dernier appel
+     * (bombes posées par les IA, bonus ajoutés de l'extérieur).
+     * Une bombe posée sur une case qui en contient déjà une est retirée.
+     */
+    private void indexAppendedEntities() {
+        for (int i = indexedBombCount; i < bombs.size(); ) {
+            Bomb b = bombs.get(i);
+            if (occupancy.putBomb(b)) {
+                if (!b.isScheduled()) scheduleBomb(b, timers.getCurrentTick() + Math.max(1, b.getTimer()));
+                if (b.getOwner() != null) b.getOwner().onBombPlaced();
+                if (dangerMapCurrent) dangerMap.addBomb(b);
+                emit(GameEvents.Type.BOMB_PLACED, b.getOwner() != null ? b.getOwner().getSlot() : -1, b.getX(), b.getY(), b.getRange());
+                i++;
+            } else {
+                bombPool.add(bombs.remove(i));
+            }
+        }
+        indexedBombCount = bombs.size();
+        for (int i = indexedBonusCount; i < bonuses.size(); i++) {
+            occupancy.putBonus(bonuses.get(i));
+        }
+        indexedBonusCount = bonuses.size();
+    }
+
+    public void updateGameState() {
+        if (store != null) {
+            int aliveCount = store.aliveCount();
+            if (aliveCount <= 1) endMatch(aliveCount == 1 ? players.get(store.lastAliveSlot()) : null);
+            return;
+        }
+        int aliveCount = 0;
+        Player lastAlive = null;
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if (p.isAlive()) {
+                aliveCount++;
+                lastAlive = p;
+            }
+        }
+        if (aliveCount <= 1) endMatch(lastAlive);
+    }
+
+    /** Termine la partie ; la fin n'est publiée qu'une fois. */
+    private void endMatch(Player lastAlive) {
+        boolean ended = !gameOver;
+        gameOver = true;
+        winner = lastAlive;
+        if (ended) emit(GameEvents.Type.MATCH_ENDED, lastAlive != null ? lastAlive.getSlot() : -1, -1, -1, 0);
+    }
+
+    /** @return flux des événements de la partie, à lire avec un {@link GameEvents.Cursor} */
+    public GameEvents getEvents() { return events; }
+
+    private void emit(GameEvents.Type type, int slot, int x, int y, int value) {
+        events.publish(type, tickCount, slot, x, y, value);
+    }
+
+    /** Publie le pas d'un joueur depuis (prevX, prevY). */
+    private void emitMove(Player p, int prevX, int prevY) {
+        int dx = p.getX() - prevX, dy = p.getY() - prevY;
+        Direction d = dx > 0 ? Direction.RIGHT : dx < 0 ? Direction.LEFT : dy > 0 ? Direction.DOWN : Direction.UP;
+        emit(GameEvents.Type.PLAYER_MOVED, p.getSlot(), p.getX(), p.getY(), d.ordinal());
+    }
+
+    /**
+     * Dépose un déplacement du joueur d'emplacement {@code slot}, appliqué au début du prochain tick.
+     * Utilisable depuis n'importe quel thread, sans verrou.
+     * @return false si la file de commandes est pleine (commande abandonnée)
+     */
+    public boolean submitMove(int slot, int dx, int dy) {
+        return commands.offer(CommandQueue.MOVE, slot, dx, dy, System.nanoTime());
+    }
+
+    /**
+     * Dépose une pose de bombe du joueur d'emplacement {@code slot}, appliquée au début du prochain tick.
+     * Utilisable depuis n'importe quel thread, sans verrou.
+     * @return false si la file de commandes est pleine (commande abandonnée)
+     */
+    public boolean submitBomb(int slot) {
+        return commands.offer(CommandQueue.BOMB, slot, 0, 0, System.nanoTime());
+    }
+
+    /** Applique, dans leur ordre de dépôt, les commandes déposées depuis le tick précédent. */
+    private void drainCommands() {
+        if (commands.size() == 0) return;
+        drainNanos = System.nanoTime();
+        commands.drain(commandHandler);
+    }
+
+    private void applyCommand(int kind, int slot, int dx, int dy, long enqueuedNanos) {
+        if (slot < 0 || slot >= players.size()) return;
+        long wait = Math.max(0, drainNanos - enqueuedNanos);
+        appliedCommandNanos[(int) (commandsApplied % COMMAND_CAPACITY)] = enqueuedNanos;
+        commandsApplied++;
+        totalCommandWaitNanos += wait;
+        maxCommandWaitNanos = Math.max(maxCommandWaitNanos, wait);
+        commandWait.record(wait);
+        Player player = players.get(slot);
+        if (kind == CommandQueue.BOMB) placeBomb(player);
+        else movePlayer(player, dx, dy);
+    }
+
+    /** @return nombre de commandes déposées puis appliquées depuis le début de la partie */
+    public long getCommandsApplied() { return commandsApplied; }
+
+    /** @return somme des attentes en file des commandes appliquées, en nanosecondes */
+    public long getTotalCommandWaitNanos() { return totalCommandWaitNanos; }
+
+    /** @return plus longue attente en file d'une commande appliquée, en nanosecondes */
+    public long getMaxCommandWaitNanos() { return maxCommandWaitNanos; }
+
+    /** @return histogramme des attentes en file (à lire quand la simulation est arrêtée) */
+    public LatencyHistogram getCommandWaitHistogram() { return commandWait; }
+
+    /**
+     * @param rank rang d'application, parmi les {@link #COMMAND_CAPACITY} dernières commandes appliquées
+     * @return instant de dépôt de cette commande ({@link System#nanoTime()})
+     */
+    long appliedCommandNanos(long rank) {
+        return appliedCommandNanos[(int) (rank % COMMAND_CAPACITY)];
+    }
+
+    public void movePlayer(Player player, int dx, int dy) {
+        if (replayRecorder != null) replayRecorder.recordMove(tickCount, player.getSlot(), dx, dy, false);
+        if (!gameOver && player.isAlive()) {
+            int prevX = player.getX(), prevY = player.getY();
+            player.move(dx, dy, grid);
+            if (player.getX() != prevX || player.getY() != prevY) emitMove(player, prevX, prevY);
+        }
+    }
+
+    public void placeBomb(Player player) {
+        if (replayRecorder != null) replayRecorder.recordBomb(tickCount, player.getSlot(), false);
+        if (!player.isAlive()) return;
+        indexAppendedEntities();
+        // Limite de bombes simultanées du joueur (compteur tenu à la pose et à l'explosion)
+        if (!player.canDropBomb()) return;
+
+        // Vérifie s'il y a déjà une bombe à cet endroit
+        if (occupancy.hasBombAt(player.getX(), player.getY())) return;
+
+        Bomb newBomb = player.dropBomb(Bomb.DEFAULT_TIMER); // reprise dans la réserve de la partie
+        bombs.add(newBomb);
+        occupancy.putBomb(newBomb);
+        scheduleBomb(newBomb, timers.getCurrentTick() + newBomb.getTimer());
+        player.onBombPlaced();
+        indexedBombCount++;
+        grid.setCell(player.getX(), player.getY(), Grid.CellType.BOMB);
+        emit(GameEvents.Type.BOMB_PLACED, player.getSlot(), newBomb.getX(), newBomb.getY(), newBomb.getRange());
+    }
+
+    /**
+     * Avance l'échéancier d'un tick : détonations (et réactions en chaîne), fins d'explosion
+     * et expirations de bonus arrivées à échéance, puis ramassage des bonus.
+     * Le coût dépend du nombre d'événements du tick, pas du nombre de bombes ou de bonus en cours.
+     * Les bombes explosées et les bonus ramassés sont retirés en place (bombes remises en réserve),
+     * si bien qu'un tick sans destruction de mur n'alloue rien.
+     */
+    public void updateBombs() {
+        indexAppendedEntities();
+        timers.advance(timerHandler);
+        if (!detonationQueue.isEmpty()) {
+            resolveDetonations();
+            int kept = 0;
+            for (int i = 0; i < bombs.size(); i++) {
+                Bomb b = bombs.get(i);
+                if (b.isExploded()) bombPool.add(b);
+                else bombs.set(kept++, b);
+            }
+            truncate(bombs, kept);
+            indexedBombCount = bombs.size();
+        }
+        boolean bonusCollected = store != null ? collectBonusesFromStore() : collectBonuses();
+        if (bonusCollected) {
+            int kept = 0;
+            for (int i = 0; i < bonuses.size(); i++) {
+                Bonus bonus = bonuses.get(i);
+                if (bonus.isCollected()) occupancy.removeBonus(bonus);
+                else bonuses.set(kept++, bonus);
+            }
+            truncate(bonuses, kept);
+            indexedBonusCount = bonuses.size();
+        }
+        updateGameState();
+    }
+
+    /** Ramassage des bonus sous les joueurs vivants. @return true si au moins un bonus a été ramassé */
+    private boolean collectBonuses() {
+        boolean bonusCollected = false;
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if (!p.isAlive()) continue;
+            bonusCollected |= collectBonusAt(p, p.getX(), p.getY());
+        }
+        return bonusCollected;
+    }
+
+    /** Même ramassage en parcourant le masque des vivants et les colonnes de positions. */
+    private boolean collectBonusesFromStore() {
+        boolean bonusCollected = false;
+        for (int w = 0; w < store.getAliveWords(); w++) {
+            long mask = store.getAliveWord(w);
+            while (mask != 0) {
+                int slot = (w << 6) + Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                bonusCollected |= collectBonusAt(players.get(slot), store.getPlayerX(slot), store.getPlayerY(slot));
+            }
+        }
+        return bonusCollected;
+    }
+
+    private boolean collectBonusAt(Player p, int x, int y) {
+        Bonus bonus = occupancy.getBonusAt(x, y);
+        if (bonus == null || bonus.isCollected()) return false;
+        bonus.applyTo(p);
+        if (!bonus.isCollected()) return false;
+        emit(GameEvents.Type.BONUS_COLLECTED, p.getSlot(), x, y, GameEvents.bonusKind(bonus));
+        return true;
+    }
+
+    /** Retire les derniers éléments d'une liste par la fin (sans vue ni itérateur). */
+    private static void truncate(List<?> list, int size) {
+        for (int i = list.size() - 1; i >= size; i--) list.remove(i);
+    }
+
+    private void scheduleBomb(Bomb b, long dueTick) {
+        b.schedule(timers, dueTick, timers.schedule(dueTick, EVENT_DETONATION, 0, b));
+    }
+
+    private void onTimer(int kind, int value, Object ref) {
+        switch (kind) {
+            case EVENT_DETONATION -> {
+                Bomb b = (Bomb) ref;
+                b.detonate();
+                detonationQueue.add(b);
+            }
+            case EVENT_EXPLOSION_END -> {
+                // Ignoré si la case a été soufflée de nouveau depuis
+                if (explosionEnd[value] != timers.getCurrentTick()) return;
+                explosionEnd[value] = 0;
+                int x = value % grid.getWidth(), y = value / grid.getWidth();
+                if (grid.getCell(x, y) == Grid.CellType.EXPLOSION) {
+                    grid.setCell(x, y, Grid.CellType.EMPTY);
+                    explosionLayer[value] = PART_NONE;
+                }
+            }
+            case EVENT_BONUS_EXPIRY -> players.get(value).expireBonus((ActiveBonus) ref);
+            default -> throw new IllegalStateException("Événement inconnu : " + kind);
+        }
+    }
+
+    private void addExplosion(int x, int y) {
+        grid.setCell(x, y, Grid.CellType.EXPLOSION);
+        int cell = y * grid.getWidth() + x;
+        long end = timers.getCurrentTick() + EXPLOSION_TICKS;
+        if (explosionEnd[cell] != end) {
+            explosionEnd[cell] = end;
+            timers.schedule(end, EVENT_EXPLOSION_END, cell, null);
+        }
+    }
+
+    /**
+     * Enregistre la partie d'explosion d'une case. Un centre n'est jamais recouvert,
+     * une extrémité ne recouvre pas une branche d'une autre explosion.
+     */
+    private void markExplosionPart(int x, int y, byte part) {
+        int cell = y * grid.getWidth() + x;
+        byte current = explosionLayer[cell];
+        if (current == PART_CENTRE) return;
+        if (part >= PART_END && current >= PART_BRANCH && current < PART_END) return;
+        explosionLayer[cell] = part;
+    }
+
+    /** Rayons d'explosion dans l'ordre droite, gauche, bas, haut. */
+    private static final int[][] BLAST_DIRS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final Direction[] BLAST_DIRECTIONS = {Direction.RIGHT, Direction.LEFT, Direction.DOWN, Direction.UP};
+
+    /**
+     * Fait exploser toutes les bombes de la file, y compris celles déclenchées en chaîne,
+     * pendant le tick courant. Chaque case n'est soufflée (explosion, dégâts) qu'une fois
+     * par résolution, et un mur détruit pendant la résolution arrête aussi les autres souffles :
+     * le résultat ne dépend pas de l'ordre des bombes dans la liste.
+     */
+    private void resolveDetonations() {
+        blastGeneration++;
+        Bomb b;
+        while ((b = detonationQueue.poll()) != null) {
+            occupancy.removeBomb(b);
+            if (b.getOwner() != null) b.getOwner().onBombExploded();
+            emit(GameEvents.Type.BOMB_EXPLODED, b.getOwner() != null ? b.getOwner().getSlot() : -1, b.getX(), b.getY(), b.getRange());
+            explode(b);
+        }
+    }
+
+    /**
+     * Souffle la case (x,y) une seule fois par résolution.
+     */
+    private void blastCell(int x, int y) {
+        int cell = y * grid.getWidth() + x;
+        if (blastStamp[cell] == blastGeneration) return;
+        blastStamp[cell] = blastGeneration;
+        addExplosion(x, y);
+        damagePlayersAt(x, y);
+    }
+
+    private void explode(Bomb b) {
+        int x = b.getX(), y = b.getY(), range = b.getRange();
+        blastCell(x, y);
+        markExplosionPart(x, y, PART_CENTRE);
+
+        for (int d = 0; d < BLAST_DIRS.length; d++) {
+            int[] dir = BLAST_DIRS[d];
+            int ordinal = BLAST_DIRECTIONS[d].ordinal();
+            int lastX = -1, lastY = -1;
+            // Portée coupée d'avance par le premier mur (recherche par mots de la grille)
+            int reach = grid.blastReach(x, y, dir[0], dir[1], range);
+            for (int i = 1; i <= reach; i++) {
+                int nx = x + dir[0]*i, ny = y + dir[1]*i;
+                // La case précédente n'est pas la dernière du rayon : c'est une branche
+                if (lastX >= 0) markExplosionPart(lastX, lastY, (byte) (PART_BRANCH + ordinal));
+                lastX = nx;
+                lastY = ny;
+                int cell = ny * grid.getWidth() + nx;
+                if (wallStamp[cell] == blastGeneration) break; // mur déjà détruit par ce même souffle
+                boolean wall = i == reach && grid.getCell(nx, ny) == Grid.CellType.DESTRUCTIBLE;
+                blastCell(nx, ny);
+                if (wall) {
+                    wallStamp[cell] = blastGeneration;
+                    destroyWall(nx, ny);
+                    break;
+                }
+                Bomb chained = occupancy.getBombAt(nx, ny);
+                if (chained != null && !chained.isExploded()) {
+                    chained.forceExplode();
+                    detonationQueue.add(chained);
+                }
+            }
+            if (lastX >= 0) markExplosionPart(lastX, lastY, (byte) (PART_END + ordinal));
+        }
+    }
+
+    private void damagePlayersAt(int x, int y) {
+        for (int w = 0; w < occupancy.getPlayerWords(); w++) {
+            long mask = occupancy.getPlayerMask(x, y, w);
+            while (mask != 0) {
+                Player p = players.get((w << 6) + Long.numberOfTrailingZeros(mask));
+                mask &= mask - 1;
+                if (p.isAlive() && !p.isInvincibleToBombs()) {
+                    p.takeDamage();
+                    emit(GameEvents.Type.PLAYER_HIT, p.getSlot(), x, y, p.getLives());
+                    if (!p.isAlive()) emit(GameEvents.Type.PLAYER_DIED, p.getSlot(), x, y, 0);
+                }
+            }
+        }
+    }
+
+    private void destroyWall(int x, int y) {
+        emit(GameEvents.Type.WALL_DESTROYED, -1, x, y, 0);
+        if (random.nextDouble() < 0.33) { // 33% de chances d'avoir un bonus
+            double roll = random.nextDouble();
+            Bonus bonus;
+            if (roll < 0.5) {
+                bonus = new FlameBonus(x, y, 1);
+            } else if (roll < 0.7) {
+                bonus = new BombBonus(x, y);
+            } else if (roll < 0.9) {
+                bonus = new JacketBonus(x, y);
+            } else {
+                bonus = new LifeBonus(x, y);
+            }
+            if (occupancy.putBonus(bonus)) {
+                bonuses.add(bonus);
+                indexedBonusCount++;
+                emit(GameEvents.Type.BONUS_SPAWNED, -1, x, y, GameEvents.bonusKind(bonus));
+            }
+        }
+    }
+
+    /**
+     * Somme de contrôle de l'état complet de la partie : grille, explosions, joueurs, bombes,
+     * bonus et état du générateur aléatoire. Deux parties de même graine recevant les mêmes
+     * actions ont la même somme à chaque tick, ce qui permet de vérifier qu'une optimisation
+     * du moteur ne change pas le déroulement des parties.
+     * @return somme de contrôle 64 bits (FNV-1a)
+     */
+    public long stateChecksum() {
+        long h = 0xCBF29CE484222325L;
+        h = fnv(h, tickCount);
+        h = fnv(h, random.getState());
+        int width = grid.getWidth();
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                h = fnv(h, grid.getCell(x, y).ordinal());
+                h = fnv(h, explosionLayer[y * width + x]);
+                long end = explosionEnd[y * width + x];
+                h = fnv(h, end > timers.getCurrentTick() ? end - timers.getCurrentTick() : 0);
+            }
+        }
+        for (Player p : players) {
+            h = fnv(h, p.getX());
+            h = fnv(h, p.getY());
+            h = fnv(h, p.getLives());
+            h = fnv(h, p.isAlive() ? 1 : 0);
+            h = fnv(h, p.getBombRange());
+            h = fnv(h, p.getMaxBombs());
+            for (ActiveBonus ab : p.getActiveBonuses()) {
+                h = fnv(h, ab.getType().ordinal());
+                h = fnv(h, ab.getExtraValue());
+            }
+        }
+        for (Bomb b : bombs) {
+            h = fnv(h, b.getX());
+            h = fnv(h, b.getY());
+            h = fnv(h, b.getTimer());
+            h = fnv(h, b.getRange());
+            h = fnv(h, b.getOwner() != null ? b.getOwner().getSlot() : -1);
+        }
+        for (Bonus bonus : bonuses) {
+            h = fnv(h, bonus.getClass().getName().hashCode());
+            h = fnv(h, bonus.getX());
+            h = fnv(h, bonus.getY());
+            h = fnv(h, bonus.isCollected() ? 1 : 0);
+        }
+        return h;
+    }
+
+    private static long fnv(long h, long value) {
+        return (h ^ value) * 0x100000001B3L;
+    }
+
+    /**
+     * Retourne le type et la direction de la partie d'explosion pour la case (x, y), ou null si pas d'explosion.
+     * Lecture en O(1) dans la couche d'explosion remplie au moment de l'explosion ;
+     * les instances retournées sont partagées et ne doivent pas être modifiées.
+     */
+    public ExplosionCell getExplosionCell(int x, int y) {
+        if (grid.getCell(x, y) != Grid.CellType.EXPLOSION) return null;
+        return explosionPart(explosionLayer[y * grid.getWidth() + x]);
+    }
+
+    /** @return partie d'explosion partagée correspondant à un code de la couche d'explosion */
+    static ExplosionCell explosionPart(byte code) {
+        return code == PART_NONE ? FALLBACK_PART : EXPLOSION_PARTS[code];
+    }
+
+    /** Recopie les codes de la couche d'explosion (indexés par y * largeur + x) dans {@code out}. */
+    void copyExplosionLayer(byte[] out) {
+        System.arraycopy(explosionLayer, 0, out, 0, explosionLayer.length);
+    }
+}
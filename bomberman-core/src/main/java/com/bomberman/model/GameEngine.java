@@ -0,0 +1,115 @@
+package com.bomberman.model;
+
+/**
+ * Moteur de simulation à pas fixe autour d'une {@link Game}.
+ * Le temps écoulé est accumulé et consommé par tranches de {@code tickNanos} :
+ * chaque tranche exécute exactement un tick logique ({@link Game#tick()}).
+ * Le nombre de ticks rattrapés par appel est plafonné pour éviter la spirale
+ * de rattrapage quand la machine est surchargée.
+ * <p>
+ * Le moteur ne dépend d'aucune horloge : l'interface l'alimente avec le temps
+ * réel écoulé, une simulation headless appelle directement {@link #step()}.
+ */
+public class GameEngine {
+    /** Durée par défaut d'un tick logique : 4 frames de 50 ms. */
+    public static final long DEFAULT_TICK_NANOS = 200_000_000L;
+    /** Nombre maximal de ticks rattrapés par défaut lors d'un appel à {@link #advance(long)}. */
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+    private final Game game;
+    private final long tickNanos;
+    private final int maxCatchUpTicks;
+    private long accumulator;
+    private long droppedTicks;
+
+    /**
+     * Crée un moteur avec la durée de tick et le plafond de rattrapage par défaut.
+     * @param game partie à simuler
+     */
+    public GameEngine(Game game) {
+        this(game, DEFAULT_TICK_NANOS, DEFAULT_MAX_CATCH_UP_TICKS);
+    }
+
+    /**
+     * @param game partie à simuler
+     * @param tickNanos durée d'un tick logique en nanosecondes
+     * @param maxCatchUpTicks nombre maximal de ticks exécutés par appel à {@link #advance(long)}
+     */
+    public GameEngine(Game game, long tickNanos, int maxCatchUpTicks) {
+        if (game == null) throw new IllegalArgumentException("game ne peut pas être null");
+        if (tickNanos <= 0) throw new IllegalArgumentException("tickNanos doit être positif : " + tickNanos);
+        if (maxCatchUpTicks <= 0) throw new IllegalArgumentException("maxCatchUpTicks doit être positif : " + maxCatchUpTicks);
+        this.game = game;
+        this.tickNanos = tickNanos;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+    }
+
+    /** @return partie simulée */
+    public Game getGame() { return game; }
+
+    /** @return durée d'un tick logique en nanosecondes */
+    public long getTickNanos() { return tickNanos; }
+
+    /** @return nombre maximal de ticks rattrapés par appel */
+    public int getMaxCatchUpTicks() { return maxCatchUpTicks; }
+
+    /** @return nombre de ticks logiques exécutés depuis le début de la partie */
+    public long getTickCount() { return game.getTickCount(); }
+
+    /** @return nombre de ticks abandonnés parce que le plafond de rattrapage était atteint */
+    public long getDroppedTicks() { return droppedTicks; }
+
+    /**
+     * Ajoute le temps réel écoulé et exécute les ticks logiques dus.
+     * Si plus de {@code maxCatchUpTicks} ticks sont en retard, le surplus est abandonné.
+     * @param elapsedNanos temps écoulé depuis le dernier appel
+     * @return nombre de ticks exécutés
+     */
+    public int advance(long elapsedNanos) {
+        if (elapsedNanos > 0) accumulator += elapsedNanos;
+        int executed = 0;
+        while (accumulator >= tickNanos && executed < maxCatchUpTicks && !game.isGameOver()) {
+            step();
+            accumulator -= tickNanos;
+            executed++;
+        }
+        if (accumulator >= tickNanos) {
+            droppedTicks += accumulator / tickNanos;
+            accumulator %= tickNanos;
+        }
+        return executed;
+    }
+
+    /**
+     * Exécute immédiatement un tick logique, sans tenir compte de l'horloge.
+     */
+    public void step() {
+        game.tick();
+    }
+
+    /**
+     * Simule la partie aussi vite que possible, sans horloge ni interface.
+     * @param maxTicks nombre maximal de ticks à exécuter
+     * @return nombre de ticks réellement exécutés (moins si la partie se termine avant)
+     */
+    public long runHeadless(long maxTicks) {
+        long executed = 0;
+        while (executed < maxTicks && !game.isGameOver()) {
+            step();
+            executed++;
+        }
+        return executed;
+    }
+
+    /** @return temps restant avant que le prochain tick logique soit dû, en nanosecondes */
+    public long nanosUntilNextTick() {
+        return Math.max(0, tickNanos - accumulator);
+    }
+
+    /**
+     * @return fraction (entre 0 et 1) du tick suivant déjà écoulée, utile pour interpoler l'affichage
+     */
+    public double getInterpolationAlpha() {
+        return accumulator / (double) tickNanos;
+    }
+}
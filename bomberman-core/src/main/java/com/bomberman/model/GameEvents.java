@@ -0,0 +1,194 @@
+package com.bomberman.model;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flux des événements d'une partie (bombe posée, explosion, mur détruit, bonus, dégâts, fin de
+ * partie), rangé dans un anneau préalloué à un seul producteur et plusieurs lecteurs.
+ * <p>
+ * La partie publie depuis le thread qui la simule ; chaque consommateur (affichage, statistiques,
+ * télémétrie, enregistrement) lit avec son propre {@link Cursor}, à son rythme, sans verrou ni
+ * parcours de l'état complet. Les champs sont rangés dans des tableaux parallèles : publier et lire
+ * n'allouent rien. Le producteur n'attend jamais : un lecteur trop lent est dépassé, il saute alors
+ * les événements écrasés et les compte dans {@link Cursor#missed()} (il peut se resynchroniser sur
+ * un {@link RenderSnapshot}).
+ * <p>
+ * Publication : le producteur annonce d'abord la position qu'il va écrire ({@code claimed}), écrit
+ * les champs, puis avance {@code published}. Un lecteur copie les champs d'une case puis vérifie
+ * qu'elle n'a pas été réclamée entre-temps pour un tour suivant de l'anneau ; sinon, la copie est
+ * jetée.
+ */
+public class GameEvents {
+    /** Capacité par défaut : quelques secondes d'une grande partie. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** Types d'événements. */
+    public enum Type {
+        /** Bombe posée en (x,y) par le joueur {@code slot} ; valeur : portée. */
+        BOMB_PLACED,
+        /** Bombe du joueur {@code slot} (-1 sans propriétaire) explosée en (x,y) ; valeur : portée. */
+        BOMB_EXPLODED,
+        /** Mur destructible détruit en (x,y) ; {@code slot} : -1. */
+        WALL_DESTROYED,
+        /** Bonus apparu en (x,y) ; valeur : {@link #bonusKind(Bonus)}. */
+        BONUS_SPAWNED,
+        /** Bonus ramassé en (x,y) par le joueur {@code slot} ; valeur : {@link #bonusKind(Bonus)}. */
+        BONUS_COLLECTED,
+        /** Joueur {@code slot} touché en (x,y) ; valeur : vies restantes. */
+        PLAYER_HIT,
+        /** Joueur {@code slot} éliminé en (x,y). */
+        PLAYER_DIED,
+        /** Joueur {@code slot} arrivé en (x,y) ; valeur : {@link Game.Direction#ordinal()} du pas. */
+        PLAYER_MOVED,
+        /** Fin de partie ; {@code slot} : vainqueur, -1 s'il n'y en a pas. */
+        MATCH_ENDED
+    }
+
+    /** Codes de bonus portés par {@link Type#BONUS_SPAWNED} et {@link Type#BONUS_COLLECTED}. */
+    public static final int BONUS_FLAME = 0;
+    public static final int BONUS_BOMB = 1;
+    public static final int BONUS_JACKET = 2;
+    public static final int BONUS_LIFE = 3;
+
+    /** Reçoit les événements lus par un {@link Cursor}. */
+    public interface Handler {
+        /**
+         * @param type type de l'événement
+         * @param tick tick de la partie où il s'est produit
+         * @param slot emplacement du joueur concerné, -1 si aucun
+         * @param x colonne, -1 si sans objet
+         * @param y ligne, -1 si sans objet
+         * @param value donnée propre au type (voir {@link Type})
+         */
+        void onEvent(Type type, long tick, int slot, int x, int y, int value);
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private final int mask;
+    private final byte[] types;
+    private final long[] ticks;
+    private final int[] slots;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] values;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong published = new AtomicLong();
+
+    /** Crée un flux de {@link #DEFAULT_CAPACITY} événements. */
+    public GameEvents() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity nombre d'événements gardés pour les lecteurs en retard, arrondi à la puissance de deux supérieure
+     */
+    public GameEvents(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity doit être positive : " + capacity);
+        int n = Integer.highestOneBit(capacity);
+        if (n < capacity) n <<= 1;
+        this.mask = n - 1;
+        this.types = new byte[n];
+        this.ticks = new long[n];
+        this.slots = new int[n];
+        this.xs = new int[n];
+        this.ys = new int[n];
+        this.values = new int[n];
+    }
+
+    /** @return nombre d'événements gardés pour les lecteurs en retard */
+    public int capacity() { return mask + 1; }
+
+    /** @return nombre d'événements publiés depuis la création du flux */
+    public long published() { return published.get(); }
+
+    /** Publie un événement ; à n'appeler que depuis le thread qui simule la partie. */
+    void publish(Type type, long tick, int slot, int x, int y, int value) {
+        long seq = claimed.get();
+        claimed.set(seq + 1);
+        VarHandle.storeStoreFence(); // la réclamation est visible avant les champs écrasés
+        int i = (int) seq & mask;
+        types[i] = (byte) type.ordinal();
+        ticks[i] = tick;
+        slots[i] = slot;
+        xs[i] = x;
+        ys[i] = y;
+        values[i] = value;
+        published.set(seq + 1);
+    }
+
+    /** @return nouveau lecteur, positionné après le dernier événement publié */
+    public Cursor newCursor() {
+        return new Cursor(published.get());
+    }
+
+    /** @return nouveau lecteur, positionné sur le plus ancien événement encore gardé */
+    public Cursor newCursorFromOldest() {
+        return new Cursor(Math.max(0, claimed.get() - capacity()));
+    }
+
+    /** @return code {@link #BONUS_FLAME}, {@link #BONUS_BOMB}, {@link #BONUS_JACKET} ou {@link #BONUS_LIFE} */
+    public static int bonusKind(Bonus bonus) {
+        if (bonus instanceof FlameBonus) return BONUS_FLAME;
+        if (bonus instanceof BombBonus) return BONUS_BOMB;
+        if (bonus instanceof JacketBonus) return BONUS_JACKET;
+        return BONUS_LIFE;
+    }
+
+    /** Position de lecture d'un consommateur ; à n'utiliser que depuis un seul thread. */
+    public final class Cursor {
+        private long next;
+        private long missed;
+
+        private Cursor(long next) {
+            this.next = next;
+        }
+
+        /**
+         * Lit, dans leur ordre de publication, tous les événements publiés depuis le dernier appel.
+         * @return nombre d'événements transmis
+         */
+        public int poll(Handler handler) {
+            return poll(handler, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Lit au plus {@code max} événements publiés depuis le dernier appel.
+         * @return nombre d'événements transmis
+         */
+        public int poll(Handler handler, int max) {
+            int count = 0;
+            long end = published.get();
+            while (next < end && count < max) {
+                long oldest = claimed.get() - capacity();
+                if (next < oldest) { // dépassé par le producteur : les plus anciens sont écrasés
+                    missed += oldest - next;
+                    next = oldest;
+                    continue;
+                }
+                int i = (int) next & mask;
+                Type type = TYPES[types[i]];
+                long tick = ticks[i];
+                int slot = slots[i], x = xs[i], y = ys[i], value = values[i];
+                VarHandle.loadLoadFence(); // relire la réclamation après les champs
+                if (claimed.get() - capacity() > next) continue; // case réécrite pendant la copie
+                next++;
+                count++;
+                handler.onEvent(type, tick, slot, x, y, value);
+            }
+            return count;
+        }
+
+        /** @return nombre d'événements publiés mais pas encore lus */
+        public long lag() { return Math.max(0, published.get() - next); }
+
+        /** @return nombre d'événements écrasés avant d'avoir été lus */
+        public long missed() { return missed; }
+
+        /** Saute tous les événements non lus (après une resynchronisation sur l'état complet). */
+        public void skipToLatest() {
+            next = Math.max(next, published.get());
+        }
+    }
+}
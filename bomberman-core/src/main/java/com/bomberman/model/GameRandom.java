@@ -0,0 +1,65 @@
+package com.bomberman.model;
+
+/**
+ * Générateur pseudo-aléatoire déterministe (SplitMix64) partagé par une partie.
+ * Toute la génération de la carte, des bonus et les décisions des IA passent par lui :
+ * deux parties créées avec la même graine se déroulent à l'identique.
+ * Son état tient dans un seul {@code long}, ce qui permet de le sauvegarder et de le restaurer.
+ */
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * @param seed graine du générateur
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /** @return une graine non reproductible, pour les parties normales */
+    public static long randomSeed() {
+        return mix(System.nanoTime());
+    }
+
+    /** @return état interne courant (pour sauvegarde ou somme de contrôle) */
+    public long getState() { return state; }
+
+    /** Restaure un état interne obtenu par {@link #getState()}. */
+    public void setState(long state) { this.state = state; }
+
+    /** @return un entier 64 bits uniformément distribué */
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /** @return un réel uniformément distribué dans [0, 1) */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * @param bound borne exclusive, strictement positive
+     * @return un entier uniformément distribué dans [0, bound)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound doit être positif : " + bound);
+        int r = (int) (nextLong() >>> 33);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >> 31);
+        }
+        // Rejet des tirages biaisés, comme java.util.Random
+        for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong() >>> 33)) {
+        }
+        return r;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,22 @@
+package com.bomberman.model;
+
+/**
+ * Paramètres globaux du jeu (notamment niveau d'IA), partagés entre les écrans.
+ * Sans dépendance à JavaFX : l'écran des réglages tient sa propre propriété liée à cette valeur.
+ */
+public class GameSettings {
+    /** Liste des niveaux d'IA disponibles (ordre = enum AIDifficulty). */
+    public static final String[] AI_LEVELS = {"EASY", "NORMAL", "HARD"};
+    private static volatile int aiLevelIndex = 0;
+
+    /** @return index du niveau d'IA sélectionné */
+    public static int getAiLevelIndex() { return aiLevelIndex; }
+
+    /** Définit l'index du niveau d'IA sélectionné */
+    public static void setAiLevelIndex(int idx) { aiLevelIndex = idx; }
+
+    /** @return niveau d'IA sélectionné sous forme d'enum */
+    public static AIDifficulty getSelectedAIDifficulty() {
+        return AIDifficulty.valueOf(AI_LEVELS[getAiLevelIndex()]);
+    }
+}
@@ -0,0 +1,341 @@
+package com.bomberman.model;
+
+/**
+ * Représente la grille de jeu Bomberman avec gestion des types de cases.
+ * <p>
+ * Les cases sont stockées en couches de bits ({@code long} par mot de 64 cases, ligne par ligne) :
+ * murs indestructibles, murs destructibles, bombes et explosions ; une case vide n'a aucun bit.
+ * {@link #getCell(int, int)} et {@link #setCell(int, int, CellType)} restent la façade habituelle,
+ * tandis que les requêtes de masque praticable, de portée de souffle et d'explosions sur une ligne
+ * traitent 64 cases à la fois.
+ * <p>
+ * Au-delà de {@link #LARGE_ARENA_CELLS} cases, la grille passe en mode grande arène : chaque case
+ * est une valeur de 4 bits dans des blocs de 64x64 alloués à la demande ({@link CellChunks}),
+ * si bien que les zones uniformes ne coûtent rien. Les mêmes requêtes y sont disponibles,
+ * calculées case par case. Ce mode sert aux cartes et aux niveaux (chargement, édition) :
+ * {@link Game}, dont les tables par case sont denses, le refuse.
+ */
+public class Grid {
+    /**
+     * Types de cases possibles sur la grille.
+     */
+    public enum CellType {
+        EMPTY,
+        INDESTRUCTIBLE,
+        DESTRUCTIBLE,
+        BOMB,
+        EXPLOSION
+    }
+
+    private static final CellType[] TYPES = CellType.values();
+    private static final int LAYERS = 4; // un par type non vide, dans l'ordre de CellType
+    /** Nombre de cases au-delà duquel la grille est stockée par blocs compacts. */
+    public static final int LARGE_ARENA_CELLS = 512 * 512;
+    // Valeur du layout d'un niveau -> ordinal de CellType
+    private static final int[] LEVEL_TO_CELL = new int[16];
+    static {
+        LEVEL_TO_CELL[1] = CellType.INDESTRUCTIBLE.ordinal();
+        LEVEL_TO_CELL[2] = CellType.DESTRUCTIBLE.ordinal();
+    }
+
+    private final int width;
+    private final int height;
+    private final int rowWords;
+    private final long lastWordMask;
+    private final long[][] layers; // [ordinal - 1][y * rowWords + x / 64]
+    private final long[] indestructible;
+    private final long[] destructible;
+    private final long[] bombs;
+    private final long[] explosions;
+    private final CellChunks chunks; // mode grande arène (couches nulles), sinon null
+    private Occupancy occupancy;
+
+    /**
+     * Initialise la grille à partir d'un niveau (layout) ou de façon procédurale si null,
+     * avec une graine non reproductible.
+     * @param width largeur de la grille
+     * @param height hauteur de la grille
+     * @param level niveau à appliquer (peut être null)
+     */
+    public Grid(int width, int height, Level level) {
+        this(width, height, level, new GameRandom(GameRandom.randomSeed()));
+    }
+
+    /**
+     * Initialise la grille à partir d'un niveau (layout) ou de façon procédurale si null.
+     * @param width largeur de la grille
+     * @param height hauteur de la grille
+     * @param level niveau à appliquer (peut être null)
+     * @param random générateur utilisé pour la génération procédurale
+     */
+    public Grid(int width, int height, Level level, GameRandom random) {
+        this(width, height);
+
+        if (chunks != null && level != null && level.getTiles() != null
+                && level.getWidth() == width && level.getHeight() == height) {
+            // Grande arène chargée par blocs : les blocs uniformes du niveau restent non alloués
+            chunks.load(level.getTiles(), LEVEL_TO_CELL);
+            return;
+        }
+        int layoutWidth = level != null ? level.getWidth() : 0;
+        int layoutHeight = level != null ? level.getHeight() : 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (y < layoutHeight && x < layoutWidth) {
+                    int tile = level.getTile(x, y);
+                    setCell(x, y, TYPES[tile >= 0 && tile < LEVEL_TO_CELL.length ? LEVEL_TO_CELL[tile] : 0]);
+                } else {
+                    if (x == 0 || y == 0 || x == width - 1 || y == height - 1) {
+                        setCell(x, y, CellType.INDESTRUCTIBLE);
+                    } else if (x % 2 == 0 && y % 2 == 0) {
+                        setCell(x, y, CellType.INDESTRUCTIBLE);
+                    } else if (random.nextDouble() < 0.2) {
+                        setCell(x, y, CellType.DESTRUCTIBLE);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Crée une copie indépendante des cases d'une grille (sans index d'occupation).
+     * @param source grille à copier
+     */
+    public Grid(Grid source) {
+        this(source.width, source.height);
+        source.copyInto(this);
+    }
+
+    private Grid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.rowWords = Math.max(1, (width + 63) >>> 6);
+        this.lastWordMask = (width & 63) == 0 ? -1L : (1L << (width & 63)) - 1;
+        if ((long) width * height > LARGE_ARENA_CELLS) {
+            this.chunks = new CellChunks(width, height, CellType.EMPTY.ordinal());
+            this.layers = null;
+            this.indestructible = this.destructible = this.bombs = this.explosions = null;
+            return;
+        }
+        this.chunks = null;
+        this.layers = new long[LAYERS][height * rowWords];
+        this.indestructible = layers[CellType.INDESTRUCTIBLE.ordinal() - 1];
+        this.destructible = layers[CellType.DESTRUCTIBLE.ordinal() - 1];
+        this.bombs = layers[CellType.BOMB.ordinal() - 1];
+        this.explosions = layers[CellType.EXPLOSION.ordinal() - 1];
+    }
+
+    /**
+     * Recopie les cases de cette grille dans une grille de mêmes dimensions, sans allocation.
+     * @param target grille de destination
+     * @throws IllegalArgumentException si les dimensions diffèrent
+     */
+    public void copyInto(Grid target) {
+        if (target.width != width || target.height != height) {
+            throw new IllegalArgumentException("Dimensions de grille différentes : "
+                    + width + "x" + height + " / " + target.width + "x" + target.height);
+        }
+        if (chunks != null) {
+            chunks.copyInto(target.chunks);
+            return;
+        }
+        for (int l = 0; l < LAYERS; l++) {
+            System.arraycopy(layers[l], 0, target.layers[l], 0, layers[l].length);
+        }
+    }
+
+    /** @return true si la grille est stockée par blocs compacts (grande arène) */
+    public boolean isLargeArena() { return chunks != null; }
+
+    /** @return estimation de la mémoire occupée par les cases, en octets */
+    public long cellMemoryBytes() {
+        return chunks != null ? chunks.memoryBytes() : (long) LAYERS * height * rowWords * Long.BYTES;
+    }
+
+    /** @return largeur de la grille */
+    public int getWidth() { return width; }
+
+    /** @return hauteur de la grille */
+    public int getHeight() { return height; }
+
+    /** @return nombre de mots {@code long} par ligne dans les masques de la grille */
+    public int getRowWords() { return rowWords; }
+
+    /**
+     * Retourne le type de case à la position (x,y), ou null si hors limites.
+     */
+    public CellType getCell(int x, int y) {
+        if (!isInBounds(x, y)) return null;
+        if (chunks != null) return TYPES[chunks.get(x, y)];
+        int i = y * rowWords + (x >>> 6);
+        long bit = 1L << x;
+        for (int l = 0; l < LAYERS; l++) {
+            if ((layers[l][i] & bit) != 0) return TYPES[l + 1];
+        }
+        return CellType.EMPTY;
+    }
+
+    /**
+     * Définit le type de case à la position (x,y) si dans la grille.
+     */
+    public void setCell(int x, int y, CellType cellType) {
+        if (!isInBounds(x, y)) return;
+        if (chunks != null) {
+            chunks.set(x, y, cellType.ordinal());
+            return;
+        }
+        int i = y * rowWords + (x >>> 6);
+        long bit = 1L << x;
+        for (int l = 0; l < LAYERS; l++) layers[l][i] &= ~bit;
+        if (cellType != CellType.EMPTY) layers[cellType.ordinal() - 1][i] |= bit;
+    }
+
+    // --- Requêtes par mots de 64 cases ---
+
+    /**
+     * @param y ligne
+     * @param word index du mot dans la ligne (cases {@code 64*word} à {@code 64*word+63})
+     * @return masque des cases vides de ce mot (bit i = case {@code 64*word+i}), sans les bits hors grille
+     */
+    public long walkableWord(int y, int word) {
+        if (chunks != null) {
+            long mask = 0;
+            for (int b = 0, x = word << 6; b < 64 && x < width; b++, x++) {
+                if (chunks.get(x, y) == 0) mask |= 1L << b;
+            }
+            return mask;
+        }
+        int i = y * rowWords + word;
+        long occupied = indestructible[i] | destructible[i] | bombs[i] | explosions[i];
+        return ~occupied & (word == rowWords - 1 ? lastWordMask : -1L);
+    }
+
+    /**
+     * Remplit le masque des cases vides de toute la grille, ligne par ligne
+     * ({@link #getRowWords()} mots par ligne).
+     * @param out tableau d'au moins {@code height * getRowWords()} mots
+     */
+    public void fillWalkableMask(long[] out) {
+        for (int y = 0; y < height; y++) {
+            for (int w = 0; w < rowWords; w++) {
+                out[y * rowWords + w] = walkableWord(y, w);
+            }
+        }
+    }
+
+    /**
+     * @return true si au moins une case de la ligne {@code y} est en explosion
+     */
+    public boolean rowHasExplosion(int y) {
+        if (y < 0 || y >= height) return false;
+        if (chunks != null) {
+            for (int x = 0; x < width; x++) {
+                if (chunks.get(x, y) == CellType.EXPLOSION.ordinal()) return true;
+            }
+            return false;
+        }
+        int base = y * rowWords;
+        for (int w = 0; w < rowWords; w++) {
+            if (explosions[base + w] != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Distance du premier obstacle rencontré en partant de (x,y) dans la direction (dx,dy),
+     * la case de départ exclue. Les lignes sont parcourues 64 cases à la fois.
+     * @param dx direction horizontale (-1, 0 ou 1)
+     * @param dy direction verticale (-1, 0 ou 1), exclusive de dx
+     * @param maxDistance distance maximale examinée
+     * @param destructibleBlocks true si les murs destructibles comptent comme obstacles
+     * @return distance (1 à maxDistance) du premier mur, ou maxDistance + 1 s'il n'y en a pas ;
+     *         le bord de la grille compte comme un mur indestructible
+     */
+    public int distanceToObstacle(int x, int y, int dx, int dy, int maxDistance, boolean destructibleBlocks) {
+        int toEdge = dx > 0 ? width - 1 - x : dx < 0 ? x : dy > 0 ? height - 1 - y : y;
+        int limit = Math.min(maxDistance, toEdge);
+        if (limit <= 0) return toEdge < maxDistance ? toEdge + 1 : maxDistance + 1;
+        int found;
+        if (chunks != null) {
+            found = limit + 1;
+            for (int d = 1; d <= limit; d++) {
+                int c = chunks.get(x + dx * d, y + dy * d);
+                if (c == CellType.INDESTRUCTIBLE.ordinal() || (destructibleBlocks && c == CellType.DESTRUCTIBLE.ordinal())) {
+                    found = d;
+                    break;
+                }
+            }
+        } else if (dy == 0) {
+            found = dx > 0 ? scanRight(y, x + 1, x + limit, destructibleBlocks) - x
+                    : x - scanLeft(y, x - limit, x - 1, destructibleBlocks);
+        } else {
+            found = limit + 1;
+            int word = x >>> 6;
+            long bit = 1L << x;
+            for (int d = 1; d <= limit; d++) {
+                int i = (y + dy * d) * rowWords + word;
+                long walls = destructibleBlocks ? indestructible[i] | destructible[i] : indestructible[i];
+                if ((walls & bit) != 0) { found = d; break; }
+            }
+        }
+        if (found <= limit) return found;
+        return toEdge < maxDistance ? toEdge + 1 : maxDistance + 1;
+    }
+
+    /**
+     * Nombre de cases atteintes par un souffle de portée {@code range} partant de (x,y) :
+     * il s'arrête avant un mur indestructible ou le bord, et sur un mur destructible (inclus).
+     */
+    public int blastReach(int x, int y, int dx, int dy, int range) {
+        int d = distanceToObstacle(x, y, dx, dy, range, true);
+        if (d > range) return range;
+        int wx = x + dx * d, wy = y + dy * d;
+        if (!isInBounds(wx, wy)) return d - 1;
+        if (chunks != null) return chunks.get(wx, wy) == CellType.DESTRUCTIBLE.ordinal() ? d : d - 1;
+        return (destructible[wy * rowWords + (wx >>> 6)] & (1L << wx)) != 0 ? d : d - 1;
+    }
+
+    /** @return abscisse du premier mur de la ligne entre from et to inclus, ou to + 1 */
+    private int scanRight(int y, int from, int to, boolean destructibleBlocks) {
+        int base = y * rowWords;
+        for (int w = from >>> 6; w <= to >>> 6; w++) {
+            long walls = destructibleBlocks ? indestructible[base + w] | destructible[base + w] : indestructible[base + w];
+            if (w == from >>> 6) walls &= -1L << from;
+            if (w == to >>> 6) walls &= -1L >>> (63 - (to & 63));
+            if (walls != 0) return (w << 6) + Long.numberOfTrailingZeros(walls);
+        }
+        return to + 1;
+    }
+
+    /** @return abscisse du dernier mur de la ligne entre from et to inclus, ou from - 1 */
+    private int scanLeft(int y, int from, int to, boolean destructibleBlocks) {
+        int base = y * rowWords;
+        for (int w = to >>> 6; w >= from >>> 6; w--) {
+            long walls = destructibleBlocks ? indestructible[base + w] | destructible[base + w] : indestructible[base + w];
+            if (w == from >>> 6) walls &= -1L << from;
+            if (w == to >>> 6) walls &= -1L >>> (63 - (to & 63));
+            if (walls != 0) return (w << 6) + 63 - Long.numberOfLeadingZeros(walls);
+        }
+        return from - 1;
+    }
+
+    /**
+     * Crée l'index d'occupation (bombes, bonus, joueurs) associé à cette grille.
+     * @param playerCapacity nombre maximal de joueurs indexés
+     * @return l'index créé
+     */
+    public Occupancy initOccupancy(int playerCapacity) {
+        occupancy = new Occupancy(width, height, playerCapacity);
+        return occupancy;
+    }
+
+    /** @return index d'occupation de la grille, ou null s'il n'a pas été initialisé */
+    public Occupancy getOccupancy() { return occupancy; }
+
+    /**
+     * Vérifie si les coordonnées (x,y) sont dans la grille.
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
\ No newline at end of file
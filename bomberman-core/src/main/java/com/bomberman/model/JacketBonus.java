@@ -15,6 +15,13 @@ public class JacketBonus extends Bonus {
         super(x, y, "/images/items/jacket_bonus.png");
     }
 
+    @Override
+    public Bonus copy() {
+        JacketBonus copy = new JacketBonus(x, y);
+        copy.setCollected(collected);
+        return copy;
+    }
+
     /**
      * Applique le bonus au joueur (invincibilité temporaire).
      * @param player joueur cible
@@ -0,0 +1,92 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Histogramme de durées à cases de largeur fixe, pour suivre des latences (entrée → affichage,
+ * attente des commandes) et en tirer des percentiles sans garder chaque mesure.
+ * <p>
+ * Une mesure coûte une division et un incrément ; au-delà de la dernière case, elle est comptée
+ * dans une case de débordement et seul le maximum garde sa valeur exacte. Un percentile est
+ * donné par la borne haute de sa case (jamais au-delà du maximum observé).
+ * Non synchronisé : un seul thread enregistre.
+ */
+public class LatencyHistogram {
+    /** Largeur de case par défaut : 250 µs. */
+    public static final long DEFAULT_BUCKET_NANOS = 250_000L;
+    /** Nombre de cases par défaut : jusqu'à 2 s. */
+    public static final int DEFAULT_BUCKETS = 8_000;
+
+    private final long bucketNanos;
+    private final long[] counts;
+    private long overflow;
+    private long count;
+    private long sum;
+    private long max;
+
+    /** Crée un histogramme de {@link #DEFAULT_BUCKETS} cases de {@link #DEFAULT_BUCKET_NANOS}. */
+    public LatencyHistogram() {
+        this(DEFAULT_BUCKET_NANOS, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * @param bucketNanos largeur d'une case en nanosecondes
+     * @param buckets nombre de cases avant débordement
+     */
+    public LatencyHistogram(long bucketNanos, int buckets) {
+        if (bucketNanos <= 0) throw new IllegalArgumentException("bucketNanos doit être positif : " + bucketNanos);
+        if (buckets <= 0) throw new IllegalArgumentException("buckets doit être positif : " + buckets);
+        this.bucketNanos = bucketNanos;
+        this.counts = new long[buckets];
+    }
+
+    /** Enregistre une durée (les valeurs négatives comptent pour 0). */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        long bucket = nanos / bucketNanos;
+        if (bucket < counts.length) counts[(int) bucket]++;
+        else overflow++;
+        count++;
+        sum += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    /** @return nombre de mesures */
+    public long count() { return count; }
+
+    /** @return nombre de mesures au-delà de la dernière case */
+    public long overflowCount() { return overflow; }
+
+    /** @return plus grande mesure, en nanosecondes */
+    public long max() { return max; }
+
+    /** @return moyenne des mesures en nanosecondes, 0 sans mesure */
+    public long mean() { return count == 0 ? 0 : sum / count; }
+
+    /**
+     * @param percentile entre 0 et 100
+     * @return durée sous laquelle tombent {@code percentile} % des mesures, en nanosecondes (0 sans mesure)
+     */
+    public long percentile(double percentile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(max, (i + 1) * bucketNanos);
+        }
+        return max;
+    }
+
+    /** Efface toutes les mesures. */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        overflow = count = sum = max = 0;
+    }
+
+    /** @return résumé « n, p50, p95, p99, max » en millisecondes */
+    public String summary() {
+        return String.format("n=%d p50=%.1f ms p95=%.1f ms p99=%.1f ms max=%.1f ms",
+                count, percentile(50) / 1e6, percentile(95) / 1e6, percentile(99) / 1e6, max / 1e6);
+    }
+}
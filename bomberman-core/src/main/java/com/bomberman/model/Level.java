@@ -0,0 +1,204 @@
+package com.bomberman.model;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Représente un niveau du jeu Bomberman, incluant son nom, ses images et sa disposition.
+ */
+public class Level {
+    private final String name;
+    private final String groundImagePath;
+    private final String wallIndestructibleImagePath;
+    private final String wallDestructibleImagePath;
+    private int[][] layout; // 0: sol, 1: mur indestructible, 2: destructible
+    private final CellChunks tiles; // disposition chargée par blocs (null si fournie en tableau)
+
+    /**
+     * Construit un niveau avec ses propriétés.
+     * @param name nom du niveau
+     * @param groundImagePath chemin de l'image du sol
+     * @param wallIndestructibleImagePath chemin image mur indestructible
+     * @param wallDestructibleImagePath chemin image mur destructible
+     * @param layout disposition du niveau
+     */
+    public Level(String name, String groundImagePath, String wallIndestructibleImagePath, String wallDestructibleImagePath, int[][] layout) {
+        this.name = name;
+        this.groundImagePath = normalizeResourcePath(groundImagePath);
+        this.wallIndestructibleImagePath = normalizeResourcePath(wallIndestructibleImagePath);
+        this.wallDestructibleImagePath = normalizeResourcePath(wallDestructibleImagePath);
+        this.layout = layout;
+        this.tiles = null;
+    }
+
+    /**
+     * Construit un niveau dont la disposition est stockée par blocs compacts (grandes cartes).
+     */
+    private Level(String name, String groundImagePath, String wallIndestructibleImagePath, String wallDestructibleImagePath, CellChunks tiles) {
+        this.name = name;
+        this.groundImagePath = normalizeResourcePath(groundImagePath);
+        this.wallIndestructibleImagePath = normalizeResourcePath(wallIndestructibleImagePath);
+        this.wallDestructibleImagePath = normalizeResourcePath(wallDestructibleImagePath);
+        this.layout = null;
+        this.tiles = tiles;
+    }
+
+    /** @return nom du niveau */
+    public String getName() { return name; }
+    /** @return chemin image sol */
+    public String getGroundImagePath() { return groundImagePath; }
+    /** @return chemin image mur indestructible */
+    public String getWallIndestructibleImagePath() { return wallIndestructibleImagePath; }
+    /** @return chemin image mur destructible */
+    public String getWallDestructibleImagePath() { return wallDestructibleImagePath; }
+    /**
+     * @return disposition du niveau ; pour un niveau chargé par blocs, le tableau est construit
+     *         au premier appel (coûteux sur une très grande carte, préférer {@link #getTile(int, int)})
+     */
+    public int[][] getLayout() {
+        if (layout == null) {
+            int[][] built = new int[tiles.getHeight()][tiles.getWidth()];
+            for (int y = 0; y < built.length; y++) {
+                for (int x = 0; x < built[y].length; x++) built[y][x] = tiles.get(x, y);
+            }
+            layout = built;
+        }
+        return layout;
+    }
+
+    /** @return largeur de la disposition (longueur de la première ligne) */
+    public int getWidth() {
+        if (tiles != null) return tiles.getWidth();
+        return layout.length > 0 ? layout[0].length : 0;
+    }
+
+    /** @return hauteur de la disposition (nombre de lignes) */
+    public int getHeight() {
+        return tiles != null ? tiles.getHeight() : layout.length;
+    }
+
+    /**
+     * @return valeur de la disposition en (x,y) (0: sol, 1: mur indestructible, 2: destructible)
+     */
+    public int getTile(int x, int y) {
+        return tiles != null ? tiles.get(x, y) : layout[y][x];
+    }
+
+    /** @return disposition stockée par blocs, ou null si le niveau a été construit avec un tableau */
+    CellChunks getTiles() { return tiles; }
+
+    /**
+     * @return empreinte de la disposition, égale à {@code Arrays.deepHashCode(getLayout())}
+     *         mais calculée sans construire le tableau
+     */
+    public int layoutHash() {
+        if (tiles == null) return Arrays.deepHashCode(layout);
+        int h = 1;
+        for (int y = 0; y < tiles.getHeight(); y++) {
+            int row = 1;
+            for (int x = 0; x < tiles.getWidth(); x++) row = 31 * row + tiles.get(x, y);
+            h = 31 * h + row;
+        }
+        return h;
+    }
+
+    /**
+     * Crée un niveau à partir d'un fichier .level.
+     * @param file chemin du fichier
+     * @return le niveau chargé
+     * @throws IOException en cas d'erreur de lecture
+     */
+    public static Level fromFile(Path file) throws IOException {
+        try (BufferedReader r = Files.newBufferedReader(file)) {
+            String name = "", ground = "", ind = "", des = "";
+            boolean hasLayout = false;
+            String line;
+            while ((line = r.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith("name:")) name = line.substring(5).trim();
+                else if (line.startsWith("groundImage:")) ground = line.substring(12).trim();
+                else if (line.startsWith("wallIndestructibleImage:")) ind = line.substring(25).trim();
+                else if (line.startsWith("wallDestructibleImage:")) des = line.substring(22).trim();
+                else if (line.startsWith("layout:")) { hasLayout = true; break; }
+            }
+            if (!hasLayout) throw new IOException("Fichier de niveau invalide (pas de layout)");
+            return new Level(name, ground, ind, des, readLayout(r));
+        }
+    }
+
+    /**
+     * Lit les lignes de la disposition une à une, directement dans des blocs compacts :
+     * aucune copie complète de la carte n'est construite, même pour une très grande carte.
+     */
+    private static CellChunks readLayout(BufferedReader r) throws IOException {
+        String line = r.readLine();
+        if (line == null) throw new IOException("Fichier de niveau invalide (layout vide)");
+        line = line.trim();
+        int cols = line.length();
+        CellChunks tiles = new CellChunks(cols, 0, 0);
+        int row = 0;
+        do {
+            if (row > 0) line = line.trim();
+            if (line.length() < cols) throw new IOException("Ligne " + row + " du layout trop courte");
+            tiles.ensureHeight(row + 1, 0);
+            for (int c = 0; c < cols; c++) {
+                int v = line.charAt(c) - '0';
+                if (v < 0 || v > 9) throw new IOException("Caractère invalide dans le layout : " + line.charAt(c));
+                tiles.set(c, row, v);
+            }
+            row++;
+        } while ((line = r.readLine()) != null);
+        return tiles;
+    }
+
+    /**
+     * Sauvegarde le niveau dans un fichier .level.
+     * @param file chemin du fichier de destination
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void saveToFile(Path file) throws IOException {
+        try (BufferedWriter w = Files.newBufferedWriter(file)) {
+            w.write("name: " + name + "\n");
+            w.write("groundImage: " + groundImagePath + "\n");
+            w.write("wallIndestructibleImage: " + wallIndestructibleImagePath + "\n");
+            w.write("wallDestructibleImage: " + wallDestructibleImagePath + "\n");
+            w.write("layout:\n");
+            for (int y = 0; y < getHeight(); y++) {
+                for (int x = 0; x < getWidth(); x++) w.write(Integer.toString(getTile(x, y)));
+                w.write("\n");
+            }
+        }
+    }
+
+    /**
+     * Charge tous les niveaux d'un dossier donné.
+     * @param dir dossier contenant les fichiers .level
+     * @return liste des niveaux chargés
+     * @throws IOException en cas de problème de lecture
+     */
+    public static List<Level> loadLevelsFromDirectory(Path dir) throws IOException {
+        List<Level> levels = new ArrayList<>();
+        if (!Files.exists(dir)) return levels;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.level")) {
+            for (Path f : stream) {
+                try {
+                    levels.add(Level.fromFile(f));
+                } catch (Exception ignored) {
+                }
+            }
+        }
+        return levels;
+    }
+
+    /**
+     * Normalise le chemin d'une ressource image.
+     * @param path chemin initial
+     * @return chemin normalisé commençant par /
+     */
+    private static String normalizeResourcePath(String path) {
+        if (path == null) return null;
+        String p = path.startsWith("/") ? path : "/" + path;
+        return p;
+    }
+}
\ No newline at end of file
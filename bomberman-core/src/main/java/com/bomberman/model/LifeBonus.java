@@ -11,6 +11,13 @@ public class LifeBonus extends Bonus {
         super(x, y, "/images/items/life_bonus.png");
     }
 
+    @Override
+    public Bonus copy() {
+        LifeBonus copy = new LifeBonus(x, y);
+        copy.setCollected(collected);
+        return copy;
+    }
+
     /**
      * Applique le bonus au joueur (ajoute une vie si < 3).
      * @param player joueur cible
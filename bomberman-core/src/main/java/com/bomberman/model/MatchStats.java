@@ -0,0 +1,91 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Statistiques d'une partie tenues à partir de son flux d'événements : bombes posées, bonus
+ * ramassés, coups reçus et tick d'élimination de chaque joueur, murs détruits.
+ * <p>
+ * Elles se lisent avec leur propre {@link GameEvents.Cursor}, depuis n'importe quel thread
+ * (un seul à la fois), sans toucher à la partie. Les compteurs sont alloués à la création.
+ */
+public class MatchStats {
+    private final GameEvents.Cursor cursor;
+    private final GameEvents.Handler handler = this::onEvent;
+    private final int[] bombsPlaced;
+    private final int[] bonusesCollected;
+    private final int[] hitsTaken;
+    private final long[] diedAtTick;
+    private int wallsDestroyed;
+    private int bonusesSpawned;
+    private int winnerSlot = -1;
+    private long endTick = -1;
+
+    /**
+     * @param events flux de la partie, lu à partir du prochain événement publié
+     * @param playerCount nombre de joueurs de la partie
+     */
+    public MatchStats(GameEvents events, int playerCount) {
+        this.cursor = events.newCursor();
+        this.bombsPlaced = new int[playerCount];
+        this.bonusesCollected = new int[playerCount];
+        this.hitsTaken = new int[playerCount];
+        this.diedAtTick = new long[playerCount];
+        Arrays.fill(diedAtTick, -1);
+    }
+
+    /**
+     * Lit les événements publiés depuis le dernier appel.
+     * @return nombre d'événements lus
+     */
+    public int update() {
+        return cursor.poll(handler);
+    }
+
+    private void onEvent(GameEvents.Type type, long tick, int slot, int x, int y, int value) {
+        switch (type) {
+            case BOMB_PLACED -> { if (slot >= 0) bombsPlaced[slot]++; }
+            case WALL_DESTROYED -> wallsDestroyed++;
+            case BONUS_SPAWNED -> bonusesSpawned++;
+            case BONUS_COLLECTED -> bonusesCollected[slot]++;
+            case PLAYER_HIT -> hitsTaken[slot]++;
+            case PLAYER_DIED -> diedAtTick[slot] = tick;
+            case MATCH_ENDED -> {
+                winnerSlot = slot;
+                endTick = tick;
+            }
+            default -> { }
+        }
+    }
+
+    public int getBombsPlaced(int slot) { return bombsPlaced[slot]; }
+    public int getBonusesCollected(int slot) { return bonusesCollected[slot]; }
+    public int getHitsTaken(int slot) { return hitsTaken[slot]; }
+
+    /** @return tick d'élimination du joueur, -1 s'il est encore en vie */
+    public long getDiedAtTick(int slot) { return diedAtTick[slot]; }
+
+    public int getWallsDestroyed() { return wallsDestroyed; }
+    public int getBonusesSpawned() { return bonusesSpawned; }
+
+    /** @return emplacement du vainqueur, -1 sans vainqueur ou si la partie n'est pas finie */
+    public int getWinnerSlot() { return winnerSlot; }
+
+    /** @return tick de fin de partie, -1 si elle n'est pas finie */
+    public long getEndTick() { return endTick; }
+
+    /** @return nombre d'événements écrasés avant d'avoir été lus (statistiques alors incomplètes) */
+    public long getMissedEvents() { return cursor.missed(); }
+
+    /** @return résumé sur une ligne : totaux de la partie */
+    public String summary() {
+        int bombs = 0, collected = 0, deaths = 0;
+        for (int i = 0; i < bombsPlaced.length; i++) {
+            bombs += bombsPlaced[i];
+            collected += bonusesCollected[i];
+            if (diedAtTick[i] >= 0) deaths++;
+        }
+        return "bombes=" + bombs + " murs=" + wallsDestroyed + " bonus=" + collected + "/" + bonusesSpawned
+                + " éliminations=" + deaths + (cursor.missed() > 0 ? " (événements perdus : " + cursor.missed() + ")" : "");
+    }
+}
@@ -0,0 +1,134 @@
+package com.bomberman.model;
+
+/**
+ * Index d'occupation des cases de la grille : bombe, bonus et joueurs présents sur chaque case.
+ * Tenu à jour à chaque pose, déplacement, ramassage et explosion pour que
+ * les recherches par coordonnées se fassent en O(1) au lieu de parcourir les listes.
+ * <p>
+ * Les joueurs sont repérés par leur emplacement ({@link Player#getSlot()}) dans un masque
+ * de bits par case, sur autant de mots {@code long} que nécessaire.
+ */
+public class Occupancy {
+    private final int width;
+    private final int height;
+    private final Bomb[] bombs;
+    private final Bonus[] bonuses;
+    private final int playerWords;
+    private final long[] playerMasks;
+
+    /**
+     * @param width largeur de la grille
+     * @param height hauteur de la grille
+     * @param playerCapacity nombre maximal de joueurs indexés
+     */
+    public Occupancy(int width, int height, int playerCapacity) {
+        this.width = width;
+        this.height = height;
+        this.bombs = new Bomb[width * height];
+        this.bonuses = new Bonus[width * height];
+        this.playerWords = Math.max(1, (playerCapacity + 63) >>> 6);
+        this.playerMasks = new long[width * height * playerWords];
+    }
+
+    /** @return nombre de mots {@code long} du masque de joueurs de chaque case */
+    public int getPlayerWords() { return playerWords; }
+
+    private boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    private int cell(int x, int y) {
+        return y * width + x;
+    }
+
+    // --- Bombes ---
+
+    /** @return la bombe posée en (x,y), ou null */
+    public Bomb getBombAt(int x, int y) {
+        return inBounds(x, y) ? bombs[cell(x, y)] : null;
+    }
+
+    /** @return true si une bombe est posée en (x,y) */
+    public boolean hasBombAt(int x, int y) {
+        return getBombAt(x, y) != null;
+    }
+
+    /**
+     * Enregistre une bombe sur sa case.
+     * @return false si la case est hors grille ou déjà occupée par une autre bombe
+     */
+    public boolean putBomb(Bomb bomb) {
+        int x = bomb.getX(), y = bomb.getY();
+        if (!inBounds(x, y) || bombs[cell(x, y)] != null) return false;
+        bombs[cell(x, y)] = bomb;
+        return true;
+    }
+
+    /** Retire la bombe de sa case (si c'est bien elle qui y est indexée). */
+    public void removeBomb(Bomb bomb) {
+        int x = bomb.getX(), y = bomb.getY();
+        if (inBounds(x, y) && bombs[cell(x, y)] == bomb) bombs[cell(x, y)] = null;
+    }
+
+    // --- Bonus ---
+
+    /** @return le bonus posé en (x,y), ou null */
+    public Bonus getBonusAt(int x, int y) {
+        return inBounds(x, y) ? bonuses[cell(x, y)] : null;
+    }
+
+    /**
+     * Enregistre un bonus sur sa case.
+     * @return false si la case est hors grille ou déjà occupée par un autre bonus
+     */
+    public boolean putBonus(Bonus bonus) {
+        int x = bonus.getX(), y = bonus.getY();
+        if (!inBounds(x, y) || bonuses[cell(x, y)] != null) return false;
+        bonuses[cell(x, y)] = bonus;
+        return true;
+    }
+
+    /** Retire le bonus de sa case (si c'est bien lui qui y est indexé). */
+    public void removeBonus(Bonus bonus) {
+        int x = bonus.getX(), y = bonus.getY();
+        if (inBounds(x, y) && bonuses[cell(x, y)] == bonus) bonuses[cell(x, y)] = null;
+    }
+
+    // --- Joueurs ---
+
+    /** Marque le joueur d'emplacement {@code slot} comme présent en (x,y). */
+    public void addPlayer(int slot, int x, int y) {
+        if (!inBounds(x, y)) return;
+        playerMasks[cell(x, y) * playerWords + (slot >>> 6)] |= 1L << slot;
+    }
+
+    /** Retire le joueur d'emplacement {@code slot} de la case (x,y). */
+    public void removePlayer(int slot, int x, int y) {
+        if (!inBounds(x, y)) return;
+        playerMasks[cell(x, y) * playerWords + (slot >>> 6)] &= ~(1L << slot);
+    }
+
+    /** Déplace le joueur d'emplacement {@code slot} de (fromX,fromY) vers (toX,toY). */
+    public void movePlayer(int slot, int fromX, int fromY, int toX, int toY) {
+        removePlayer(slot, fromX, fromY);
+        addPlayer(slot, toX, toY);
+    }
+
+    /**
+     * @param word index du mot (0 pour les emplacements 0 à 63, 1 pour 64 à 127, ...)
+     * @return le mot du masque des joueurs présents en (x,y), 0 si hors grille
+     */
+    public long getPlayerMask(int x, int y, int word) {
+        return inBounds(x, y) ? playerMasks[cell(x, y) * playerWords + word] : 0L;
+    }
+
+    /** @return true si au moins un joueur indexé se trouve en (x,y) */
+    public boolean hasPlayerAt(int x, int y) {
+        if (!inBounds(x, y)) return false;
+        int base = cell(x, y) * playerWords;
+        for (int w = 0; w < playerWords; w++) {
+            if (playerMasks[base + w] != 0) return true;
+        }
+        return false;
+    }
+}
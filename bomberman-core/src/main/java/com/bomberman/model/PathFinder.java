@@ -0,0 +1,171 @@
+package com.bomberman.model;
+
+/**
+ * Recherche de chemin A* des IA, partagée par toutes les IA d'une partie : ses tableaux suivent
+ * la taille de la carte, pas le nombre d'IA, et rien n'est alloué en régime établi.
+ * <p>
+ * Les cases sont des entiers {@code y * largeur + x}. Les marques « vue » et « fermée » portent le
+ * numéro de la recherche en cours, si bien qu'une nouvelle recherche n'a rien à effacer. Le tas
+ * binaire est indexé : chaque case y figure au plus une fois et sa position est connue, de sorte
+ * qu'un meilleur chemin vers une case déjà ouverte fait remonter son entrée au lieu d'en empiler
+ * une seconde.
+ * <p>
+ * Le coût d'un pas dépend de la carte des dangers : une case qu'un souffle atteindra coûte
+ * {@link #DANGER_COST} pas de plus, et une case qui explose au moment où l'IA y passerait
+ * (à un tick près) est interdite. Le chemin complet est rendu, pour que l'IA le suive sur
+ * plusieurs ticks sans refaire la recherche.
+ */
+final class PathFinder {
+    /** Surcoût d'une case menacée par un souffle mais traversée avant ou après lui. */
+    static final int DANGER_COST = 4;
+
+    private static final int[][] DIRS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    private int stamp = 0;
+    private int[] seenStamp = new int[0];
+    private int[] closedStamp = new int[0];
+    private int[] gScore = new int[0];
+    private int[] steps = new int[0];      // nombre de pas depuis le départ (tick d'arrivée)
+    private int[] parentCell = new int[0];
+    private int[] heapIndex = new int[0];  // position de la case dans le tas, -1 si elle n'y est plus
+    private int[] heapCells = new int[0];
+    private int[] heapKeys = new int[0];
+    private int heapSize;
+    private int lastExpansions;
+
+    /**
+     * @param due ticks avant le premier souffle sur la case ({@link DangerMap#SAFE} si aucun)
+     * @param arrival ticks avant que l'IA y arrive
+     * @return true si l'IA n'y est pas au moment de l'explosion (à un tick près)
+     */
+    static boolean passableAt(int due, int arrival) {
+        return due == DangerMap.SAFE || arrival < due - 1 || arrival > due + 1;
+    }
+
+    /**
+     * Cherche un chemin de (sx,sy) à (gx,gy) par les cases libres et les murs destructibles
+     * (que l'IA cassera en chemin).
+     * @param danger carte des dangers du tick
+     * @param maxExpansions nombre maximal de cases fermées avant abandon
+     * @param path reçoit les cases du chemin, du premier pas jusqu'au but inclus
+     * @return nombre de pas du chemin (0 si l'IA est déjà sur le but), -1 si aucun chemin
+     *         n'a été trouvé ou s'il ne tient pas dans {@code path}
+     */
+    int findPath(Grid grid, DangerMap danger, int sx, int sy, int gx, int gy, int maxExpansions, int[] path) {
+        int w = grid.getWidth();
+        begin(w * grid.getHeight());
+        int start = sy * w + sx, goal = gy * w + gx;
+        seenStamp[start] = stamp;
+        gScore[start] = 0;
+        steps[start] = 0;
+        parentCell[start] = -1;
+        push(start, Math.abs(sx - gx) + Math.abs(sy - gy));
+        int expansions = 0;
+        while (heapSize > 0 && expansions < maxExpansions) {
+            int cell = pop();
+            closedStamp[cell] = stamp;
+            expansions++;
+            if (cell == goal) {
+                lastExpansions = expansions;
+                return writePath(cell, path);
+            }
+            int x = cell % w, y = cell / w;
+            int arrival = steps[cell] + 1;
+            for (int[] dir : DIRS) {
+                int nx = x + dir[0], ny = y + dir[1];
+                if (!grid.isInBounds(nx, ny)) continue;
+                int next = ny * w + nx;
+                if (closedStamp[next] == stamp) continue;
+                Grid.CellType type = grid.getCell(nx, ny);
+                if (type != Grid.CellType.EMPTY && type != Grid.CellType.DESTRUCTIBLE) continue;
+                int due = danger.ticksUntilBlast(nx, ny);
+                if (!passableAt(due, arrival)) continue;
+                int g = gScore[cell] + 1 + (due == DangerMap.SAFE ? 0 : DANGER_COST);
+                if (seenStamp[next] == stamp && g >= gScore[next]) continue;
+                gScore[next] = g;
+                steps[next] = arrival;
+                parentCell[next] = cell;
+                int key = g + Math.abs(nx - gx) + Math.abs(ny - gy);
+                if (seenStamp[next] == stamp) {
+                    decreaseKey(next, key);
+                } else {
+                    seenStamp[next] = stamp;
+                    push(next, key);
+                }
+            }
+        }
+        lastExpansions = expansions;
+        return -1;
+    }
+
+    /** @return nombre de cases fermées par la dernière recherche */
+    int lastExpansions() {
+        return lastExpansions;
+    }
+
+    private int writePath(int goal, int[] path) {
+        int length = steps[goal];
+        if (length > path.length) return -1;
+        for (int c = goal, i = length - 1; i >= 0; c = parentCell[c], i--) path[i] = c;
+        return length;
+    }
+
+    private void begin(int cells) {
+        if (seenStamp.length < cells) {
+            seenStamp = new int[cells];
+            closedStamp = new int[cells];
+            gScore = new int[cells];
+            steps = new int[cells];
+            parentCell = new int[cells];
+            heapIndex = new int[cells];
+            heapCells = new int[cells];
+            heapKeys = new int[cells];
+            stamp = 0;
+        }
+        heapSize = 0;
+        stamp++;
+    }
+
+    private void push(int cell, int key) {
+        siftUp(heapSize++, cell, key);
+    }
+
+    /** Fait remonter une case déjà dans le tas dont la clé a diminué. */
+    private void decreaseKey(int cell, int key) {
+        siftUp(heapIndex[cell], cell, key);
+    }
+
+    private void siftUp(int i, int cell, int key) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapKeys[parent] <= key) break;
+            place(i, heapCells[parent], heapKeys[parent]);
+            i = parent;
+        }
+        place(i, cell, key);
+    }
+
+    private int pop() {
+        int top = heapCells[0];
+        heapIndex[top] = -1;
+        int cell = heapCells[--heapSize], key = heapKeys[heapSize];
+        if (heapSize == 0) return top;
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) child++;
+            if (heapKeys[child] >= key) break;
+            place(i, heapCells[child], heapKeys[child]);
+            i = child;
+        }
+        place(i, cell, key);
+        return top;
+    }
+
+    private void place(int i, int cell, int key) {
+        heapCells[i] = cell;
+        heapKeys[i] = key;
+        heapIndex[cell] = i;
+    }
+}
@@ -0,0 +1,311 @@
+package com.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Représente un joueur (humain ou IA) dans le jeu Bomberman.
+ */
+public class Player {
+    private final int id;
+    private int x, y;
+    private boolean alive = true;
+    private int lives = 3;
+    private int bombRange = 1;   // portée de base des bombes (hors effets)
+    private int maxBombs = 1;    // bombes simultanées autorisées
+    private int activeBombCount = 0; // bombes posées et pas encore explosées (tenu par la partie)
+    private final List<ActiveBonus> activeBonuses = new ArrayList<>();
+    private final List<ActiveBonus> spareBonuses = new ArrayList<>(); // réutilisés par copyStateFrom
+    private final boolean isHuman;
+    private int slot = -1;       // emplacement dans l'index d'occupation (-1 si non indexé)
+    private TimingWheel timers;  // échéancier de la partie pour l'expiration des bonus (null si seul)
+    private List<Bomb> bombPool; // bombes explosées de la partie, réutilisées par dropBomb (null si seul)
+    private EntityStore store;   // colonnes de la partie tenues à jour par le joueur (null si désactivées)
+
+    // --- Effets actifs, tenus à jour à chaque ajout et expiration ---
+    private static final int EFFECT_TYPES = ActiveBonus.Type.values().length;
+    private int effectMask = 0;                        // bit Type.mask() levé si au moins un effet du type est actif
+    private final int[] effectCounts = new int[EFFECT_TYPES];
+    private int extraRange = 0;                        // portée ajoutée par les effets FLAME actifs
+
+    /**
+     * Crée un joueur.
+     * @param id identifiant du joueur (1, 2, ...)
+     * @param startX position X initiale
+     * @param startY position Y initiale
+     * @param isHuman true si humain, false si IA
+     */
+    public Player(int id, int startX, int startY, boolean isHuman) {
+        this.id = id;
+        this.x = startX;
+        this.y = startY;
+        this.isHuman = isHuman;
+    }
+
+    /** @return identifiant du joueur */
+    public int getId() { return id; }
+    /** @return position X */
+    public int getX() { return x; }
+    /** @return position Y */
+    public int getY() { return y; }
+    /** @return true si vivant */
+    public boolean isAlive() { return alive; }
+    /** @return nombre de vies restantes */
+    public int getLives() { return lives; }
+    /** @return true si joueur humain */
+    public boolean isHuman() { return isHuman; }
+    /** @return true si IA */
+    public boolean isAI() { return !isHuman; }
+
+    /** @return emplacement du joueur dans l'index d'occupation, -1 s'il n'est pas indexé */
+    public int getSlot() { return slot; }
+    /** Définit l'emplacement du joueur dans l'index d'occupation */
+    void setSlot(int slot) { this.slot = slot; }
+
+    /**
+     * Rattache le joueur à sa partie : l'expiration des bonus temporaires est confiée à
+     * l'échéancier (ils ne sont alors plus décomptés par {@link #updateActiveBonuses()})
+     * et les bombes posées sont reprises dans la réserve de bombes explosées.
+     */
+    void attachToGame(TimingWheel timers, List<Bomb> bombPool) {
+        this.timers = timers;
+        this.bombPool = bombPool;
+    }
+
+    /** Rattache le joueur aux colonnes de la partie : ses déplacements et sa mort y sont recopiés. */
+    void attachStore(EntityStore store) { this.store = store; }
+
+    /** @return colonnes de la partie, ou null si elles ne sont pas activées */
+    EntityStore getStore() { return store; }
+
+    /** Tue le joueur (plus vivant) */
+    public void kill() {
+        this.alive = false;
+        if (store != null) store.setAlive(slot, false);
+    }
+
+    /** Inflige des dégâts et gère la mort éventuelle */
+    public void takeDamage() {
+        if (lives > 0 && --lives == 0) kill();
+    }
+
+    /**
+     * Déplace le joueur si la case est vide.
+     * @param dx déplacement en X
+     * @param dy déplacement en Y
+     * @param grid grille du jeu
+     */
+    public void move(int dx, int dy, Grid grid) {
+        if (!alive) return;
+        int newX = x + dx, newY = y + dy;
+        if (grid.isInBounds(newX, newY) && grid.getCell(newX, newY) == Grid.CellType.EMPTY) {
+            Occupancy occupancy = grid.getOccupancy();
+            if (occupancy != null && slot >= 0) occupancy.movePlayer(slot, x, y, newX, newY);
+            this.x = newX;
+            this.y = newY;
+            if (store != null) store.movePlayer(slot, newX, newY);
+        }
+    }
+
+    /** Déplacements utilitaires */
+    public void moveUp(Grid grid)    { move(0, -1, grid); }
+    public void moveDown(Grid grid)  { move(0,  1, grid); }
+    public void moveLeft(Grid grid)  { move(-1, 0, grid); }
+    public void moveRight(Grid grid) { move(1,  0, grid); }
+
+    /** @return portée des bombes : portée de base plus celle des effets FLAME actifs (O(1)) */
+    public int getBombRange() { return bombRange + extraRange; }
+    /** Modifie la portée de base des bombes (les effets FLAME actifs s'y ajoutent) */
+    public void setBombRange(int bombRange) { this.bombRange = bombRange; }
+    /** @return nombre max de bombes simultanées */
+    public int getMaxBombs() { return maxBombs; }
+    /** Modifie le nombre max de bombes */
+    public void setMaxBombs(int maxBombs) { this.maxBombs = maxBombs; }
+    /** @return liste des bonus actifs */
+    public List<ActiveBonus> getActiveBonuses() { return activeBonuses; }
+    /** @return nombre de bombes du joueur posées dans la partie et pas encore explosées */
+    public int getActiveBombCount() { return activeBombCount; }
+
+    /** @return true si le joueur est vivant et n'a pas atteint sa limite de bombes actives (O(1)) */
+    public boolean canDropBomb() { return alive && activeBombCount < maxBombs; }
+
+    /** Compte une bombe du joueur entrée dans la partie. */
+    void onBombPlaced() { activeBombCount++; }
+
+    /** Décompte une bombe du joueur qui vient d'exploser. */
+    void onBombExploded() {
+        if (activeBombCount > 0) activeBombCount--;
+    }
+
+    /**
+     * Pose une bombe si le joueur n'a pas atteint sa limite de bombes actives.
+     * @param timer durée avant explosion
+     * @param activeBombs liste des bombes déjà posées par ce joueur
+     * @return nouvelle bombe ou null si limite atteinte
+     */
+    public Bomb dropBomb(int timer, List<Bomb> activeBombs) {
+        return activeBombs.size() < maxBombs ? newBomb(timer) : null;
+    }
+
+    /**
+     * Pose une bombe si le joueur n'a pas atteint sa limite, d'après le compteur de bombes
+     * actives tenu par la partie. La bombe est comptée quand la partie l'indexe.
+     * @param timer durée avant explosion
+     * @return nouvelle bombe ou null si limite atteinte
+     */
+    public Bomb dropBomb(int timer) {
+        return activeBombCount < maxBombs ? newBomb(timer) : null;
+    }
+
+    private Bomb newBomb(int timer) {
+        if (bombPool == null || bombPool.isEmpty()) return new Bomb(this.x, this.y, timer, getBombRange(), this);
+        Bomb bomb = bombPool.remove(bombPool.size() - 1);
+        bomb.set(this.x, this.y, timer, getBombRange(), this);
+        return bomb;
+    }
+
+    /**
+     * Recopie l'état de jeu d'un autre joueur (position, vies, bonus, ...) dans celui-ci,
+     * en réutilisant ses objets {@link ActiveBonus} plutôt qu'en en créant de nouveaux.
+     * @param source joueur dont l'état est recopié
+     */
+    void copyStateFrom(Player source) {
+        this.x = source.x;
+        this.y = source.y;
+        this.alive = source.alive;
+        this.lives = source.lives;
+        this.bombRange = source.bombRange;
+        this.maxBombs = source.maxBombs;
+        this.activeBombCount = source.activeBombCount;
+        this.effectMask = source.effectMask;
+        System.arraycopy(source.effectCounts, 0, effectCounts, 0, EFFECT_TYPES);
+        this.extraRange = source.extraRange;
+        this.slot = source.slot;
+        int n = source.activeBonuses.size();
+        while (activeBonuses.size() > n) {
+            spareBonuses.add(activeBonuses.remove(activeBonuses.size() - 1));
+        }
+        for (int i = 0; i < n; i++) {
+            ActiveBonus src = source.activeBonuses.get(i);
+            if (i < activeBonuses.size()) {
+                activeBonuses.get(i).copyFrom(src);
+            } else if (!spareBonuses.isEmpty()) {
+                ActiveBonus reused = spareBonuses.remove(spareBonuses.size() - 1);
+                reused.copyFrom(src);
+                activeBonuses.add(reused);
+            } else {
+                activeBonuses.add(new ActiveBonus(src));
+            }
+        }
+    }
+
+    /**
+     * Met à jour la durée des bonus actifs et retire ceux expirés.
+     * Les bonus programmés dans l'échéancier d'une partie expirent sans cet appel.
+     */
+    public void updateActiveBonuses() {
+        for (int i = activeBonuses.size() - 1; i >= 0; i--) {
+            ActiveBonus ab = activeBonuses.get(i);
+            if (ab.getExpiryEvent() >= 0) continue;
+            ab.tick(ActiveBonus.TICK_SECONDS);
+            if (ab.isExpired()) {
+                expireBonus(ab);
+            }
+        }
+    }
+
+    /**
+     * Retire un bonus actif et annule son effet (déclenché par l'échéancier à son expiration).
+     */
+    void expireBonus(ActiveBonus ab) {
+        for (int i = 0; i < activeBonuses.size(); i++) {
+            if (activeBonuses.get(i) == ab) {
+                activeBonuses.remove(i);
+                if (timers != null) timers.cancel(ab.getExpiryEvent());
+                ab.expire();
+                applyEffect(ab, -1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Programme l'expiration d'un bonus actif dans l'échéancier de la partie, s'il y en a un.
+     */
+    void scheduleExpiry(ActiveBonus ab, long expiryTick) {
+        if (timers == null) return;
+        ab.scheduleExpiry(expiryTick, timers.schedule(expiryTick, Game.EVENT_BONUS_EXPIRY, slot, ab));
+    }
+
+    /**
+     * Ajoute un effet selon la règle de cumul de son type : un effet {@link ActiveBonus.Stacking#REFRESH}
+     * déjà actif est prolongé au lieu d'être dupliqué.
+     */
+    private void addActiveBonus(ActiveBonus ab) {
+        ActiveBonus.Type type = ab.getType();
+        if (type.getStacking() == ActiveBonus.Stacking.REFRESH && effectCounts[type.ordinal()] > 0) {
+            refreshEffect(findActive(type), ab);
+            return;
+        }
+        activeBonuses.add(ab);
+        applyEffect(ab, 1);
+        if (timers != null) scheduleExpiry(ab, timers.getCurrentTick() + ab.remainingTicks());
+    }
+
+    private void refreshEffect(ActiveBonus current, ActiveBonus added) {
+        if (timers != null && current.getExpiryEvent() >= 0) {
+            long expiry = timers.getCurrentTick() + added.remainingTicks();
+            if (expiry <= current.getExpiryTick()) return;
+            timers.cancel(current.getExpiryEvent());
+            scheduleExpiry(current, expiry);
+        }
+        current.extend(added);
+    }
+
+    private ActiveBonus findActive(ActiveBonus.Type type) {
+        for (int i = 0; i < activeBonuses.size(); i++) {
+            if (activeBonuses.get(i).getType() == type) return activeBonuses.get(i);
+        }
+        return null;
+    }
+
+    /** Met à jour compteurs, masque et portée ajoutée à l'activation (+1) ou l'expiration (-1) d'un effet. */
+    private void applyEffect(ActiveBonus ab, int sign) {
+        ActiveBonus.Type type = ab.getType();
+        int count = effectCounts[type.ordinal()] += sign;
+        if (count > 0) effectMask |= type.mask();
+        else effectMask &= ~type.mask();
+        if (type == ActiveBonus.Type.FLAME) extraRange += sign * ab.getExtraValue();
+    }
+
+    /** @return masque des effets actifs, un bit {@link ActiveBonus.Type#mask()} par type */
+    public int getEffectMask() { return effectMask; }
+
+    /** @return true si au moins un effet du type est actif (O(1)) */
+    public boolean hasEffect(ActiveBonus.Type type) { return (effectMask & type.mask()) != 0; }
+
+    /**
+     * Ajoute un bonus JACKET temporaire (invincibilité).
+     * @param durationSeconds durée en secondes
+     */
+    public void addJacketBonusTemp(double durationSeconds) {
+        addActiveBonus(new ActiveBonus(ActiveBonus.Type.JACKET, 0, durationSeconds));
+    }
+
+    /** @return true si joueur invincible face aux bombes */
+    public boolean isInvincibleToBombs() {
+        return hasEffect(ActiveBonus.Type.JACKET);
+    }
+
+    /** Ajoute une vie au joueur */
+    public void addLife() { lives++; }
+
+    /**
+     * Ajoute un bonus FLAME temporaire (portée accrue).
+     * @param extraRange portée supplémentaire
+     * @param durationSeconds durée en secondes
+     */
+    public void addFlameBonusTemp(int extraRange, double durationSeconds) {
+        addActiveBonus(new ActiveBonus(ActiveBonus.Type.FLAME, extraRange, durationSeconds));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,584 @@
+package com.bomberman.model;
+
+import java.util.List;
+
+/**
+ * Représente un joueur contrôlé par une intelligence artificielle.
+ * Gère le comportement selon le niveau de difficulté.
+ */
+public class PlayerAI extends Player {
+    private final GameRandom random;
+    private final AIDifficulty difficulty;
+
+    // Pour la gestion de la fuite après avoir posé une bombe
+    private boolean mustFleeOwnBomb = false;
+    private boolean mustFleeOwnBombNormal = false;
+
+    // Directions d'attaque (chemin, blocs) et de fuite, dans l'ordre historique de chaque recherche
+    private static final int[][] ATTACK_DIRS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+    private static final int[][] FLEE_DIRS = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
+    private static final int[] STAY = {0, 0};
+
+    /** Au-delà de ce nombre de joueurs, la cible est cherchée par anneaux autour de l'IA. */
+    private static final int RING_SEARCH_MIN_PLAYERS = 16;
+    /** Rayon maximal des anneaux de recherche de cible avant le parcours de tous les joueurs. */
+    private static final int TARGET_RING_RADIUS = 8;
+    /**
+     * Nombre maximal de cases fermées par une recherche de chemin vers la cible : plus que les
+     * 195 cases d'une carte classique, mais borné sur une arène de battle royale, où une cible
+     * hors d'atteinte ferait sinon explorer toute la carte à chaque tick.
+     */
+    private static final int MAX_PATH_EXPANSIONS = 256;
+    /** Nombre de pas suivis sur un chemin mémorisé avant de le recalculer. */
+    private static final int PATH_MAX_AGE = 8;
+    /** Distance maximale entre la cible et la fin du chemin mémorisé pour continuer à le suivre. */
+    private static final int PATH_GOAL_SLACK = 2;
+
+    // Tampons de recherche réutilisés d'un tick à l'autre (aucune allocation en régime établi)
+    private final int[] choices = new int[4];
+    private SearchBuffers search = new SearchBuffers(); // remplacé par celui de la partie, partagé
+    private DangerMap danger = new DangerMap();         // idem, calculée une fois par tick par la partie
+    private boolean sharedDanger = false;
+    private DistanceFields fields = new DistanceFields(); // idem, lus par l'IA difficile
+    private boolean sharedFields = false;
+
+    // Chemin vers la cible, suivi sur plusieurs ticks tant qu'il reste valable
+    private final int[] path = new int[MAX_PATH_EXPANSIONS];
+    private int pathLength = 0, pathIndex = 0, pathAge = 0;
+
+    public PlayerAI(int id, int startX, int startY, AIDifficulty difficulty) {
+        this(id, startX, startY, difficulty, new GameRandom(GameRandom.randomSeed()));
+    }
+
+    /**
+     * @param random générateur partagé de la partie, pour des décisions reproductibles
+     */
+    public PlayerAI(int id, int startX, int startY, AIDifficulty difficulty, GameRandom random) {
+        super(id, startX, startY, false);
+        this.difficulty = difficulty;
+        this.random = random;
+    }
+
+    @Override
+    void copyStateFrom(Player source) {
+        super.copyStateFrom(source);
+        if (source instanceof PlayerAI ai) {
+            this.mustFleeOwnBomb = ai.mustFleeOwnBomb;
+            this.mustFleeOwnBombNormal = ai.mustFleeOwnBombNormal;
+            System.arraycopy(ai.path, 0, this.path, 0, ai.pathLength);
+            this.pathLength = ai.pathLength;
+            this.pathIndex = ai.pathIndex;
+            this.pathAge = ai.pathAge;
+        }
+    }
+
+    /** Partage les tableaux de recherche de chemin de la partie (un seul jeu pour toutes les IA). */
+    void shareSearchBuffers(SearchBuffers search) {
+        this.search = search;
+    }
+
+    /**
+     * Lit la carte des dangers de la partie, tenue à jour par elle à chaque tick, au lieu de
+     * recalculer la sienne à chaque décision.
+     */
+    void shareDangerMap(DangerMap danger) {
+        this.danger = danger;
+        this.sharedDanger = true;
+    }
+
+    /** Lit les champs de distance de la partie, calculés une fois par tick pour toutes les IA. */
+    void shareDistanceFields(DistanceFields fields) {
+        this.fields = fields;
+        this.sharedFields = true;
+    }
+
+    /** @return le niveau de difficulté de l'IA */
+    public AIDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Met à jour l'IA selon la difficulté.
+     * @param grid grille du jeu
+     * @param bombs bombes en jeu
+     * @param allPlayers liste de tous les joueurs (pour la difficulté DIFFICILE)
+     */
+    public void updateAI(Grid grid, List<Bomb> bombs, List<Player> allPlayers) {
+        if (!isAlive()) return;
+        if (!sharedDanger) danger.rebuild(grid, bombs, 0);
+        switch (difficulty) {
+            case EASY -> updateEasyAI(grid, bombs);
+            case NORMAL -> updateNormalAI(grid, bombs);
+            case HARD -> updateHardAI(grid, bombs, allPlayers);
+        }
+    }
+
+    // --- IA FACILE ---
+    private void updateEasyAI(Grid grid, List<Bomb> bombs) {
+        int curX = getX(), curY = getY();
+        if (random.nextDouble() < 0.3) return;
+        if (random.nextDouble() < 0.2) {
+            Bomb bomb = dropBomb(Bomb.DEFAULT_TIMER);
+            if (bomb != null) {
+                bombs.add(bomb);
+                mustFleeOwnBomb = true;
+            }
+        }
+        if (mustFleeOwnBomb) {
+            fleeOwnBomb(grid, bombs, curX, curY);
+            return;
+        }
+        tryMoveToSafeNeighbour(grid, bombs, curX, curY);
+    }
+
+    // --- IA NORMALE ---
+    private void updateNormalAI(Grid grid, List<Bomb> bombs) {
+        int curX = getX(), curY = getY();
+        if (mustFleeOwnBombNormal) {
+            fleeOwnBombNormal(grid, bombs, curX, curY);
+            return;
+        }
+        int myDanger = dangerLevelAt(curX, curY, bombs, grid);
+        if (myDanger < Integer.MAX_VALUE) {
+            tryMoveToSafeNeighbour(grid, bombs, curX, curY);
+            return;
+        }
+        if (random.nextDouble() < 0.12) {
+            Bomb bomb = dropBomb(Bomb.DEFAULT_TIMER);
+            if (bomb != null) {
+                bombs.add(bomb);
+                mustFleeOwnBombNormal = true;
+                fleeOwnBombNormal(grid, bombs, curX, curY);
+                return;
+            }
+        }
+        tryMoveToSafeNeighbour(grid, bombs, curX, curY);
+    }
+
+    // Fuite après pose de bombe (niveau normal)
+    private boolean fleeOwnBombNormal(Grid grid, List<Bomb> bombs, int curX, int curY) {
+        if (fleeFromBomb(grid, bombs, curX, curY)) {
+            if (dangerLevelAt(getX(), getY(), bombs, grid) == Integer.MAX_VALUE) {
+                mustFleeOwnBombNormal = false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // --- IA DIFFICILE ---
+    private void updateHardAI(Grid grid, List<Bomb> bombs, List<Player> allPlayers) {
+        int curX = getX(), curY = getY();
+
+        if (mustFleeOwnBomb) {
+            fleeOwnBomb(grid, bombs, curX, curY);
+            return;
+        }
+
+        int myDanger = dangerLevelAt(curX, curY, bombs, grid);
+        if (myDanger < Integer.MAX_VALUE) {
+            tryMoveToSafeNeighbour(grid, bombs, curX, curY);
+            return;
+        }
+
+        // Cible : l'adversaire le plus proche en distance de marche, sinon (grande carte, aucun
+        // adversaire atteignable) à vol d'oiseau
+        if (!sharedFields && DistanceFields.worthBuilding(grid)) fields.rebuild(grid, allPlayers);
+        boolean useFields = fields.covers(grid);
+        int self = indexIn(allPlayers);
+        int targetSlot = useFields ? fields.nearestOtherSlot(curX, curY, self) : -1;
+        Player target = targetSlot >= 0 ? allPlayers.get(targetSlot) : findNearestTarget(grid, allPlayers, curX, curY);
+
+        // Attaque si la cible est à portée
+        if (target != null && Math.abs(target.getX() - curX) + Math.abs(target.getY() - curY) <= 2) {
+            if (!hasBombAt(grid, bombs, curX, curY)) {
+                if (canReallyEscapeAfterBomb(grid, curX, curY, Bomb.DEFAULT_TIMER) || random.nextDouble() < 0.08) {
+                    Bomb bomb = dropBomb(Bomb.DEFAULT_TIMER);
+                    if (bomb != null) {
+                        bombs.add(bomb);
+                        mustFleeOwnBomb = true;
+                    }
+                }
+            }
+            if (mustFleeOwnBomb) {
+                fleeOwnBomb(grid, bombs, curX, curY);
+            }
+            return;
+        }
+
+        // Se rapproche de la cible : descente du champ des joueurs, chemin A* si le danger la bloque
+        if (target != null) {
+            int step = targetSlot >= 0 ? stepTowardNearestPlayer(grid, curX, curY, self) : -1;
+            if (step < 0) step = nextPathStep(grid, curX, curY, target.getX(), target.getY());
+            if (step >= 0) {
+                int[] nextMove = step < ATTACK_DIRS.length ? ATTACK_DIRS[step] : STAY;
+                move(nextMove[0], nextMove[1], grid);
+                int nx = curX + nextMove[0], ny = curY + nextMove[1];
+                if (pathIndex < pathLength && path[pathIndex] == getY() * grid.getWidth() + getX()) pathIndex++;
+                if (grid.isInBounds(nx, ny) && grid.getCell(nx, ny) == Grid.CellType.DESTRUCTIBLE && !hasBombAt(grid, bombs, curX, curY)) {
+                    if (canReallyEscapeAfterBomb(grid, curX, curY, Bomb.DEFAULT_TIMER) || random.nextDouble() < 0.08) {
+                        Bomb bomb = dropBomb(Bomb.DEFAULT_TIMER);
+                        if (bomb != null) {
+                            bombs.add(bomb);
+                            mustFleeOwnBomb = true;
+                        }
+                    }
+                }
+                return;
+            }
+        }
+
+        // Tente de casser un bloc adjacent
+        if (tryBombAdjacentDestructible(grid, bombs, curX, curY)) {
+            fleeOwnBomb(grid, bombs, curX, curY);
+            return;
+        }
+
+        // Sinon, rejoint la case voisine d'où une bombe casserait un bloc avec la fuite la plus courte
+        if (moveToBombSpot(grid, bombs, curX, curY, useFields)) return;
+
+        // Ou se rapproche du mur destructible le plus proche
+        if (useFields && stepTowardNearestWall(grid, bombs, curX, curY)) return;
+
+        tryMoveToSafeNeighbour(grid, bombs, curX, curY);
+    }
+
+    /** @return indice de l'IA dans la liste des joueurs (son emplacement dans une partie), -1 si absente */
+    private int indexIn(List<Player> allPlayers) {
+        int slot = getSlot();
+        if (slot >= 0 && slot < allPlayers.size() && allPlayers.get(slot) == this) return slot;
+        for (int i = 0; i < allPlayers.size(); i++) {
+            if (allPlayers.get(i) == this) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Premier pas, dans l'ordre de {@link #ATTACK_DIRS}, vers la case voisine la plus proche d'un
+     * adversaire (lecture du champ des joueurs), parmi les cases praticables qu'aucun souffle ne menace.
+     * @return index du pas, {@code ATTACK_DIRS.length} si l'IA est sur un adversaire, -1 si aucun voisin ne rapproche sans danger
+     */
+    private int stepTowardNearestPlayer(Grid grid, int curX, int curY, int self) {
+        int best = fields.nearestOtherDistance(curX, curY, self);
+        if (best == 0) return ATTACK_DIRS.length;
+        int step = -1;
+        for (int d = 0; d < ATTACK_DIRS.length; d++) {
+            int nx = curX + ATTACK_DIRS[d][0], ny = curY + ATTACK_DIRS[d][1];
+            if (!grid.isInBounds(nx, ny) || danger.ticksUntilBlast(nx, ny) != DangerMap.SAFE) continue;
+            Grid.CellType type = grid.getCell(nx, ny);
+            if (type != Grid.CellType.EMPTY && type != Grid.CellType.DESTRUCTIBLE) continue;
+            int dist = fields.nearestOtherDistance(nx, ny, self);
+            if (dist < best) {
+                best = dist;
+                step = d;
+            }
+        }
+        return step;
+    }
+
+    /** Pas vers une case voisine libre et sûre plus proche d'un mur destructible (lecture du champ des murs). */
+    private boolean stepTowardNearestWall(Grid grid, List<Bomb> bombs, int curX, int curY) {
+        int best = fields.wallDistance(curX, curY);
+        int[] bestDir = null;
+        for (int[] dir : ATTACK_DIRS) {
+            int nx = curX + dir[0], ny = curY + dir[1];
+            if (!grid.isInBounds(nx, ny) || grid.getCell(nx, ny) != Grid.CellType.EMPTY) continue;
+            int dist = fields.wallDistance(nx, ny);
+            if (dist < best && dangerLevelAt(nx, ny, bombs, grid) == Integer.MAX_VALUE) {
+                best = dist;
+                bestDir = dir;
+            }
+        }
+        if (bestDir == null) return false;
+        move(bestDir[0], bestDir[1], grid);
+        return true;
+    }
+
+    /**
+     * Examine chaque case voisine comme emplacement de bombe : libre et sûre, voisine d'un bloc
+     * destructible, et d'où l'IA pourrait fuir la bombe qu'elle y poserait au tick suivant.
+     * @return true si l'IA s'est déplacée vers la meilleure (fuite la plus courte)
+     */
+    private boolean moveToBombSpot(Grid grid, List<Bomb> bombs, int curX, int curY, boolean useFields) {
+        int best = -1, bestTicks = Integer.MAX_VALUE;
+        for (int d = 0; d < ATTACK_DIRS.length; d++) {
+            int nx = curX + ATTACK_DIRS[d][0], ny = curY + ATTACK_DIRS[d][1];
+            if (!grid.isInBounds(nx, ny) || grid.getCell(nx, ny) != Grid.CellType.EMPTY
+                    || !(useFields ? fields.wallDistance(nx, ny) == 1 : touchesDestructible(grid, nx, ny))
+                    || dangerLevelAt(nx, ny, bombs, grid) != Integer.MAX_VALUE) continue;
+            int ticks = search.escape.ticksToSafety(grid, danger, nx, ny, 1, Bomb.DEFAULT_TIMER - 1,
+                    nx, ny, getBombRange(), 1 + Bomb.DEFAULT_TIMER);
+            if (ticks >= 0 && ticks < bestTicks) {
+                bestTicks = ticks;
+                best = d;
+            }
+        }
+        if (best < 0) return false;
+        move(ATTACK_DIRS[best][0], ATTACK_DIRS[best][1], grid);
+        return true;
+    }
+
+    private static boolean touchesDestructible(Grid grid, int x, int y) {
+        for (int[] dir : ATTACK_DIRS) {
+            int nx = x + dir[0], ny = y + dir[1];
+            if (grid.isInBounds(nx, ny) && grid.getCell(nx, ny) == Grid.CellType.DESTRUCTIBLE) return true;
+        }
+        return false;
+    }
+
+    // Recherche la cible vivante la plus proche à vol d'oiseau
+    private Player findNearestTarget(Grid grid, List<Player> allPlayers, int curX, int curY) {
+        Occupancy occupancy = grid.getOccupancy();
+        if (occupancy != null && allPlayers.size() >= RING_SEARCH_MIN_PLAYERS
+                && getSlot() >= 0 && getSlot() < allPlayers.size() && allPlayers.get(getSlot()) == this) {
+            // Anneaux de distance croissante dans l'index d'occupation : même résultat que le
+            // parcours complet (plus proche, puis plus petit emplacement) sans visiter tous les joueurs
+            for (int d = 0; d <= TARGET_RING_RADIUS; d++) {
+                int best = -1;
+                for (int dx = -d; dx <= d; dx++) {
+                    int rest = d - Math.abs(dx);
+                    best = firstTargetAt(occupancy, allPlayers, curX + dx, curY - rest, best);
+                    if (rest != 0) best = firstTargetAt(occupancy, allPlayers, curX + dx, curY + rest, best);
+                }
+                if (best >= 0) return allPlayers.get(best);
+            }
+        }
+        Player target = null;
+        int minDist = Integer.MAX_VALUE;
+        EntityStore store = getStore();
+        if (store != null) {
+            // Colonnes de la partie : positions et vivants sans déréférencer les joueurs
+            for (int slot = 0; slot < store.getPlayerCount(); slot++) {
+                if (slot == getSlot() || !store.isAlive(slot)) continue;
+                int dist = Math.abs(store.getPlayerX(slot) - curX) + Math.abs(store.getPlayerY(slot) - curY);
+                if (dist < minDist) {
+                    minDist = dist;
+                    target = allPlayers.get(slot);
+                }
+            }
+            return target;
+        }
+        for (int i = 0; i < allPlayers.size(); i++) {
+            Player p = allPlayers.get(i);
+            if (p != this && p.isAlive()) {
+                int dist = Math.abs(p.getX() - curX) + Math.abs(p.getY() - curY);
+                if (dist < minDist) {
+                    minDist = dist;
+                    target = p;
+                }
+            }
+        }
+        return target;
+    }
+
+    /** @return le plus petit emplacement entre {@code best} et les adversaires vivants de la case (x,y) */
+    private int firstTargetAt(Occupancy occupancy, List<Player> allPlayers, int x, int y, int best) {
+        for (int w = 0; w < occupancy.getPlayerWords(); w++) {
+            long mask = occupancy.getPlayerMask(x, y, w);
+            while (mask != 0) {
+                int slot = (w << 6) + Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+                if (best >= 0 && slot >= best) return best;
+                if (slot != getSlot() && allPlayers.get(slot).isAlive()) return slot;
+            }
+        }
+        return best;
+    }
+
+    // Vérifie s'il y a déjà une bombe à la position donnée
+    private boolean hasBombAt(Grid grid, List<Bomb> bombs, int x, int y) {
+        Occupancy occupancy = grid.getOccupancy();
+        if (occupancy != null) {
+            if (occupancy.hasBombAt(x, y)) return true;
+            // Bombes pas encore indexées, en fin de liste
+            for (int i = bombs.size() - 1; i >= 0 && !bombs.get(i).isScheduled(); i--) {
+                if (bombs.get(i).getX() == x && bombs.get(i).getY() == y) return true;
+            }
+            return false;
+        }
+        for (int i = 0; i < bombs.size(); i++) {
+            Bomb b = bombs.get(i);
+            if (b.getX() == x && b.getY() == y) return true;
+        }
+        return false;
+    }
+
+    // Tente de poser une bombe sur un bloc destructible adjacent
+    private boolean tryBombAdjacentDestructible(Grid grid, List<Bomb> bombs, int curX, int curY) {
+        boolean bombed = false;
+        for (int[] dir : ATTACK_DIRS) {
+            int nx = curX + dir[0], ny = curY + dir[1];
+            if (grid.isInBounds(nx, ny) && grid.getCell(nx, ny) == Grid.CellType.DESTRUCTIBLE && !hasBombAt(grid, bombs, curX, curY)) {
+                if (canReallyEscapeAfterBomb(grid, curX, curY, Bomb.DEFAULT_TIMER) || random.nextDouble() < 0.08) {
+                    Bomb bomb = dropBomb(Bomb.DEFAULT_TIMER);
+                    if (bomb != null) {
+                        bombs.add(bomb);
+                        mustFleeOwnBomb = true;
+                        bombed = true;
+                    }
+                }
+            }
+        }
+        return bombed;
+    }
+
+    /**
+     * Renvoie le prochain pas vers la cible. Le chemin mémorisé est suivi tant que sa fin reste
+     * près de la cible, que son prochain pas est praticable et qu'il a moins de
+     * {@link #PATH_MAX_AGE} pas ; sinon il est recalculé ({@link PathFinder}, arrêté après
+     * {@link #MAX_PATH_EXPANSIONS} cases fermées).
+     * @return index dans {@link #ATTACK_DIRS} du pas, {@code ATTACK_DIRS.length} si l'IA est déjà
+     *         sur la cible, -1 si aucun chemin n'existe
+     */
+    private int nextPathStep(Grid grid, int curX, int curY, int goalX, int goalY) {
+        int w = grid.getWidth();
+        boolean reuse = pathIndex < pathLength && pathAge < PATH_MAX_AGE
+                && Math.abs(path[pathLength - 1] % w - goalX) + Math.abs(path[pathLength - 1] / w - goalY) <= PATH_GOAL_SLACK;
+        int step = reuse ? pathStep(grid, curX, curY, path[pathIndex]) : -1;
+        if (step >= 0) {
+            pathAge++;
+            return step;
+        }
+        int length = search.paths.findPath(grid, danger, curX, curY, goalX, goalY, MAX_PATH_EXPANSIONS, path);
+        pathLength = Math.max(length, 0);
+        pathIndex = 0;
+        pathAge = 1;
+        if (length < 0) return -1;
+        if (length == 0) return ATTACK_DIRS.length;
+        return pathStep(grid, curX, curY, path[0]);
+    }
+
+    /** @return direction de (curX,curY) vers la case voisine {@code cell} si elle est praticable maintenant, sinon -1 */
+    private int pathStep(Grid grid, int curX, int curY, int cell) {
+        int w = grid.getWidth();
+        int nx = cell % w, ny = cell / w;
+        if (!grid.isInBounds(nx, ny)) return -1;
+        Grid.CellType type = grid.getCell(nx, ny);
+        if (type != Grid.CellType.EMPTY && type != Grid.CellType.DESTRUCTIBLE) return -1;
+        if (!PathFinder.passableAt(danger.ticksUntilBlast(nx, ny), 1)) return -1;
+        for (int d = 0; d < ATTACK_DIRS.length; d++) {
+            if (curX + ATTACK_DIRS[d][0] == nx && curY + ATTACK_DIRS[d][1] == ny) return d;
+        }
+        return -1;
+    }
+
+    // Fuite intelligente après avoir posé une bombe
+    private boolean fleeOwnBomb(Grid grid, List<Bomb> bombs, int curX, int curY) {
+        if (fleeFromBomb(grid, bombs, curX, curY)) {
+            if (dangerLevelAt(getX(), getY(), bombs, grid) == Integer.MAX_VALUE) {
+                mustFleeOwnBomb = false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Fuite générique : pas vers une case voisine d'où l'abri est atteint le plus tôt (recherche
+     * en espace-temps, bombe fraîchement posée comprise), au hasard entre les ex aequo.
+     */
+    private boolean fleeFromBomb(Grid grid, List<Bomb> bombs, int curX, int curY) {
+        // Bombe posée depuis le calcul de la carte des dangers (celle que l'IA vient de poser)
+        Bomb fresh = !bombs.isEmpty() && !bombs.get(bombs.size() - 1).isScheduled() ? bombs.get(bombs.size() - 1) : null;
+        int count = 0, bestTicks = Integer.MAX_VALUE;
+        for (int d = 0; d < FLEE_DIRS.length; d++) {
+            int nx = curX + FLEE_DIRS[d][0], ny = curY + FLEE_DIRS[d][1];
+            if (!grid.isInBounds(nx, ny) || grid.getCell(nx, ny) != Grid.CellType.EMPTY) continue;
+            int ticks = search.escape.ticksToSafety(grid, danger, nx, ny, 1, Bomb.DEFAULT_TIMER,
+                    fresh != null ? fresh.getX() : -1, fresh != null ? fresh.getY() : -1,
+                    fresh != null ? fresh.getRange() : 0, fresh != null ? fresh.getTimer() : 0);
+            if (ticks < 0 || ticks > bestTicks) continue;
+            if (ticks < bestTicks) {
+                bestTicks = ticks;
+                count = 0;
+            }
+            choices[count++] = d;
+        }
+        if (count > 0) {
+            int[] dir = FLEE_DIRS[choices[random.nextInt(count)]];
+            move(dir[0], dir[1], grid);
+            return true;
+        }
+        // Sinon, tente la case la moins risquée
+        int bestDanger = Integer.MIN_VALUE;
+        int[] bestDir = null;
+        for (int[] dir : FLEE_DIRS) {
+            int nx = curX + dir[0], ny = curY + dir[1];
+            if (grid.isInBounds(nx, ny) && grid.getCell(nx, ny) == Grid.CellType.EMPTY) {
+                int level = dangerLevelAt(nx, ny, bombs, grid);
+                if (level > bestDanger) {
+                    bestDanger = level;
+                    bestDir = dir;
+                }
+            }
+        }
+        if (bestDir != null) {
+            move(bestDir[0], bestDir[1], grid);
+        }
+        return false;
+    }
+
+    // Déplacement vers une case voisine vraiment sûre
+    private boolean tryMoveToSafeNeighbour(Grid grid, List<Bomb> bombs, int curX, int curY) {
+        int count = 0;
+        for (int d = 0; d < FLEE_DIRS.length; d++) {
+            int nx = curX + FLEE_DIRS[d][0], ny = curY + FLEE_DIRS[d][1];
+            if (grid.isInBounds(nx, ny)
+                    && grid.getCell(nx, ny) == Grid.CellType.EMPTY
+                    && dangerLevelAt(nx, ny, bombs, grid) == Integer.MAX_VALUE) {
+                choices[count++] = d;
+            }
+        }
+        if (count > 0) {
+            int[] dir = FLEE_DIRS[choices[random.nextInt(count)]];
+            move(dir[0], dir[1], grid);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Vérifie si l'IA peut atteindre une case sûre avant explosion de la bombe qu'elle poserait
+     * sur sa case : recherche en espace-temps ({@link EscapeSearch}) sur la carte des dangers du tick.
+     */
+    private boolean canReallyEscapeAfterBomb(Grid grid, int startX, int startY, int bombTimer) {
+        return search.escape.ticksToSafety(grid, danger, startX, startY, 0, bombTimer - 1,
+                startX, startY, getBombRange(), bombTimer) >= 0;
+    }
+
+    /**
+     * Calcule le niveau de danger sur une case donnée : lecture de la carte des dangers du tick,
+     * plus les bombes posées depuis son calcul (celle que l'IA vient de poser).
+     * @param x position X
+     * @param y position Y
+     * @param bombs liste des bombes
+     * @param grid grille de jeu
+     * @return nombre de ticks avant explosion si danger, sinon Integer.MAX_VALUE
+     */
+    private int dangerLevelAt(int x, int y, List<Bomb> bombs, Grid grid) {
+        int minTick = danger.ticksUntilBlast(x, y);
+        // Bombes ajoutées en fin de liste depuis le calcul de la carte : la partie ne les y ajoute
+        // qu'après la décision de l'IA qui les a posées
+        for (int i = bombs.size() - 1; i >= 0 && !bombs.get(i).isScheduled(); i--) {
+            Bomb bomb = bombs.get(i);
+            int bx = bomb.getX(), by = bomb.getY(), timer = bomb.getTimer();
+            minTick = Math.min(minTick, bombDanger(x, y, bx, by, bomb.getRange(), timer, grid));
+        }
+        return minTick;
+    }
+
+    /** @return timer de la bombe si son souffle atteint (x,y), sinon Integer.MAX_VALUE */
+    private static int bombDanger(int x, int y, int bx, int by, int range, int timer, Grid grid) {
+        if (x == bx && y == by) return timer;
+        // Même règle que les souffles de la partie : arrêt avant un mur indestructible, sur un mur destructible
+        if (y == by && Math.abs(x - bx) <= range) {
+            int dist = Math.abs(x - bx);
+            if (grid.blastReach(bx, by, Integer.signum(x - bx), 0, dist) >= dist) return timer;
+        }
+        if (x == bx && Math.abs(y - by) <= range) {
+            int dist = Math.abs(y - by);
+            if (grid.blastReach(bx, by, 0, Integer.signum(y - by), dist) >= dist) return timer;
+        }
+        return Integer.MAX_VALUE;
+    }
+}
\ No newline at end of file
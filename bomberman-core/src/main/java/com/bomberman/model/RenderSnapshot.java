@@ -0,0 +1,192 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Instantané de tout ce que l'affichage lit d'une partie à la fin d'un tick : cases, parties
+ * d'explosion, joueurs, bombes, bonus (avec le chemin de leur image), état de fin de partie, et instants de dépôt des commandes
+ * appliquées (pour mesurer la latence entre une touche et l'image qui en montre l'effet).
+ * <p>
+ * Il est rempli par le thread de simulation ({@link #capture(Game)}) puis publié par un
+ * {@link TripleBuffer} : une fois publié, il n'est plus modifié tant que l'affichage peut le lire,
+ * si bien que le thread JavaFX le dessine sans verrou ni accès à la {@link Game}. Les tableaux sont
+ * réutilisés d'une capture à l'autre (agrandis seulement si nécessaire).
+ */
+public final class RenderSnapshot {
+    private static final Grid.CellType[] TYPES = Grid.CellType.values();
+
+    private long tick = -1;
+    private int width;
+    private int height;
+    private byte[] cells = new byte[0];
+    private byte[] explosionParts = new byte[0];
+
+    private int playerCount;
+    private int[] playerX = new int[0];
+    private int[] playerY = new int[0];
+    private int[] playerIds = new int[0];
+    private int[] playerLives = new int[0];
+    private int[] effectMasks = new int[0];
+    private boolean[] alive = new boolean[0];
+    private boolean[] human = new boolean[0];
+
+    private int bombCount;
+    private int[] bombX = new int[16];
+    private int[] bombY = new int[16];
+
+    private int bonusCount;
+    private int[] bonusX = new int[16];
+    private int[] bonusY = new int[16];
+    private String[] bonusSprites = new String[16];
+
+    private boolean gameOver;
+    private int winnerSlot = -1;
+
+    // Commandes appliquées jusqu'à ce tick : nombre total et instants de dépôt des dernières
+    private long commandsApplied;
+    private final long[] commandNanos = new long[Game.COMMAND_CAPACITY];
+
+    /** Recopie l'état de la partie ; appelé uniquement par le thread qui la simule. */
+    void capture(Game game) {
+        Grid grid = game.getGrid();
+        tick = game.getTickCount();
+        width = grid.getWidth();
+        height = grid.getHeight();
+        int size = width * height;
+        if (cells.length != size) {
+            cells = new byte[size];
+            explosionParts = new byte[size];
+        }
+        for (int y = 0, i = 0; y < height; y++) {
+            for (int x = 0; x < width; x++, i++) cells[i] = (byte) grid.getCell(x, y).ordinal();
+        }
+        game.copyExplosionLayer(explosionParts);
+
+        List<Player> players = game.getPlayers();
+        playerCount = players.size();
+        if (playerX.length < playerCount) {
+            playerX = new int[playerCount];
+            playerY = new int[playerCount];
+            playerIds = new int[playerCount];
+            playerLives = new int[playerCount];
+            effectMasks = new int[playerCount];
+            alive = new boolean[playerCount];
+            human = new boolean[playerCount];
+        }
+        for (int i = 0; i < playerCount; i++) {
+            Player p = players.get(i);
+            playerX[i] = p.getX();
+            playerY[i] = p.getY();
+            playerIds[i] = p.getId();
+            playerLives[i] = p.getLives();
+            effectMasks[i] = p.getEffectMask();
+            alive[i] = p.isAlive();
+            human[i] = p.isHuman();
+        }
+
+        List<Bomb> bombs = game.getBombs();
+        bombCount = bombs.size();
+        if (bombX.length < bombCount) {
+            bombX = Arrays.copyOf(bombX, Math.max(bombCount, bombX.length * 2));
+            bombY = Arrays.copyOf(bombY, bombX.length);
+        }
+        for (int i = 0; i < bombCount; i++) {
+            bombX[i] = bombs.get(i).getX();
+            bombY[i] = bombs.get(i).getY();
+        }
+
+        List<Bonus> bonuses = game.getBonuses();
+        bonusCount = bonuses.size();
+        if (bonusX.length < bonusCount) {
+            bonusX = Arrays.copyOf(bonusX, Math.max(bonusCount, bonusX.length * 2));
+            bonusY = Arrays.copyOf(bonusY, bonusX.length);
+            bonusSprites = Arrays.copyOf(bonusSprites, bonusX.length);
+        }
+        for (int i = 0; i < bonusCount; i++) {
+            Bonus b = bonuses.get(i);
+            bonusX[i] = b.getX();
+            bonusY[i] = b.getY();
+            bonusSprites[i] = b.getSpritePath();
+        }
+        Arrays.fill(bonusSprites, bonusCount, bonusSprites.length, null);
+
+        // Seules les commandes appliquées depuis la dernière capture dans ce tampon sont recopiées
+        long applied = game.getCommandsApplied();
+        for (long rank = Math.max(commandsApplied, applied - commandNanos.length); rank < applied; rank++) {
+            commandNanos[(int) (rank % commandNanos.length)] = game.appliedCommandNanos(rank);
+        }
+        commandsApplied = applied;
+
+        gameOver = game.isGameOver();
+        Player winner = game.getWinner();
+        winnerSlot = winner != null ? winner.getSlot() : -1;
+    }
+
+    /** @return tick de la partie au moment de la capture, -1 si rien n'a encore été capturé */
+    public long getTick() { return tick; }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /** @return type de la case (x,y) */
+    public Grid.CellType getCell(int x, int y) { return TYPES[cells[y * width + x]]; }
+
+    /** @return partie d'explosion de la case (x,y), ou null si elle n'est pas en explosion */
+    public Game.ExplosionCell getExplosionCell(int x, int y) {
+        int i = y * width + x;
+        return TYPES[cells[i]] == Grid.CellType.EXPLOSION ? Game.explosionPart(explosionParts[i]) : null;
+    }
+
+    // --- Joueurs, par emplacement ---
+
+    public int getPlayerCount() { return playerCount; }
+    public int getPlayerX(int slot) { return playerX[slot]; }
+    public int getPlayerY(int slot) { return playerY[slot]; }
+    public int getPlayerId(int slot) { return playerIds[slot]; }
+    public int getPlayerLives(int slot) { return playerLives[slot]; }
+    public boolean isAlive(int slot) { return alive[slot]; }
+    public boolean isHuman(int slot) { return human[slot]; }
+
+    /** @return masque des effets actifs du joueur (voir {@link ActiveBonus.Type#mask()}) */
+    public int getEffectMask(int slot) { return effectMasks[slot]; }
+
+    /** @return nombre de joueurs vivants */
+    public int aliveCount() {
+        int n = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (alive[i]) n++;
+        }
+        return n;
+    }
+
+    // --- Bombes et bonus ---
+
+    public int getBombCount() { return bombCount; }
+    public int getBombX(int i) { return bombX[i]; }
+    public int getBombY(int i) { return bombY[i]; }
+
+    public int getBonusCount() { return bonusCount; }
+    public int getBonusX(int i) { return bonusX[i]; }
+    public int getBonusY(int i) { return bonusY[i]; }
+    /** @return chemin de l'image du bonus, à résoudre par la vue */
+    public String getBonusSprite(int i) { return bonusSprites[i]; }
+
+    // --- Commandes ---
+
+    /** @return nombre de commandes de joueurs appliquées jusqu'au tick capturé */
+    public long getCommandsApplied() { return commandsApplied; }
+
+    /**
+     * @param rank rang d'application, parmi les {@link Game#COMMAND_CAPACITY} dernières commandes appliquées
+     * @return instant de dépôt de cette commande ({@link System#nanoTime()})
+     */
+    public long getCommandNanos(long rank) { return commandNanos[(int) (rank % commandNanos.length)]; }
+
+    // --- Fin de partie ---
+
+    public boolean isGameOver() { return gameOver; }
+
+    /** @return emplacement du vainqueur, -1 s'il n'y en a pas (encore) */
+    public int getWinnerSlot() { return winnerSlot; }
+}
@@ -0,0 +1,308 @@
+package com.bomberman.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Relit un replay produit par {@link ReplayRecorder} en re-simulant la partie sans interface.
+ * <p>
+ * Seules les actions des humains sont réappliquées : la graine suffit à reproduire la carte,
+ * les bonus et les décisions des IA. Une copie de la partie (image clé) est conservée tous
+ * les {@code keyframeInterval} ticks au fil de la simulation, si bien qu'un
+ * {@link #seek(long)} ne re-simule jamais plus d'un intervalle.
+ */
+public class ReplayPlayer {
+    /** Intervalle par défaut entre deux images clés, en ticks. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 100;
+
+    private final Level level;
+    private final String levelName;
+    private final long seed;
+    private final int width;
+    private final int height;
+    private final int humanCount;
+    private final int iaCount;
+    private final AIDifficulty difficulty;
+    private final long endTick;
+    private final long finalChecksum;
+    private final boolean complete;
+
+    // Actions décodées (tableaux parallèles, triés par tick)
+    private int actionCount = 0;
+    private int aiActionCount = 0;
+    private long[] actionTicks = new long[64];
+    private byte[] actionOps = new byte[64];
+    private int[] actionSlots = new int[64];
+    private int[] actionDx = new int[64];
+    private int[] actionDy = new int[64];
+
+    private final int keyframeInterval;
+    private final List<Game> keyframes = new ArrayList<>();
+    private Game game;
+    private int cursor = 0;
+
+    // Lecture
+    private final byte[] data;
+    private int pos = 0;
+
+    /**
+     * @param data octets du replay
+     * @param level niveau de la partie (null si la carte était procédurale)
+     * @throws IOException si le replay est invalide ou ne correspond pas au niveau fourni
+     */
+    public ReplayPlayer(byte[] data, Level level) throws IOException {
+        this(data, level, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param data octets du replay
+     * @param level niveau de la partie (null si la carte était procédurale)
+     * @param keyframeInterval nombre de ticks entre deux images clés
+     * @throws IOException si le replay est invalide ou ne correspond pas au niveau fourni
+     */
+    public ReplayPlayer(byte[] data, Level level, int keyframeInterval) throws IOException {
+        if (keyframeInterval <= 0) throw new IllegalArgumentException("keyframeInterval doit être positif : " + keyframeInterval);
+        this.data = data;
+        this.level = level;
+        this.keyframeInterval = keyframeInterval;
+        try {
+            if (readInt() != ReplayRecorder.MAGIC) throw new IOException("Ce fichier n'est pas un replay");
+            int version = readByte();
+            if (version != ReplayRecorder.VERSION) throw new IOException("Version de replay non supportée : " + version);
+            seed = readLong();
+            width = (int) readVarint();
+            height = (int) readVarint();
+            humanCount = (int) readVarint();
+            iaCount = (int) readVarint();
+            difficulty = AIDifficulty.values()[readByte()];
+            levelName = readUtf();
+            int fingerprint = readInt();
+            if (fingerprint != ReplayRecorder.levelFingerprint(level)) {
+                throw new IOException("Le niveau fourni ne correspond pas au replay (" + levelName + ")");
+            }
+
+            long tick = 0;
+            long checksum = 0;
+            boolean ended = false;
+            while (pos < data.length) {
+                tick += readVarint();
+                int header = readByte();
+                int op = header & ReplayRecorder.OP_MASK;
+                if (op == ReplayRecorder.OP_END) {
+                    checksum = readLong();
+                    ended = true;
+                    break;
+                }
+                int slot = header >>> 4;
+                if (slot == ReplayRecorder.SLOT_ESCAPE) slot = (int) readVarint();
+                int dx = 0, dy = 0;
+                switch (op) {
+                    case ReplayRecorder.OP_UP -> dy = -1;
+                    case ReplayRecorder.OP_DOWN -> dy = 1;
+                    case ReplayRecorder.OP_LEFT -> dx = -1;
+                    case ReplayRecorder.OP_RIGHT -> dx = 1;
+                    case ReplayRecorder.OP_MOVE -> {
+                        dx = unzigzag((int) readVarint());
+                        dy = unzigzag((int) readVarint());
+                    }
+                    case ReplayRecorder.OP_BOMB -> { }
+                    default -> throw new IOException("Action de replay inconnue : " + op);
+                }
+                if ((header & ReplayRecorder.AI_FLAG) != 0) {
+                    aiActionCount++;
+                } else {
+                    addAction(tick, op, slot, dx, dy);
+                }
+            }
+            this.endTick = tick;
+            this.finalChecksum = checksum;
+            this.complete = ended;
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Replay tronqué", e);
+        }
+        game = createInitialGame();
+        keyframes.add(game.copy());
+    }
+
+    /**
+     * Charge un replay depuis un fichier.
+     * @param file fichier du replay
+     * @param level niveau de la partie (null si la carte était procédurale)
+     */
+    public static ReplayPlayer load(Path file, Level level) throws IOException {
+        return new ReplayPlayer(Files.readAllBytes(file), level);
+    }
+
+    private Game createInitialGame() {
+        return new Game(width, height, humanCount, iaCount, level, difficulty, seed);
+    }
+
+    /** @return partie re-simulée, dans son état au tick courant */
+    public Game getGame() { return game; }
+
+    /** @return nom du niveau enregistré ("" si procédural) */
+    public String getLevelName() { return levelName; }
+
+    /** @return graine de la partie enregistrée */
+    public long getSeed() { return seed; }
+
+    /** @return dernier tick enregistré */
+    public long getEndTick() { return endTick; }
+
+    /** @return true si le replay a été terminé par {@link ReplayRecorder#finish(Game)} */
+    public boolean isComplete() { return complete; }
+
+    /** @return nombre d'actions humaines réappliquées lors de la re-simulation */
+    public int getInputCount() { return actionCount; }
+
+    /** @return nombre d'actions d'IA consignées dans le replay */
+    public int getAiActionCount() { return aiActionCount; }
+
+    /** @return nombre d'images clés déjà conservées */
+    public int getKeyframeCount() { return keyframes.size(); }
+
+    /**
+     * Avance la re-simulation d'un tick : applique les actions humaines datées du tick courant
+     * puis exécute le tick.
+     * @return false si la fin du replay est atteinte
+     */
+    public boolean step() {
+        long tick = game.getTickCount();
+        if (tick >= endTick) return false;
+        applyInputs(tick);
+        game.tick();
+        tick++;
+        if (tick == endTick) {
+            // Les actions postérieures au dernier tick font partie de l'état final enregistré
+            applyInputs(tick);
+        }
+        if (tick % keyframeInterval == 0 && tick / keyframeInterval == keyframes.size()) {
+            keyframes.add(game.copy());
+        }
+        return true;
+    }
+
+    private void applyInputs(long tick) {
+        while (cursor < actionCount && actionTicks[cursor] <= tick) {
+            if (actionTicks[cursor] == tick) {
+                Player p = game.getPlayers().get(actionSlots[cursor]);
+                if (actionOps[cursor] == ReplayRecorder.OP_BOMB) {
+                    game.placeBomb(p);
+                } else {
+                    game.movePlayer(p, actionDx[cursor], actionDy[cursor]);
+                }
+            }
+            cursor++;
+        }
+    }
+
+    /**
+     * Place la re-simulation au tick demandé (avant les actions de ce tick), en repartant
+     * de la dernière image clé qui le précède.
+     * @param tick tick visé, ramené entre 0 et {@link #getEndTick()}
+     */
+    public void seek(long tick) {
+        long target = Math.max(0, Math.min(tick, endTick));
+        int k = (int) Math.min(target / keyframeInterval, keyframes.size() - 1);
+        long keyTick = (long) k * keyframeInterval;
+        long current = game.getTickCount();
+        if (current > target || current < keyTick) {
+            game = keyframes.get(k).copy();
+            cursor = firstActionAtOrAfter(keyTick);
+        }
+        while (game.getTickCount() < target) {
+            step();
+        }
+    }
+
+    /**
+     * Re-simule jusqu'à la fin du replay.
+     * @return nombre de ticks exécutés
+     */
+    public long runToEnd() {
+        long executed = 0;
+        while (step()) executed++;
+        return executed;
+    }
+
+    /**
+     * @return true si la partie re-simulée, arrivée à la fin, a la somme de contrôle enregistrée
+     */
+    public boolean matchesRecordedChecksum() {
+        return complete && game.getTickCount() == endTick && game.stateChecksum() == finalChecksum;
+    }
+
+    private int firstActionAtOrAfter(long tick) {
+        int lo = 0, hi = actionCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (actionTicks[mid] < tick) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private void addAction(long tick, int op, int slot, int dx, int dy) throws IOException {
+        if (slot < 0 || slot >= humanCount + iaCount) {
+            throw new IOException("Emplacement de joueur invalide dans le replay : " + slot);
+        }
+        if (actionCount == actionTicks.length) {
+            int n = actionCount * 2;
+            actionTicks = Arrays.copyOf(actionTicks, n);
+            actionOps = Arrays.copyOf(actionOps, n);
+            actionSlots = Arrays.copyOf(actionSlots, n);
+            actionDx = Arrays.copyOf(actionDx, n);
+            actionDy = Arrays.copyOf(actionDy, n);
+        }
+        actionTicks[actionCount] = tick;
+        actionOps[actionCount] = (byte) op;
+        actionSlots[actionCount] = slot;
+        actionDx[actionCount] = dx;
+        actionDy[actionCount] = dy;
+        actionCount++;
+    }
+
+    // --- Décodage ---
+
+    private static int unzigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private int readByte() {
+        return data[pos++] & 0xFF;
+    }
+
+    private int readInt() {
+        int v = 0;
+        for (int i = 0; i < 4; i++) v = (v << 8) | readByte();
+        return v;
+    }
+
+    private long readLong() {
+        long v = 0;
+        for (int i = 0; i < 8; i++) v = (v << 8) | readByte();
+        return v;
+    }
+
+    private long readVarint() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("Entier variable invalide dans le replay");
+    }
+
+    private String readUtf() throws IOException {
+        int length = (int) readVarint();
+        String s = new String(data, pos, length, StandardCharsets.UTF_8);
+        pos += length;
+        return s;
+    }
+}
@@ -0,0 +1,185 @@
+package com.bomberman.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Enregistre une partie sous forme de replay binaire compact.
+ * <p>
+ * Le replay ne contient que ce qui est nécessaire pour re-simuler la partie : graine,
+ * dimensions, joueurs, identité du niveau, puis la suite des actions (déplacements et poses
+ * de bombe des humains, actions des IA à titre d'information) datées par tick.
+ * Chaque action tient en général sur 2 octets : écart de tick (varint) puis un octet
+ * action | drapeau IA | emplacement du joueur.
+ * <p>
+ * Format :
+ * <pre>
+ * int    MAGIC ('BMRP')
+ * byte   VERSION
+ * long   graine
+ * varint largeur, hauteur, nb humains, nb IA
+ * byte   difficulté IA
+ * UTF    nom du niveau ("" si procédural), int empreinte du layout
+ * puis des actions jusqu'à END (tick final en varint, somme de contrôle finale en long)
+ * </pre>
+ */
+public class ReplayRecorder {
+    static final int MAGIC = 0x424D5250; // "BMRP"
+    static final int VERSION = 1;
+
+    static final int OP_UP = 0;
+    static final int OP_DOWN = 1;
+    static final int OP_LEFT = 2;
+    static final int OP_RIGHT = 3;
+    static final int OP_BOMB = 4;
+    static final int OP_MOVE = 5;   // déplacement quelconque : dx et dy suivent en zigzag varint
+    static final int OP_END = 7;
+    static final int OP_MASK = 0x07;
+    static final int AI_FLAG = 0x08;
+    static final int SLOT_ESCAPE = 15; // emplacement >= 15 : varint à la suite
+
+    private byte[] buffer = new byte[256];
+    private int size = 0;
+    private long lastTick = 0;
+    private boolean finished = false;
+
+    /**
+     * Démarre l'enregistrement d'une partie qui n'a pas encore commencé.
+     * @param game partie à enregistrer (créée avec une graine, au tick 0)
+     * @param level niveau de la partie, ou null si la carte est procédurale
+     */
+    public ReplayRecorder(Game game, Level level) {
+        writeInt(MAGIC);
+        writeByte(VERSION);
+        writeLong(game.getSeed());
+        writeVarint(game.getGrid().getWidth());
+        writeVarint(game.getGrid().getHeight());
+        int humans = 0;
+        for (Player p : game.getPlayers()) {
+            if (p.isHuman()) humans++;
+        }
+        writeVarint(humans);
+        writeVarint(game.getPlayers().size() - humans);
+        writeByte(game.getAIDifficulty().ordinal());
+        writeUtf(level != null ? level.getName() : "");
+        writeInt(levelFingerprint(level));
+        lastTick = game.getTickCount();
+    }
+
+    /**
+     * @return empreinte du layout d'un niveau, 0 si null
+     */
+    static int levelFingerprint(Level level) {
+        return level != null ? level.layoutHash() : 0;
+    }
+
+    /** Enregistre un déplacement demandé au tick donné. */
+    void recordMove(long tick, int slot, int dx, int dy, boolean ai) {
+        int op;
+        if (dx == 0 && dy == -1) op = OP_UP;
+        else if (dx == 0 && dy == 1) op = OP_DOWN;
+        else if (dx == -1 && dy == 0) op = OP_LEFT;
+        else if (dx == 1 && dy == 0) op = OP_RIGHT;
+        else op = OP_MOVE;
+        writeAction(tick, op, slot, ai);
+        if (op == OP_MOVE) {
+            writeVarint(zigzag(dx));
+            writeVarint(zigzag(dy));
+        }
+    }
+
+    /** Enregistre une pose de bombe demandée au tick donné. */
+    void recordBomb(long tick, int slot, boolean ai) {
+        writeAction(tick, OP_BOMB, slot, ai);
+    }
+
+    private void writeAction(long tick, int op, int slot, boolean ai) {
+        if (finished) return;
+        writeVarint(tick - lastTick);
+        lastTick = tick;
+        int slotBits = Math.min(slot, SLOT_ESCAPE);
+        writeByte(op | (ai ? AI_FLAG : 0) | (slotBits << 4));
+        if (slotBits == SLOT_ESCAPE) writeVarint(slot);
+    }
+
+    /**
+     * Termine l'enregistrement : écrit le tick final et la somme de contrôle de l'état final,
+     * qui permet de vérifier qu'une re-simulation aboutit au même résultat.
+     */
+    public void finish(Game game) {
+        if (finished) return;
+        writeVarint(game.getTickCount() - lastTick);
+        lastTick = game.getTickCount();
+        writeByte(OP_END);
+        writeLong(game.stateChecksum());
+        finished = true;
+    }
+
+    /** @return true si {@link #finish(Game)} a été appelé */
+    public boolean isFinished() { return finished; }
+
+    /** @return taille actuelle du replay en octets */
+    public int size() { return size; }
+
+    /** @return copie des octets du replay */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /** Écrit le replay dans un flux. */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    /** Écrit le replay dans un fichier. */
+    public void save(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            writeTo(out);
+        }
+    }
+
+    // --- Encodage ---
+
+    static int zigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    private void ensure(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+
+    private void writeByte(int b) {
+        ensure(1);
+        buffer[size++] = (byte) b;
+    }
+
+    private void writeInt(int v) {
+        for (int shift = 24; shift >= 0; shift -= 8) writeByte(v >>> shift);
+    }
+
+    private void writeLong(long v) {
+        for (int shift = 56; shift >= 0; shift -= 8) writeByte((int) (v >>> shift));
+    }
+
+    private void writeVarint(long v) {
+        while ((v & ~0x7FL) != 0) {
+            writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        writeByte((int) v);
+    }
+
+    private void writeUtf(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+}
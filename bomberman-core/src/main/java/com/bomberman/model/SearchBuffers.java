@@ -0,0 +1,12 @@
+package com.bomberman.model;
+
+/**
+ * Tableaux de travail des recherches des IA, partagés par toutes les IA d'une partie : leur
+ * taille suit celle de la carte, pas le nombre d'IA. Les IA décident l'une après l'autre, si
+ * bien qu'un seul jeu suffit ; ce qui doit survivre d'un tick à l'autre (le chemin suivi) est
+ * recopié par chaque IA.
+ */
+final class SearchBuffers {
+    final PathFinder paths = new PathFinder();
+    final EscapeSearch escape = new EscapeSearch();
+}
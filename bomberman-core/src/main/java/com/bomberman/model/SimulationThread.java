@@ -0,0 +1,89 @@
+package com.bomberman.model;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fait tourner un {@link GameEngine} sur son propre thread, à pas fixe, et publie après chaque
+ * tick un {@link RenderSnapshot} par un {@link TripleBuffer}.
+ * <p>
+ * La {@link Game} n'est plus touchée que par ce thread : l'interface dépose les commandes des
+ * joueurs dans sa file ({@link Game#submitMove(int, int, int)}, {@link Game#submitBomb(int)}),
+ * appliquées au début du tick suivant, et dessine le dernier instantané ({@link #latestSnapshot()})
+ * sans verrou. Une décision d'IA lente retarde la simulation,
+ * jamais l'affichage ni la lecture du clavier.
+ */
+public class SimulationThread {
+    private final GameEngine engine;
+    private final TripleBuffer<RenderSnapshot> snapshots =
+            new TripleBuffer<>(new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot());
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Crée la boucle et publie l'état initial de la partie, lisible avant même le démarrage.
+     * @param engine moteur à faire tourner ; sa partie ne doit plus être modifiée hors de ce thread
+     */
+    public SimulationThread(GameEngine engine) {
+        if (engine == null) throw new IllegalArgumentException("engine ne peut pas être null");
+        this.engine = engine;
+        publish();
+    }
+
+    /** @return moteur simulé */
+    public GameEngine getEngine() { return engine; }
+
+    /** Démarre le thread de simulation (sans effet s'il tourne déjà). */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Arrête le thread et attend sa fin : la partie peut ensuite être lue par l'appelant
+     * (fin de replay, écran de fin).
+     */
+    public synchronized void stop() {
+        running = false;
+        if (thread == null) return;
+        LockSupport.unpark(thread);
+        if (thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        thread = null;
+    }
+
+    /** @return true tant que le thread de simulation tourne */
+    public boolean isRunning() { return running; }
+
+    /** @return dernier instantané publié ; à lire seulement par un même thread (celui de l'affichage) */
+    public RenderSnapshot latestSnapshot() {
+        return snapshots.acquire();
+    }
+
+    private void run() {
+        long last = System.nanoTime();
+        while (running) {
+            long now = System.nanoTime();
+            boolean ticked = engine.advance(now - last) > 0;
+            last = now;
+            if (ticked) publish();
+            if (engine.getGame().isGameOver()) {
+                running = false;
+                break;
+            }
+            LockSupport.parkNanos(engine.nanosUntilNextTick());
+        }
+    }
+
+    private void publish() {
+        snapshots.writeBuffer().capture(engine.getGame());
+        snapshots.publish();
+    }
+}
@@ -0,0 +1,84 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Choix des positions de départ d'une partie à nombreux joueurs (mode battle royale).
+ * <p>
+ * Les candidates sont les cases de coordonnées impaires non indestructibles (jamais des piliers
+ * dans une carte procédurale). On part de (1,1), puis on ajoute à chaque étape la candidate la
+ * plus éloignée (distance de Manhattan) des positions déjà choisies ; à égalité, la première
+ * dans l'ordre des lignes, ce qui rend le placement déterministe. La distance de chaque candidate
+ * à l'ensemble choisi est tenue à jour dans un tableau : n positions coûtent n parcours des
+ * candidates. Sur les très grandes cartes, les candidates sont prises avec un pas plus large.
+ */
+public final class SpawnPlanner {
+    /** Nombre de cases par joueur visé par {@link #arenaSide(int)}. */
+    public static final int CELLS_PER_PLAYER = 64;
+    /** Nombre maximal de candidates examinées, au-delà duquel le pas est élargi. */
+    private static final int MAX_CANDIDATES = 1 << 16;
+
+    private SpawnPlanner() {
+    }
+
+    /**
+     * @param players nombre de joueurs
+     * @return côté (impair, au moins 13) d'une arène carrée offrant environ
+     *         {@link #CELLS_PER_PLAYER} cases par joueur
+     */
+    public static int arenaSide(int players) {
+        int side = (int) Math.ceil(Math.sqrt((double) players * CELLS_PER_PLAYER));
+        side = Math.max(13, side);
+        return (side & 1) == 0 ? side + 1 : side;
+    }
+
+    /**
+     * @param grid grille de la partie
+     * @param count nombre de positions à choisir
+     * @return positions {x, y} deux à deux distinctes, la première en (1,1) si elle est libre
+     * @throws IllegalArgumentException si la grille n'offre pas assez de candidates
+     */
+    public static int[][] plan(Grid grid, int count) {
+        int w = grid.getWidth(), h = grid.getHeight();
+        int step = 2;
+        while ((long) ((w - 2 + step - 1) / step) * ((h - 2 + step - 1) / step) > MAX_CANDIDATES) step += 2;
+
+        int cols = Math.max(0, (w - 2 + step - 1) / step), rows = Math.max(0, (h - 2 + step - 1) / step);
+        int[] cx = new int[cols * rows];
+        int[] cy = new int[cx.length];
+        int n = 0;
+        for (int y = 1; y < h - 1; y += step) {
+            for (int x = 1; x < w - 1; x += step) {
+                if (grid.getCell(x, y) == Grid.CellType.INDESTRUCTIBLE) continue;
+                cx[n] = x;
+                cy[n] = y;
+                n++;
+            }
+        }
+        if (n < count) {
+            throw new IllegalArgumentException("Carte " + w + "x" + h + " trop petite pour " + count
+                    + " joueurs (" + n + " positions possibles)");
+        }
+
+        int[][] spawns = new int[count][];
+        if (count == 0) return spawns;
+        int[] minDist = new int[n];
+        Arrays.fill(minDist, Integer.MAX_VALUE);
+        int chosen = 0; // (1,1) est la première candidate quand elle est libre
+        for (int k = 0; k < count; k++) {
+            int x = cx[chosen], y = cy[chosen];
+            spawns[k] = new int[] {x, y};
+            int next = -1, best = -1;
+            for (int i = 0; i < n; i++) {
+                int d = Math.abs(cx[i] - x) + Math.abs(cy[i] - y);
+                if (d < minDist[i]) minDist[i] = d;
+                if (minDist[i] > best) {
+                    best = minDist[i];
+                    next = i;
+                }
+            }
+            chosen = next;
+        }
+        return spawns;
+    }
+}
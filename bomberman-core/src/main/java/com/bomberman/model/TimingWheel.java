@@ -0,0 +1,210 @@
+package com.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Échéancier à roue indexée par tick : les événements (détonations, fins d'explosion,
+ * expirations de bonus, ...) sont rangés dans la case {@code tick % nombre de cases} de la roue,
+ * et {@link #advance(Handler)} ne parcourt que la case du tick atteint.
+ * <p>
+ * Le coût d'un tick dépend donc du nombre d'événements de cette case, et non du nombre
+ * de minuteries en cours. Une échéance plus lointaine qu'un tour de roue reste simplement
+ * dans sa case jusqu'au bon tour. Les événements d'un même tick sont déclenchés dans
+ * leur ordre de programmation, ce qui garde la simulation déterministe.
+ * <p>
+ * Les événements sont stockés dans des tableaux parallèles chaînés (sans objet par événement) :
+ * programmer et déclencher n'alloue rien tant que la capacité suffit.
+ */
+public class TimingWheel {
+    /** Nombre de cases par défaut (puissance de deux). */
+    public static final int DEFAULT_SLOTS = 256;
+
+    /** Reçoit les événements arrivés à échéance. */
+    public interface Handler {
+        /**
+         * @param kind type d'événement donné à la programmation
+         * @param value valeur entière associée
+         * @param ref objet associé (peut être null)
+         */
+        void onEvent(int kind, int value, Object ref);
+    }
+
+    private static final byte FREE = 0;
+    private static final byte SCHEDULED = 1;
+    private static final byte FIRING = 2;
+    private static final byte CANCELLED = 3;
+
+    private final int mask;
+    private final int[] heads;
+    private final int[] tails;
+    private long currentTick = 0;
+    private int size = 0;
+
+    // Événements : tableaux parallèles, chaînage double dans leur case
+    private int[] next;
+    private int[] prev;
+    private long[] due;
+    private int[] kinds;
+    private int[] values;
+    private Object[] refs;
+    private byte[] states;
+    private int freeHead = -1;
+    private int firingHead = -1;
+
+    /** Crée une roue de {@link #DEFAULT_SLOTS} cases. */
+    public TimingWheel() {
+        this(DEFAULT_SLOTS);
+    }
+
+    /**
+     * @param slots nombre de cases, arrondi à la puissance de deux supérieure
+     */
+    public TimingWheel(int slots) {
+        if (slots <= 0) throw new IllegalArgumentException("slots doit être positif : " + slots);
+        int n = Integer.highestOneBit(slots);
+        if (n < slots) n <<= 1;
+        this.mask = n - 1;
+        this.heads = new int[n];
+        this.tails = new int[n];
+        Arrays.fill(heads, -1);
+        Arrays.fill(tails, -1);
+        grow(32);
+    }
+
+    /** @return tick courant de la roue (dernier tick atteint par {@link #advance(Handler)}) */
+    public long getCurrentTick() { return currentTick; }
+
+    /** @return nombre d'événements programmés et non encore déclenchés */
+    public int size() { return size; }
+
+    /**
+     * Programme un événement.
+     * @param dueTick tick d'échéance, strictement postérieur au tick courant
+     * @param kind type d'événement
+     * @param value valeur entière associée
+     * @param ref objet associé (peut être null)
+     * @return identifiant de l'événement, utilisable par {@link #cancel(int)} jusqu'à son déclenchement
+     */
+    public int schedule(long dueTick, int kind, int value, Object ref) {
+        if (dueTick <= currentTick) {
+            throw new IllegalArgumentException("Échéance " + dueTick + " non postérieure au tick courant " + currentTick);
+        }
+        if (freeHead < 0) grow(next.length * 2);
+        int e = freeHead;
+        freeHead = next[e];
+        due[e] = dueTick;
+        kinds[e] = kind;
+        values[e] = value;
+        refs[e] = ref;
+        states[e] = SCHEDULED;
+        int slot = (int) dueTick & mask;
+        next[e] = -1;
+        prev[e] = tails[slot];
+        if (tails[slot] >= 0) next[tails[slot]] = e;
+        else heads[slot] = e;
+        tails[slot] = e;
+        size++;
+        return e;
+    }
+
+    /**
+     * Annule un événement programmé. Sans effet si l'identifiant est négatif.
+     * Un événement annulé pendant le déclenchement de son tick n'est pas déclenché.
+     */
+    public void cancel(int event) {
+        if (event < 0) return;
+        if (states[event] == SCHEDULED) {
+            unlink(event);
+            release(event);
+        } else if (states[event] == FIRING) {
+            states[event] = CANCELLED;
+        }
+    }
+
+    /**
+     * Avance d'un tick et déclenche, dans leur ordre de programmation, les événements
+     * arrivés à échéance. Le gestionnaire peut programmer ou annuler d'autres événements.
+     * @return nombre d'événements déclenchés
+     */
+    public int advance(Handler handler) {
+        currentTick++;
+        int slot = (int) currentTick & mask;
+        // Détache d'abord les événements échus pour que le gestionnaire puisse modifier la case
+        int firingTail = -1;
+        for (int e = heads[slot]; e >= 0; ) {
+            int n = next[e];
+            if (due[e] == currentTick) {
+                unlink(e);
+                states[e] = FIRING;
+                next[e] = -1;
+                if (firingTail >= 0) next[firingTail] = e;
+                else firingHead = e;
+                firingTail = e;
+            }
+            e = n;
+        }
+        int fired = 0;
+        while (firingHead >= 0) {
+            int e = firingHead;
+            firingHead = next[e];
+            boolean cancelled = states[e] == CANCELLED;
+            int kind = kinds[e], value = values[e];
+            Object ref = refs[e];
+            release(e);
+            if (!cancelled) {
+                handler.onEvent(kind, value, ref);
+                fired++;
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * Supprime tous les événements et place la roue au tick donné.
+     */
+    public void clear(long tick) {
+        Arrays.fill(heads, -1);
+        Arrays.fill(tails, -1);
+        Arrays.fill(refs, null);
+        Arrays.fill(states, FREE);
+        freeHead = -1;
+        for (int e = next.length - 1; e >= 0; e--) {
+            next[e] = freeHead;
+            freeHead = e;
+        }
+        firingHead = -1;
+        size = 0;
+        currentTick = tick;
+    }
+
+    private void unlink(int e) {
+        int slot = (int) due[e] & mask;
+        if (prev[e] >= 0) next[prev[e]] = next[e];
+        else heads[slot] = next[e];
+        if (next[e] >= 0) prev[next[e]] = prev[e];
+        else tails[slot] = prev[e];
+    }
+
+    private void release(int e) {
+        refs[e] = null;
+        states[e] = FREE;
+        next[e] = freeHead;
+        freeHead = e;
+        size--;
+    }
+
+    private void grow(int capacity) {
+        int old = next == null ? 0 : next.length;
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+        prev = prev == null ? new int[capacity] : Arrays.copyOf(prev, capacity);
+        due = due == null ? new long[capacity] : Arrays.copyOf(due, capacity);
+        kinds = kinds == null ? new int[capacity] : Arrays.copyOf(kinds, capacity);
+        values = values == null ? new int[capacity] : Arrays.copyOf(values, capacity);
+        refs = refs == null ? new Object[capacity] : Arrays.copyOf(refs, capacity);
+        states = states == null ? new byte[capacity] : Arrays.copyOf(states, capacity);
+        for (int e = capacity - 1; e >= old; e--) {
+            next[e] = freeHead;
+            freeHead = e;
+        }
+    }
+}
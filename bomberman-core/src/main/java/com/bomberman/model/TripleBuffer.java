@@ -0,0 +1,61 @@
+package com.bomberman.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple tampon sans verrou entre un seul écrivain et un seul lecteur.
+ * <p>
+ * L'écrivain remplit le tampon arrière puis le publie : il est échangé avec le tampon du
+ * milieu. Le lecteur récupère le tampon du milieu s'il est plus récent que le sien, sinon il
+ * garde celui qu'il a déjà. Aucun des deux n'attend l'autre, et un tampon publié n'est plus
+ * modifié tant que le lecteur peut le lire : il se comporte comme un instantané immuable.
+ * <p>
+ * L'état partagé tient dans un seul entier : indice du tampon du milieu et bit « nouveau ».
+ */
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final Object[] buffers;
+    private final AtomicInteger middle;
+    private int back = 0;   // propriété de l'écrivain
+    private int front = 2;  // propriété du lecteur
+
+    /**
+     * @param first tampon d'écriture initial
+     * @param second tampon intermédiaire initial
+     * @param third tampon lu tant que rien n'a été publié
+     */
+    public TripleBuffer(T first, T second, T third) {
+        if (first == null || second == null || third == null || first == second || second == third || first == third) {
+            throw new IllegalArgumentException("Trois tampons distincts et non nuls sont nécessaires");
+        }
+        this.buffers = new Object[] {first, second, third};
+        this.middle = new AtomicInteger(1);
+    }
+
+    /** @return tampon à remplir par l'écrivain avant {@link #publish()} */
+    @SuppressWarnings("unchecked")
+    public T writeBuffer() {
+        return (T) buffers[back];
+    }
+
+    /** Publie le tampon d'écriture ; l'écrivain reçoit un nouveau tampon d'écriture. */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /** @return true si un tampon a été publié depuis le dernier {@link #acquire()} */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+
+    /** @return dernier tampon publié (ou le précédent si rien de nouveau n'a été publié) */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
@@ -0,0 +1,3 @@
+module com.bomberman.core {
+    exports com.bomberman.model;
+}
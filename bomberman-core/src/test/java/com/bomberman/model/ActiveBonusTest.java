@@ -35,4 +35,15 @@ class ActiveBonusTest {
         ActiveBonus ab = new ActiveBonus(ActiveBonus.Type.LIFE, 0, 0.0);
         assertTrue(ab.isExpired());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTypeRegistryHasDistinctMasksAndStackingRules() {
+        int all = 0;
+        for (ActiveBonus.Type type : ActiveBonus.Type.values()) {
+            assertEquals(0, all & type.mask());
+            all |= type.mask();
+        }
+        assertEquals(ActiveBonus.Stacking.ADD, ActiveBonus.Type.FLAME.getStacking());
+        assertEquals(ActiveBonus.Stacking.REFRESH, ActiveBonus.Type.JACKET.getStacking());
+    }
+}
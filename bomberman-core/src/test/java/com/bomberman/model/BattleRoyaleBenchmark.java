@@ -0,0 +1,47 @@
+package com.bomberman.model;
+
+/**
+ * Débit de simulation du mode battle royale (lancé à la main, hors suite de tests) :
+ * 64 et 256 IA difficiles sur l'arène procédurale de {@link SpawnPlanner#arenaSide(int)},
+ * avec et sans colonnes des joueurs ({@link EntityStore}). Les joueurs reçoivent assez de vies
+ * pour rester tous en jeu pendant la mesure, si bien que le nombre de joueurs par tick reste constant.
+ */
+public class BattleRoyaleBenchmark {
+    private static final int WARMUP = 1_000;
+    private static final int TICKS = 3_000;
+    private static final int[] PLAYER_COUNTS = {64, 256};
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        for (int players : PLAYER_COUNTS) {
+            for (boolean columns : new boolean[] {false, true}) {
+                Game game = newGame(players, columns);
+                for (int i = 0; i < WARMUP; i++) game.tick();
+                long bombs = 0;
+                long t0 = System.nanoTime();
+                for (int i = 0; i < TICKS; i++) {
+                    game.tick();
+                    bombs += game.getBombs().size();
+                }
+                long elapsed = System.nanoTime() - t0;
+                int side = game.getGrid().getWidth();
+                System.out.printf("%3d joueurs %3dx%-3d %-9s : %9.0f ticks/s  %7.1f us/tick  %5.1f bombes/tick%n",
+                        players, side, side, columns ? "colonnes" : "objets",
+                        TICKS * 1e9 / elapsed, elapsed / 1e3 / TICKS, bombs / (double) TICKS);
+                sink += game.stateChecksum();
+            }
+        }
+        if (sink == 42) System.out.println();
+    }
+
+    private static Game newGame(int players, boolean columns) {
+        int side = SpawnPlanner.arenaSide(players);
+        Game game = new Game(side, side, 0, players, null, AIDifficulty.HARD, 77L);
+        for (Player p : game.getPlayers()) {
+            for (int i = 0; i < 100_000; i++) p.addLife();
+        }
+        if (columns) game.enableEntityStore();
+        return game;
+    }
+}
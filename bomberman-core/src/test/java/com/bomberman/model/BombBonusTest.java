@@ -0,0 +1,47 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BombBonusTest {
+
+    @Test
+    void testConstructorSetsFields() {
+        BombBonus bonus = new BombBonus(2, 5);
+        assertEquals(2, bonus.getX());
+        assertEquals(5, bonus.getY());
+        assertFalse(bonus.isCollected());
+    }
+
+    @Test
+    void testApplyToRaisesMaxBombsOnce() {
+        Player player = new Player(1, 0, 0, true);
+        BombBonus bonus = new BombBonus(1, 1);
+        bonus.applyTo(player);
+        assertTrue(bonus.isCollected());
+        assertEquals(2, player.getMaxBombs());
+
+        // Un bonus déjà ramassé n'a plus d'effet
+        bonus.applyTo(player);
+        assertEquals(2, player.getMaxBombs());
+    }
+
+    @Test
+    void testMaxBombsIsCapped() {
+        Player player = new Player(1, 0, 0, true);
+        player.setMaxBombs(BombBonus.MAX_BOMBS);
+        new BombBonus(1, 1).applyTo(player);
+        assertEquals(BombBonus.MAX_BOMBS, player.getMaxBombs());
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        BombBonus bonus = new BombBonus(3, 4);
+        bonus.setCollected(true);
+        Bonus copy = bonus.copy();
+        assertInstanceOf(BombBonus.class, copy);
+        assertEquals(3, copy.getX());
+        assertTrue(copy.isCollected());
+    }
+}
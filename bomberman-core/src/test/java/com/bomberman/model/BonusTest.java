@@ -1,6 +1,5 @@
 package com.bomberman.model;
 
-import javafx.scene.image.Image;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -17,16 +16,22 @@ class BonusTest {
         public void applyTo(Player player) {
             applied = true;
         }
+        @Override
+        public Bonus copy() {
+            TestBonus copy = new TestBonus(getX(), getY(), getSpritePath());
+            copy.copyFrom(this);
+            return copy;
+        }
     }
 
     @Test
     void testConstructorAndGetters() {
-        // "resource" does not exist, so sprite should be null (no exception thrown)
+        // L'image n'est pas chargée par le moteur : seul son chemin est gardé, même introuvable
         TestBonus bonus = new TestBonus(2, 3, "/not/found.png");
         assertEquals(2, bonus.getX());
         assertEquals(3, bonus.getY());
         assertFalse(bonus.isCollected());
-        assertNull(bonus.getSprite());
+        assertEquals("/not/found.png", bonus.getSpritePath());
     }
 
     @Test
@@ -0,0 +1,65 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CellChunksTest {
+
+    @Test
+    void testUniformSurfaceAllocatesNothing() {
+        CellChunks cells = new CellChunks(4096, 4096, 1);
+        assertEquals(64 * 64, cells.getChunkCount());
+        assertEquals(0, cells.getAllocatedChunks());
+        assertEquals(1, cells.get(4095, 4095));
+        cells.set(10, 10, 1); // valeur de remplissage : pas d'allocation
+        assertEquals(0, cells.getAllocatedChunks());
+        assertTrue(cells.memoryBytes() < 64 * 1024);
+    }
+
+    @Test
+    void testSetAllocatesOnlyTouchedChunk() {
+        CellChunks cells = new CellChunks(4096, 4096, 0);
+        cells.set(100, 3000, 2);
+        cells.set(101, 3000, 15);
+        assertEquals(1, cells.getAllocatedChunks());
+        assertEquals(2, cells.get(100, 3000));
+        assertEquals(15, cells.get(101, 3000));
+        assertEquals(0, cells.get(102, 3000));
+        assertEquals(0, cells.get(100, 3001));
+        assertThrows(IllegalArgumentException.class, () -> cells.set(0, 0, 16));
+    }
+
+    @Test
+    void testCompactFreesUniformChunks() {
+        CellChunks cells = new CellChunks(130, 70, 0);
+        cells.set(5, 5, 3);
+        cells.set(5, 5, 0);
+        cells.set(129, 69, 4);
+        assertEquals(2, cells.getAllocatedChunks());
+        assertEquals(1, cells.compact());
+        assertEquals(1, cells.getAllocatedChunks());
+        assertEquals(0, cells.get(5, 5));
+        assertEquals(4, cells.get(129, 69));
+    }
+
+    @Test
+    void testCopyIntoAndGrowth() {
+        CellChunks source = new CellChunks(70, 0, 0);
+        source.ensureHeight(100, 0);
+        assertEquals(100, source.getHeight());
+        source.set(69, 99, 7);
+
+        CellChunks target = new CellChunks(70, 100, 0);
+        target.set(0, 0, 1);
+        source.copyInto(target);
+        assertEquals(7, target.get(69, 99));
+        assertEquals(0, target.get(0, 0));
+        assertEquals(1, target.getAllocatedChunks());
+
+        CellChunks copy = new CellChunks(source);
+        copy.set(69, 99, 1);
+        assertEquals(7, source.get(69, 99));
+        assertThrows(IllegalArgumentException.class, () -> source.copyInto(new CellChunks(64, 100, 0)));
+    }
+}
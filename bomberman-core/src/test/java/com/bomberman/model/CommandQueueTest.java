@@ -0,0 +1,64 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class CommandQueueTest {
+
+    @Test
+    void testDrainsInOfferOrderAndRejectsWhenFull() {
+        CommandQueue queue = new CommandQueue(3); // arrondie à 4
+        assertEquals(4, queue.capacity());
+        for (int i = 0; i < 4; i++) assertTrue(queue.offer(CommandQueue.MOVE, i, 1, -1, 100 + i));
+        assertFalse(queue.offer(CommandQueue.BOMB, 9, 0, 0, 0));
+
+        List<String> seen = new ArrayList<>();
+        assertEquals(4, queue.drain((kind, slot, dx, dy, at) -> seen.add(kind + ":" + slot + ":" + dx + ":" + dy + "@" + at)));
+        assertEquals(List.of("0:0:1:-1@100", "0:1:1:-1@101", "0:2:1:-1@102", "0:3:1:-1@103"), seen);
+
+        // L'anneau repart après consommation
+        assertTrue(queue.offer(CommandQueue.BOMB, 5, 0, 0, 7));
+        assertEquals(1, queue.drain((kind, slot, dx, dy, at) -> assertEquals(CommandQueue.BOMB, kind)));
+        assertEquals(0, queue.drain((kind, slot, dx, dy, at) -> fail()));
+    }
+
+    @Test
+    @Timeout(10)
+    void testConcurrentProducersLoseNothing() throws Exception {
+        CommandQueue queue = new CommandQueue(64);
+        int producers = 4, perProducer = 2_000;
+        long[] received = new long[producers];
+        int[] lastSeq = new int[producers];
+        Arrays.fill(lastSeq, -1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(CommandQueue.MOVE, id, i, 0, 0)) Thread.yield();
+                }
+            });
+            threads[p].start();
+        }
+        long total = 0;
+        while (total < (long) producers * perProducer) {
+            int drained = queue.drain((kind, slot, dx, dy, at) -> {
+                // Les commandes d'un même producteur restent dans son ordre de dépôt
+                assertEquals(lastSeq[slot] + 1, dx);
+                lastSeq[slot] = dx;
+                received[slot]++;
+            });
+            // File vide : on laisse la main aux producteurs (indispensable sur un seul cœur)
+            if (drained == 0) Thread.yield();
+            total += drained;
+        }
+        for (Thread t : threads) t.join();
+        for (long r : received) assertEquals(perProducer, r);
+    }
+}
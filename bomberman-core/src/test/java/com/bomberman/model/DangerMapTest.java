@@ -0,0 +1,77 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class DangerMapTest {
+
+    @Test
+    void testBlastStopsBeforeIndestructibleAndOnDestructibleWalls() {
+        Grid grid = TestGrids.emptyGrid(9);
+        grid.setCell(6, 4, Grid.CellType.INDESTRUCTIBLE);
+        grid.setCell(2, 4, Grid.CellType.DESTRUCTIBLE);
+        List<Bomb> bombs = new ArrayList<>(List.of(new Bomb(4, 4, 5, 3)));
+        DangerMap map = new DangerMap();
+        map.rebuild(grid, bombs, 100);
+
+        assertEquals(5, map.ticksUntilBlast(4, 4));
+        assertEquals(5, map.ticksUntilBlast(5, 4));
+        assertEquals(DangerMap.SAFE, map.ticksUntilBlast(6, 4)); // mur indestructible
+        assertEquals(DangerMap.SAFE, map.ticksUntilBlast(7, 4));
+        assertEquals(5, map.ticksUntilBlast(3, 4));
+        assertEquals(5, map.ticksUntilBlast(2, 4));              // mur destructible atteint
+        assertEquals(DangerMap.SAFE, map.ticksUntilBlast(1, 4)); // mais il arrête le souffle
+        assertEquals(5, map.ticksUntilBlast(4, 1));
+        assertEquals(DangerMap.SAFE, map.ticksUntilBlast(4, 0)); // hors de portée
+        assertEquals(DangerMap.SAFE, map.ticksUntilBlast(5, 5));
+        assertEquals(105, map.earliestBlastTick(4, 7));
+        assertEquals(Long.MAX_VALUE, map.earliestBlastTick(0, 0));
+    }
+
+    @Test
+    void testChainReactionAdvancesLaterBombs() {
+        Grid grid = TestGrids.emptyGrid(9);
+        // La bombe rapide atteint la lente, qui atteint une troisième : toutes explosent au tick 2
+        List<Bomb> bombs = new ArrayList<>(List.of(
+                new Bomb(6, 6, 20, 2), new Bomb(6, 2, 10, 4), new Bomb(2, 2, 2, 4)));
+        DangerMap map = new DangerMap();
+        map.rebuild(grid, bombs, 0);
+
+        assertEquals(2, map.ticksUntilBlast(6, 2));
+        assertEquals(2, map.ticksUntilBlast(8, 2));
+        assertEquals(2, map.ticksUntilBlast(6, 6));
+        assertEquals(2, map.ticksUntilBlast(6, 8));
+        assertEquals(2, map.ticksUntilBlast(8, 6));
+        assertEquals(DangerMap.SAFE, map.ticksUntilBlast(3, 6));
+    }
+
+    @Test
+    void testAddedBombMatchesFullRebuild() {
+        Grid grid = TestGrids.emptyGrid(9);
+        grid.setCell(4, 3, Grid.CellType.DESTRUCTIBLE);
+        List<Bomb> bombs = new ArrayList<>(List.of(new Bomb(4, 6, 9, 3), new Bomb(7, 1, 12, 2)));
+        DangerMap incremental = new DangerMap();
+        incremental.rebuild(grid, bombs, 0);
+
+        // Bombe rapide posée en cours de tick : elle avance les deux autres par réaction en chaîne
+        Bomb late = new Bomb(7, 6, 3, 5);
+        bombs.add(late);
+        incremental.addBomb(late);
+        DangerMap full = new DangerMap();
+        full.rebuild(grid, bombs, 0);
+
+        for (int y = 0; y < 9; y++) {
+            for (int x = 0; x < 9; x++) {
+                assertEquals(full.ticksUntilBlast(x, y), incremental.ticksUntilBlast(x, y), "case " + x + "," + y);
+            }
+        }
+        assertEquals(3, incremental.ticksUntilBlast(4, 6));
+        assertEquals(3, incremental.ticksUntilBlast(7, 1));
+        assertEquals(3, incremental.ticksUntilBlast(4, 3));
+        assertEquals(DangerMap.SAFE, incremental.ticksUntilBlast(4, 2));
+    }
+}
@@ -0,0 +1,81 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+class DistanceFieldsTest {
+
+    @Test
+    void testNearestOtherPlayerByWalkingDistance() {
+        Grid grid = TestGrids.emptyGrid(9);
+        // Mur indestructible de (4,0) à (4,7) : le joueur 1, à vol d'oiseau le plus proche, est loin à pied
+        for (int y = 0; y <= 7; y++) grid.setCell(4, y, Grid.CellType.INDESTRUCTIBLE);
+        List<Player> players = List.of(
+                new Player(1, 3, 1, false), new Player(2, 5, 1, false), new Player(3, 3, 5, false));
+        DistanceFields fields = new DistanceFields();
+        fields.rebuild(grid, players);
+
+        assertEquals(2, fields.nearestOtherSlot(3, 1, 0));
+        assertEquals(4, fields.nearestOtherDistance(3, 1, 0));
+        // Sur sa propre case, le joueur le plus proche est la seconde source
+        assertEquals(0, fields.nearestOtherSlot(3, 5, 2));
+        assertEquals(0, fields.nearestOtherDistance(3, 5, 1));
+        // Depuis la case voisine, la descente du champ mène vers la cible
+        assertEquals(3, fields.nearestOtherDistance(3, 2, 0));
+        assertEquals(5, fields.nearestOtherDistance(2, 1, 0));
+    }
+
+    @Test
+    void testDeadPlayersAreIgnored() {
+        Grid grid = TestGrids.emptyGrid(9);
+        Player dead = new Player(2, 1, 0, false);
+        dead.kill();
+        List<Player> players = List.of(new Player(1, 0, 0, false), dead, new Player(3, 8, 8, false));
+        DistanceFields fields = new DistanceFields();
+        fields.rebuild(grid, players);
+
+        assertEquals(2, fields.nearestOtherSlot(0, 0, 0));
+        assertEquals(16, fields.nearestOtherDistance(0, 0, 0));
+        // La case du joueur mort est une case comme une autre
+        assertEquals(0, fields.nearestOtherSlot(1, 0, 2));
+        assertEquals(1, fields.nearestOtherDistance(1, 0, 2));
+    }
+
+    @Test
+    void testOnlySmallMapsAreWorthBuilding() {
+        assertTrue(DistanceFields.worthBuilding(new Grid(15, 13, new Level("classique", "", "", "", new int[13][15]))));
+        assertFalse(DistanceFields.worthBuilding(new Grid(65, 65, new Level("arène", "", "", "", new int[65][65]))));
+        DistanceFields fields = new DistanceFields();
+        Grid grid = TestGrids.emptyGrid(9);
+        assertFalse(fields.covers(grid));
+        fields.rebuild(grid, List.of());
+        assertTrue(fields.covers(grid));
+        assertEquals(DistanceFields.UNREACHABLE, fields.nearestOtherDistance(4, 4, -1));
+    }
+
+    @Test
+    void testWallFieldFollowsDestroyedWalls() {
+        Grid grid = TestGrids.emptyGrid(9);
+        grid.setCell(1, 1, Grid.CellType.DESTRUCTIBLE);
+        grid.setCell(7, 7, Grid.CellType.DESTRUCTIBLE);
+        List<Player> players = List.of(new Player(1, 4, 4, false));
+        DistanceFields fields = new DistanceFields();
+        fields.rebuild(grid, players);
+
+        assertEquals(0, fields.wallDistance(1, 1));
+        assertEquals(1, fields.wallDistance(1, 2));
+        assertEquals(4, fields.wallDistance(3, 3));
+
+        grid.setCell(1, 1, Grid.CellType.EMPTY);
+        fields.rebuild(grid, players);
+        assertEquals(8, fields.wallDistance(3, 3));
+        assertEquals(12, fields.wallDistance(1, 1));
+
+        grid.setCell(7, 7, Grid.CellType.EMPTY);
+        fields.rebuild(grid, players);
+        assertEquals(DistanceFields.UNREACHABLE, fields.wallDistance(4, 4));
+    }
+}
@@ -0,0 +1,49 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class EntityStoreTest {
+
+    @Test
+    void testRebuildMirrorsPlayersAndFollowsThem() {
+        EntityStore store = new EntityStore();
+        Grid grid = new Grid(5, 5, new Level("s", "", "", "", new int[5][5]));
+        Player a = new Player(1, 1, 1, true);
+        Player b = new Player(2, 3, 3, true);
+        a.setSlot(0);
+        b.setSlot(1);
+        store.rebuild(List.of(a, b));
+        assertEquals(2, store.aliveCount());
+
+        a.move(1, 0, grid);
+        assertEquals(2, store.getPlayerX(0));
+        b.kill();
+        assertFalse(store.isAlive(1));
+        assertEquals(1, store.aliveCount());
+        assertEquals(0, store.lastAliveSlot());
+    }
+
+    @Test
+    void testAliveMaskSpansSeveralWords() {
+        EntityStore store = new EntityStore();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            Player p = new Player(i + 1, i, 0, false);
+            p.setSlot(i);
+            players.add(p);
+        }
+        store.rebuild(players);
+        assertEquals(2, store.getAliveWords());
+        assertEquals(69, store.lastAliveSlot());
+
+        players.get(69).kill();
+        assertEquals(69, store.aliveCount());
+        assertEquals(68, store.lastAliveSlot());
+        assertEquals(-1L >>> 59, store.getAliveWord(1)); // emplacements 64 à 68
+    }
+}
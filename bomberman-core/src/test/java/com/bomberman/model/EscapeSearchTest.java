@@ -0,0 +1,58 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EscapeSearchTest {
+
+    /** Grille pleine sauf un couloir horizontal en ligne 4, de x = 1 à x = 11. */
+    private static Grid corridor() {
+        Grid grid = TestGrids.emptyGrid(13);
+        for (int y = 0; y < 13; y++) {
+            for (int x = 0; x < 13; x++) {
+                if (y != 4 || x == 0 || x == 12) grid.setCell(x, y, Grid.CellType.INDESTRUCTIBLE);
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    void testOpenFieldEscapesOwnBombDiagonally() {
+        Grid grid = TestGrids.emptyGrid(13);
+        EscapeSearch search = new EscapeSearch();
+        DangerMap none = TestGrids.dangers(grid);
+
+        assertEquals(0, search.ticksToSafety(grid, none, 4, 4, 0, 5, -1, -1, 0, 0));
+        // Bombe de portée 1 posée sur sa case : un pas ne suffit pas, la diagonale est à deux pas
+        assertEquals(2, search.ticksToSafety(grid, none, 4, 4, 0, 5, 4, 4, 1, 6));
+        // Bombe de portée 3 : il faut sortir de la croix par un pas de côté
+        assertEquals(2, search.ticksToSafety(grid, none, 4, 4, 0, 5, 4, 4, 3, 6));
+    }
+
+    @Test
+    void testDeadEndCorridorIsATrap() {
+        Grid grid = corridor();
+        EscapeSearch search = new EscapeSearch();
+        DangerMap none = TestGrids.dangers(grid);
+
+        // Bombe de portée 3 au fond du couloir : la première case sûre est à quatre pas
+        assertEquals(4, search.ticksToSafety(grid, none, 1, 4, 0, 5, 1, 4, 3, 6));
+        // Avec une mèche de trois ticks, l'IA est rattrapée par le souffle
+        assertEquals(-1, search.ticksToSafety(grid, none, 1, 4, 0, 2, 1, 4, 3, 3));
+    }
+
+    @Test
+    void testWaitsForPassageToClear() {
+        Grid grid = corridor();
+        EscapeSearch search = new EscapeSearch();
+        // Menace lente sur le départ, et une bombe rapide qui coupe le couloir du tick 1 au tick 3
+        DangerMap map = TestGrids.dangers(grid, new Bomb(1, 4, 20, 2), new Bomb(4, 4, 2, 1));
+
+        // Attendre trois ticks, puis quatre pas jusqu'à la case 6
+        assertEquals(7, search.ticksToSafety(grid, map, 2, 4, 0, 8, -1, -1, 0, 0));
+        assertEquals(-1, search.ticksToSafety(grid, map, 2, 4, 0, 6, -1, -1, 0, 0));
+        // Partir deux ticks plus tard raccourcit l'attente d'autant
+        assertEquals(5, search.ticksToSafety(grid, map, 2, 4, 2, 8, -1, -1, 0, 0));
+    }
+}
@@ -0,0 +1,53 @@
+package com.bomberman.model;
+
+/**
+ * Micro-benchmark des copies de partie (lancé à la main, hors suite de tests) :
+ * partie 15x13 avec 4 IA difficiles en cours de jeu.
+ * Compare, pour le schéma « copier puis simuler un tick » d'une IA à anticipation,
+ * {@link Game#copy()} (nouvelle partie à chaque fois) et {@link Game#copyInto(Game)}
+ * (partie de travail réutilisée).
+ */
+public class GameCopyBenchmark {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        Level level = new Level("bench", "", "", "", new int[13][15]);
+        Game game = new Game(15, 13, 0, 4, level, AIDifficulty.HARD, 1234L);
+        for (int i = 0; i < 50; i++) game.tick();
+        System.out.printf("tick=%d bombes=%d bonus=%d%n",
+                game.getTickCount(), game.getBombs().size(), game.getBonuses().size());
+
+        Game scratch = game.copy();
+        for (int i = 0; i < WARMUP; i++) {
+            sink += cloneThenTick(game);
+            sink += copyIntoThenTick(game, scratch);
+        }
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += cloneThenTick(game);
+        long t1 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += copyIntoThenTick(game, scratch);
+        long t2 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) game.copyInto(scratch);
+        long t3 = System.nanoTime();
+
+        System.out.printf("copy() puis tick       : %8.1f ns%n", (t1 - t0) / (double) ITERATIONS);
+        System.out.printf("copyInto() puis tick   : %8.1f ns%n", (t2 - t1) / (double) ITERATIONS);
+        System.out.printf("copyInto() seul        : %8.1f ns%n", (t3 - t2) / (double) ITERATIONS);
+        if (sink == 42) System.out.println();
+    }
+
+    private static long cloneThenTick(Game game) {
+        Game future = game.copy();
+        future.tick();
+        return future.getBombs().size();
+    }
+
+    private static long copyIntoThenTick(Game game, Game scratch) {
+        game.copyInto(scratch);
+        scratch.tick();
+        return scratch.getBombs().size();
+    }
+}
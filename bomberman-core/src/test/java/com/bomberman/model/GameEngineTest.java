@@ -0,0 +1,88 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    private static final long TICK = 200_000_000L;
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        Level level = new Level("test", "tester", "easy", "unit test", new int[7][7]);
+        game = new Game(7, 7, 2, 0, level, AIDifficulty.EASY);
+    }
+
+    @Test
+    void testAdvanceAccumulatesUntilTickIsDue() {
+        GameEngine engine = new GameEngine(game, TICK, 5);
+        assertEquals(0, engine.advance(TICK / 2));
+        assertEquals(0, engine.getTickCount());
+        assertEquals(0.5, engine.getInterpolationAlpha(), 1e-9);
+
+        assertEquals(1, engine.advance(TICK / 2));
+        assertEquals(1, engine.getTickCount());
+        assertEquals(0.0, engine.getInterpolationAlpha(), 1e-9);
+    }
+
+    @Test
+    void testAdvanceRunsSeveralTicksWhenLate() {
+        GameEngine engine = new GameEngine(game, TICK, 5);
+        assertEquals(3, engine.advance(3 * TICK + TICK / 4));
+        assertEquals(3, engine.getTickCount());
+        assertEquals(0.25, engine.getInterpolationAlpha(), 1e-9);
+    }
+
+    @Test
+    void testCatchUpIsCapped() {
+        GameEngine engine = new GameEngine(game, TICK, 2);
+        assertEquals(2, engine.advance(10 * TICK));
+        assertEquals(2, engine.getTickCount());
+        assertEquals(8, engine.getDroppedTicks());
+        // Le retard abandonné n'est pas rejoué au prochain appel
+        assertEquals(0, engine.advance(0));
+    }
+
+    @Test
+    void testBombExplodesAfterFixedNumberOfTicks() {
+        GameEngine engine = new GameEngine(game, TICK, 5);
+        Player p = game.getPlayers().get(0);
+        game.placeBomb(p);
+        game.movePlayer(p, 1, 0);
+        game.movePlayer(p, 0, 1);
+        for (int i = 0; i < Bomb.DEFAULT_TIMER - 1; i++) {
+            engine.step();
+        }
+        assertEquals(1, game.getBombs().size());
+        engine.step();
+        assertEquals(0, game.getBombs().size());
+    }
+
+    @Test
+    void testRunHeadlessWithoutStage() {
+        GameEngine engine = new GameEngine(game);
+        long executed = engine.runHeadless(1000);
+        assertEquals(1000, executed);
+        assertEquals(1000, game.getTickCount());
+    }
+
+    @Test
+    void testRunHeadlessStopsAtGameOver() {
+        GameEngine engine = new GameEngine(game);
+        game.getPlayers().get(1).kill();
+        long executed = engine.runHeadless(1000);
+        assertEquals(1, executed);
+        assertTrue(game.isGameOver());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(null));
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(game, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(game, TICK, 0));
+    }
+}
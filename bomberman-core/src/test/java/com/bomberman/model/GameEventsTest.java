@@ -0,0 +1,83 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class GameEventsTest {
+
+    @Test
+    void testEachCursorReadsEveryEventAtItsOwnPace() {
+        GameEvents events = new GameEvents(5); // arrondie à 8
+        assertEquals(8, events.capacity());
+        GameEvents.Cursor fast = events.newCursor();
+        GameEvents.Cursor slow = events.newCursor();
+        List<String> fastSeen = new ArrayList<>(), slowSeen = new ArrayList<>();
+
+        events.publish(GameEvents.Type.BOMB_PLACED, 1, 0, 2, 3, 1);
+        events.publish(GameEvents.Type.BOMB_EXPLODED, 4, 0, 2, 3, 1);
+        assertEquals(2, fast.poll((type, tick, slot, x, y, value) -> fastSeen.add(type + "@" + tick)));
+        events.publish(GameEvents.Type.MATCH_ENDED, 9, 1, -1, -1, 0);
+        assertEquals(1, fast.poll((type, tick, slot, x, y, value) -> fastSeen.add(type + "@" + tick)));
+        assertEquals(2, slow.poll((type, tick, slot, x, y, value) -> slowSeen.add(type + "@" + tick), 2));
+        assertEquals(1, slow.lag());
+        assertEquals(1, slow.poll((type, tick, slot, x, y, value) -> slowSeen.add(type + "@" + tick)));
+
+        List<String> expected = List.of("BOMB_PLACED@1", "BOMB_EXPLODED@4", "MATCH_ENDED@9");
+        assertEquals(expected, fastSeen);
+        assertEquals(expected, slowSeen);
+        assertEquals(0, fast.poll((type, tick, slot, x, y, value) -> fail()));
+        // Un lecteur créé plus tard ne voit que la suite
+        assertEquals(0, events.newCursor().poll((type, tick, slot, x, y, value) -> fail()));
+        assertEquals(3, events.newCursorFromOldest().poll((type, tick, slot, x, y, value) -> { }));
+    }
+
+    @Test
+    void testLappedCursorSkipsOverwrittenEventsAndCountsThem() {
+        GameEvents events = new GameEvents(4);
+        GameEvents.Cursor cursor = events.newCursor();
+        for (int i = 0; i < 10; i++) events.publish(GameEvents.Type.PLAYER_MOVED, i, 0, i, 0, 0);
+        List<Long> ticks = new ArrayList<>();
+        assertEquals(4, cursor.poll((type, tick, slot, x, y, value) -> ticks.add(tick)));
+        assertEquals(List.of(6L, 7L, 8L, 9L), ticks);
+        assertEquals(6, cursor.missed());
+        assertEquals(0, cursor.lag());
+    }
+
+    @Test
+    void testConcurrentReaderNeverSeesTornEvents() throws Exception {
+        GameEvents events = new GameEvents(64);
+        int total = 200_000;
+        GameEvents.Cursor cursor = events.newCursor();
+        Thread producer = new Thread(() -> {
+            // Tous les champs d'un événement portent la même valeur : un mélange se voit
+            for (int i = 0; i < total; i++) events.publish(GameEvents.Type.PLAYER_HIT, i, i, i, i, i);
+        });
+        producer.start();
+        long[] last = {-1};
+        long[] read = {0};
+        while (producer.isAlive() || cursor.lag() > 0) {
+            cursor.poll((type, tick, slot, x, y, value) -> {
+                assertEquals(GameEvents.Type.PLAYER_HIT, type);
+                assertTrue(slot == tick && x == tick && y == tick && value == tick, "événement déchiré au tick " + tick);
+                assertTrue(tick > last[0], "ordre de publication non respecté");
+                last[0] = tick;
+                read[0]++;
+            });
+        }
+        producer.join();
+        assertEquals(total - 1, last[0]);
+        assertEquals(total, read[0] + cursor.missed());
+    }
+
+    @Test
+    void testBonusKindCodes() {
+        assertEquals(GameEvents.BONUS_FLAME, GameEvents.bonusKind(new FlameBonus(0, 0, 1)));
+        assertEquals(GameEvents.BONUS_BOMB, GameEvents.bonusKind(new BombBonus(0, 0)));
+        assertEquals(GameEvents.BONUS_JACKET, GameEvents.bonusKind(new JacketBonus(0, 0)));
+        assertEquals(GameEvents.BONUS_LIFE, GameEvents.bonusKind(new LifeBonus(0, 0)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void testSameSeedSameSequence() {
+        GameRandom a = new GameRandom(42);
+        GameRandom b = new GameRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+    }
+
+    @Test
+    void testStateCanBeRestored() {
+        GameRandom random = new GameRandom(7);
+        random.nextLong();
+        long state = random.getState();
+        double first = random.nextDouble();
+        random.setState(state);
+        assertEquals(first, random.nextDouble());
+    }
+
+    @Test
+    void testBounds() {
+        GameRandom random = new GameRandom(3);
+        for (int i = 0; i < 1000; i++) {
+            double d = random.nextDouble();
+            assertTrue(d >= 0 && d < 1);
+            int n = random.nextInt(7);
+            assertTrue(n >= 0 && n < 7);
+            assertTrue(random.nextInt(4) < 4);
+        }
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+    }
+
+    @Test
+    void testSeededGamesReplayIdentically() {
+        Game first = new Game(15, 13, 0, 4, null, AIDifficulty.HARD, 1234L);
+        Game second = new Game(15, 13, 0, 4, null, AIDifficulty.HARD, 1234L);
+        assertEquals(first.stateChecksum(), second.stateChecksum());
+        for (int i = 0; i < 300; i++) {
+            first.tick();
+            second.tick();
+            assertEquals(first.stateChecksum(), second.stateChecksum(), "divergence au tick " + i);
+        }
+    }
+
+    @Test
+    void testDifferentSeedsGiveDifferentMaps() {
+        Game first = new Game(15, 13, 0, 4, null, AIDifficulty.EASY, 1L);
+        Game second = new Game(15, 13, 0, 4, null, AIDifficulty.EASY, 2L);
+        assertNotEquals(first.stateChecksum(), second.stateChecksum());
+    }
+}
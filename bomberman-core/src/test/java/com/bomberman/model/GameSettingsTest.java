@@ -1,6 +1,5 @@
 package com.bomberman.model;
 
-import javafx.beans.property.IntegerProperty;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -31,19 +30,6 @@ class GameSettingsTest {
         assertEquals(AIDifficulty.HARD, GameSettings.getSelectedAIDifficulty());
     }
 
-    @Test
-    void testAILevelIndexPropertyBinding() {
-        IntegerProperty prop = GameSettings.aiLevelIndexProperty();
-        assertEquals(0, prop.get());
-        prop.set(2);
-        assertEquals(2, GameSettings.getAiLevelIndex());
-        assertEquals(AIDifficulty.HARD, GameSettings.getSelectedAIDifficulty());
-
-        // Test de binding (JavaFX)
-        prop.set(1);
-        assertEquals(AIDifficulty.NORMAL, GameSettings.getSelectedAIDifficulty());
-    }
-
     @Test
     void testInvalidIndexThrowsException() {
         // Si un index invalide est utilisé, valueOf lancera une IllegalArgumentException
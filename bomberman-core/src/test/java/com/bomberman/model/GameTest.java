@@ -0,0 +1,494 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class GameTest {
+
+    private Game game;
+    private Level dummyLevel;
+    private AIDifficulty aiDifficulty;
+
+    @BeforeEach
+    void setUp() {
+        int[][] grid = new int[7][7];
+        dummyLevel = new Level("test", "tester", "easy", "unit test", grid);
+        aiDifficulty = AIDifficulty.EASY;
+
+        game = new Game(7, 7, 1, 0, dummyLevel, aiDifficulty);
+    }
+
+    @Test
+    void testPlayersInitialization() {
+        List<Player> players = game.getPlayers();
+        assertEquals(1, players.size());
+        Player p = players.get(0);
+        assertTrue(p.isAlive());
+        assertTrue(p.isHuman());
+    }
+
+    @Test
+    void testMovePlayer() {
+        Player p = game.getPlayers().get(0);
+        int startX = p.getX();
+        int startY = p.getY();
+        game.movePlayer(p, 1, 0);
+        assertNotEquals(startX, p.getX());
+        assertEquals(startY, p.getY());
+    }
+
+    @Test
+    void testPlaceBombAndExplosion() {
+        Player p = game.getPlayers().get(0);
+        game.placeBomb(p);
+        assertEquals(1, game.getBombs().size());
+
+        Bomb bomb = game.getBombs().get(0);
+        assertEquals(p, bomb.getOwner());
+
+        // Simuler le tick de la bombe jusqu'à explosion
+        for (int i = 0; i < Bomb.DEFAULT_TIMER + 1; i++) {
+            game.updateBombs();
+        }
+
+        // La bombe doit avoir explosé et disparu
+        assertEquals(0, game.getBombs().size());
+    }
+
+    @Test
+    void testGameOverDetection() {
+        Player p = game.getPlayers().get(0);
+        // Simuler la mort du joueur
+        p.takeDamage(); // Peut nécessiter d'appeler plusieurs fois selon le nombre de vies
+        game.updateGameState();
+        assertTrue(game.isGameOver());
+        assertEquals(p, game.getWinner());
+    }
+
+    @Test
+    void testBonusCollection() {
+        // Ajouter un bonus sur la position du joueur
+        Player p = game.getPlayers().get(0);
+        Bonus bonus = new FlameBonus(p.getX(), p.getY(), 1);
+        game.getBonuses().add(bonus);
+
+        game.updateBombs(); // Déclenche la collecte de bonus
+
+        assertTrue(bonus.isCollected());
+    }
+
+    @Test
+    void testExplosionPartsAreRecordedByExplode() {
+        game.getBombs().add(new Bomb(3, 3, 1, 2));
+        game.updateBombs();
+
+        Game.ExplosionCell centre = game.getExplosionCell(3, 3);
+        assertEquals(Game.ExplosionPartType.CENTRE, centre.type);
+        assertNull(centre.direction);
+
+        Game.ExplosionCell branch = game.getExplosionCell(4, 3);
+        assertEquals(Game.ExplosionPartType.BRANCH, branch.type);
+        assertEquals(Game.Direction.RIGHT, branch.direction);
+
+        Game.ExplosionCell end = game.getExplosionCell(3, 1);
+        assertEquals(Game.ExplosionPartType.END, end.type);
+        assertEquals(Game.Direction.UP, end.direction);
+
+        // Les bords du niveau de test sont vides : le rayon gauche s'arrête à la portée
+        assertEquals(Game.ExplosionPartType.END, game.getExplosionCell(1, 3).type);
+        assertNull(game.getExplosionCell(0, 3));
+    }
+
+    @Test
+    void testExplosionPartsClearedWithExplosion() {
+        game.getBombs().add(new Bomb(3, 3, 1, 1));
+        game.updateBombs();
+        assertNotNull(game.getExplosionCell(3, 3));
+        game.updateBombs();
+        game.updateBombs();
+        assertNull(game.getExplosionCell(3, 3));
+        assertNull(game.getExplosionCell(4, 3));
+    }
+
+    @Test
+    void testExplosionRayStopsOnWall() {
+        game.getGrid().setCell(5, 3, Grid.CellType.INDESTRUCTIBLE);
+        game.getBombs().add(new Bomb(3, 3, 1, 3));
+        game.updateBombs();
+        Game.ExplosionCell end = game.getExplosionCell(4, 3);
+        assertEquals(Game.ExplosionPartType.END, end.type);
+        assertEquals(Game.Direction.RIGHT, end.direction);
+        assertNull(game.getExplosionCell(5, 3));
+    }
+
+    @Test
+    void testChainReactionResolvedInSameTick() {
+        int[][] layout = new int[3][40];
+        Game chainGame = new Game(40, 3, 1, 0, new Level("chain", "", "", "", layout), AIDifficulty.EASY);
+        // 30 bombes en ligne : seule la dernière de la liste arrive à échéance
+        for (int i = 0; i < 30; i++) {
+            chainGame.getBombs().add(new Bomb(5 + i, 1, i == 29 ? 1 : 50, 1));
+        }
+        chainGame.updateBombs();
+        assertTrue(chainGame.getBombs().isEmpty());
+        assertFalse(chainGame.getOccupancy().hasBombAt(5, 1));
+        assertEquals(Grid.CellType.EXPLOSION, chainGame.getGrid().getCell(4, 1));
+    }
+
+    @Test
+    void testOverlappingBlastsDamageOnce() {
+        Player p = game.getPlayers().get(0);
+        game.movePlayer(p, 1, 0);
+        // Deux bombes dont les souffles se recouvrent sur la case du joueur
+        game.getBombs().add(new Bomb(p.getX() - 1, p.getY(), 1, 2));
+        game.getBombs().add(new Bomb(p.getX() + 1, p.getY(), 1, 2));
+        game.updateBombs();
+        assertEquals(2, p.getLives());
+    }
+
+    @Test
+    void testDestroyedWallBlocksAllBlastsOfTheTickInAnyOrder() {
+        for (int order = 0; order < 2; order++) {
+            Game g = new Game(7, 7, 1, 0, dummyLevel, aiDifficulty);
+            g.getGrid().setCell(3, 3, Grid.CellType.DESTRUCTIBLE);
+            Bomb vertical = new Bomb(3, 1, 1, 2);
+            Bomb horizontal = new Bomb(5, 3, 1, 4);
+            g.getBombs().add(order == 0 ? vertical : horizontal);
+            g.getBombs().add(order == 0 ? horizontal : vertical);
+            g.updateBombs();
+            assertEquals(Grid.CellType.EXPLOSION, g.getGrid().getCell(3, 3));
+            assertEquals(Grid.CellType.EXPLOSION, g.getGrid().getCell(4, 3));
+            // Le mur détruit arrête aussi le souffle horizontal, quel que soit l'ordre
+            assertEquals(Grid.CellType.EMPTY, g.getGrid().getCell(2, 3));
+        }
+    }
+
+    @Test
+    void testCopyIntoMatchesSourceAndTicksIdentically() {
+        int[][] layout = new int[13][15];
+        Level level = new Level("copy", "", "", "", layout);
+        Game source = new Game(15, 13, 1, 3, level, AIDifficulty.NORMAL, 7L);
+        Game target = source.copy();
+        for (int i = 0; i < 40; i++) source.tick();
+        source.placeBomb(source.getPlayers().get(0));
+
+        source.copyInto(target);
+        assertEquals(source.stateChecksum(), target.stateChecksum());
+        for (int i = 0; i < 60; i++) {
+            source.tick();
+            target.tick();
+            assertEquals(source.stateChecksum(), target.stateChecksum(), "tick " + source.getTickCount());
+        }
+    }
+
+    @Test
+    void testCopyIntoReusesTargetObjects() {
+        Game source = new Game(7, 7, 1, 0, dummyLevel, aiDifficulty);
+        source.placeBomb(source.getPlayers().get(0));
+        source.getBonuses().add(new FlameBonus(3, 3, 2));
+        source.updateBombs();
+        Game target = source.copy();
+        Bomb bomb = target.getBombs().get(0);
+        Bonus bonus = target.getBonuses().get(0);
+        Player player = target.getPlayers().get(0);
+
+        source.tick();
+        source.copyInto(target);
+        assertSame(bomb, target.getBombs().get(0));
+        assertSame(bonus, target.getBonuses().get(0));
+        assertSame(player, target.getPlayers().get(0));
+        assertNotSame(source.getBombs().get(0), bomb);
+        assertSame(player, bomb.getOwner());
+        assertSame(bomb, target.getOccupancy().getBombAt(bomb.getX(), bomb.getY()));
+        assertEquals(source.stateChecksum(), target.stateChecksum());
+    }
+
+    @Test
+    void testCopyIntoRejectsDifferentStructure() {
+        Game other = new Game(7, 7, 2, 0, dummyLevel, aiDifficulty);
+        assertThrows(IllegalArgumentException.class, () -> game.copyInto(other));
+        Game bigger = new Game(9, 9, 1, 0, new Level("big", "", "", "", new int[9][9]), aiDifficulty);
+        assertThrows(IllegalArgumentException.class, () -> game.copyInto(bigger));
+    }
+
+    @Test
+    void testPlaceBombHonorsMaxBombsAndFreesSlotOnExplosion() {
+        Player p = game.getPlayers().get(0);
+        p.setMaxBombs(2);
+        game.placeBomb(p);
+        game.movePlayer(p, 1, 0);
+        game.placeBomb(p);
+        game.movePlayer(p, 1, 0);
+        game.placeBomb(p); // limite atteinte
+        assertEquals(2, game.getBombs().size());
+        assertEquals(2, p.getActiveBombCount());
+        assertFalse(p.canDropBomb());
+
+        for (int i = 0; i < Bomb.DEFAULT_TIMER; i++) game.updateBombs();
+        assertTrue(game.getBombs().isEmpty());
+        assertEquals(0, p.getActiveBombCount());
+        assertTrue(p.canDropBomb());
+    }
+
+    @Test
+    void testAppendedBombsAreCountedForTheirOwner() {
+        Game g = new Game(7, 7, 1, 1, dummyLevel, aiDifficulty, 3L);
+        Player ai = g.getPlayers().get(1);
+        Bomb dropped = ai.dropBomb(Bomb.DEFAULT_TIMER);
+        assertNotNull(dropped);
+        g.getBombs().add(dropped);
+        g.updateBombs();
+        assertEquals(1, ai.getActiveBombCount());
+        assertNull(ai.dropBomb(Bomb.DEFAULT_TIMER));
+
+        // Une copie faite avant l'indexation compte aussi la bombe
+        g.getBombs().add(new Bomb(1, 1, 5, 1, g.getPlayers().get(0)));
+        Game copy = g.copy();
+        assertEquals(1, copy.getPlayers().get(0).getActiveBombCount());
+        assertEquals(1, copy.getPlayers().get(1).getActiveBombCount());
+    }
+
+    @Test
+    void testEntityStoreDoesNotChangeTheMatch() {
+        for (AIDifficulty difficulty : AIDifficulty.values()) {
+            Game plain = new Game(15, 13, 0, 4, null, difficulty, 21L);
+            Game columns = new Game(15, 13, 0, 4, null, difficulty, 21L);
+            columns.enableEntityStore();
+            for (int i = 0; i < 400 && !plain.isGameOver(); i++) {
+                plain.tick();
+                columns.tick();
+                assertEquals(plain.stateChecksum(), columns.stateChecksum(), difficulty + " tick " + i);
+            }
+            assertEquals(plain.isGameOver(), columns.isGameOver());
+
+            EntityStore store = columns.getEntityStore();
+            for (Player p : columns.getPlayers()) {
+                assertEquals(p.isAlive(), store.isAlive(p.getSlot()));
+                assertEquals(p.getX(), store.getPlayerX(p.getSlot()));
+                assertEquals(p.getY(), store.getPlayerY(p.getSlot()));
+            }
+            Game copy = columns.copy();
+            assertNotNull(copy.getEntityStore());
+            assertNotSame(store, copy.getEntityStore());
+            assertEquals(store.aliveCount(), copy.getEntityStore().aliveCount());
+        }
+    }
+
+    @Test
+    void testBattleRoyaleSpawnsManyPlayersApart() {
+        int side = SpawnPlanner.arenaSide(64);
+        Game royale = new Game(side, side, 1, 63, null, AIDifficulty.HARD, 31L);
+        assertEquals(64, royale.getPlayers().size());
+        Set<Integer> cells = new HashSet<>();
+        for (Player p : royale.getPlayers()) {
+            assertTrue(cells.add(p.getY() * side + p.getX()), "départ partagé en " + p.getX() + "," + p.getY());
+            assertEquals(Grid.CellType.EMPTY, royale.getGrid().getCell(p.getX(), p.getY()));
+        }
+        for (int i = 0; i < 300 && !royale.isGameOver(); i++) royale.tick();
+        assertTrue(royale.getTickCount() > 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new Game(201, 201, 0, Game.MAX_PLAYERS + 1, null, AIDifficulty.EASY, 1L));
+    }
+
+    @Test
+    void testLargeArenaIsRejected() {
+        // Le battle royale le plus peuplé tient dans une grille dense
+        int side = SpawnPlanner.arenaSide(Game.MAX_PLAYERS);
+        assertFalse(new Grid(side, side, null, new GameRandom(1L)).isLargeArena());
+        assertThrows(IllegalArgumentException.class,
+                () -> new Game(4096, 4096, 1, 1, null, AIDifficulty.EASY, 1L));
+    }
+
+    @Test
+    void testSubmittedCommandsApplyAtNextTickInOrder() throws Exception {
+        Player p = game.getPlayers().get(0);
+        int x = p.getX();
+        assertTrue(game.submitMove(p.getSlot(), 1, 0));
+        assertTrue(game.submitBomb(p.getSlot()));
+        assertTrue(game.submitMove(99, 1, 0)); // emplacement inconnu : ignoré à l'application
+        assertEquals(x, p.getX());
+        assertTrue(game.getBombs().isEmpty());
+
+        Thread.sleep(2);
+        game.tick();
+        assertEquals(x + 1, p.getX());
+        assertEquals(1, game.getBombs().size());
+        assertEquals(x + 1, game.getBombs().get(0).getX()); // déplacement puis bombe, dans l'ordre de dépôt
+        assertEquals(2, game.getCommandsApplied());
+        assertTrue(game.getMaxCommandWaitNanos() >= 1_000_000L);
+        assertTrue(game.getTotalCommandWaitNanos() >= game.getMaxCommandWaitNanos());
+    }
+
+    @Test
+    void testScheduledBombReportsRemainingTicks() {
+        Player p = game.getPlayers().get(0);
+        game.placeBomb(p);
+        Bomb bomb = game.getBombs().get(0);
+        assertEquals(Bomb.DEFAULT_TIMER, bomb.getTimer());
+        for (int i = 1; i < Bomb.DEFAULT_TIMER; i++) {
+            game.updateBombs();
+            assertEquals(Bomb.DEFAULT_TIMER - i, bomb.getTimer());
+            assertFalse(bomb.isExploded());
+        }
+        game.updateBombs();
+        assertTrue(bomb.isExploded());
+        assertTrue(game.getBombs().isEmpty());
+    }
+
+    @Test
+    void testChainedBombIsNotDetonatedTwice() {
+        Player p = game.getPlayers().get(0);
+        game.getBombs().add(new Bomb(3, 1, 1, 2));
+        game.getBombs().add(new Bomb(4, 1, 3, 1));
+        game.updateBombs();
+        assertTrue(game.getBombs().isEmpty());
+        int lives = p.getLives();
+        for (int i = 0; i < 4; i++) game.updateBombs();
+        assertEquals(lives, p.getLives());
+        assertEquals(Grid.CellType.EMPTY, game.getGrid().getCell(4, 1));
+    }
+
+    @Test
+    void testTimedBonusExpiresThroughGameTimers() {
+        Player p = game.getPlayers().get(0);
+        p.addFlameBonusTemp(2, 1.0); // 2 ticks
+        assertEquals(3, p.getBombRange());
+        game.updateBombs();
+        assertEquals(3, p.getBombRange());
+        game.updateBombs();
+        assertEquals(1, p.getBombRange());
+        assertTrue(p.getActiveBonuses().isEmpty());
+    }
+
+    @Test
+    void testPlacedBombUsesActiveFlameRange() {
+        Player p = game.getPlayers().get(0);
+        p.addFlameBonusTemp(2, 1.0); // 2 ticks
+        game.placeBomb(p);
+        assertEquals(3, game.getBombs().get(0).getRange());
+
+        // Effet expiré et bombe explosée : la bombe suivante (recyclée) reprend la portée de base
+        for (int i = 0; i < Bomb.DEFAULT_TIMER; i++) game.updateBombs();
+        assertTrue(game.getBombs().isEmpty());
+        game.placeBomb(p);
+        assertEquals(1, game.getBombs().get(0).getRange());
+    }
+
+    @Test
+    void testRefreshedEffectIsRescheduledAndCopied() {
+        Player p = game.getPlayers().get(0);
+        p.addJacketBonusTemp(1.0); // échéance au tick 2
+        game.updateBombs();
+        p.addJacketBonusTemp(1.5); // prolongé au tick 4
+        p.addFlameBonusTemp(1, 1.0);
+        Game copy = game.copy();
+        assertEquals(p.getEffectMask(), copy.getPlayers().get(0).getEffectMask());
+        assertEquals(2, copy.getPlayers().get(0).getBombRange());
+        for (int i = 0; i < 2; i++) {
+            game.updateBombs();
+            copy.updateBombs();
+        }
+        for (Game g : List.of(game, copy)) {
+            Player q = g.getPlayers().get(0);
+            assertTrue(q.isInvincibleToBombs());
+            assertFalse(q.hasEffect(ActiveBonus.Type.FLAME));
+            assertEquals(1, q.getBombRange());
+        }
+        game.updateBombs();
+        assertFalse(p.isInvincibleToBombs());
+        assertTrue(p.getActiveBonuses().isEmpty());
+    }
+
+    @Test
+    void testExplosionClearsAfterOneTickAndCopyKeepsTimers() {
+        game.getBombs().add(new Bomb(3, 3, 1, 1));
+        game.updateBombs();
+        assertEquals(Grid.CellType.EXPLOSION, game.getGrid().getCell(3, 3));
+        Game copy = game.copy();
+        game.updateBombs();
+        copy.updateBombs();
+        assertEquals(Grid.CellType.EMPTY, game.getGrid().getCell(3, 3));
+        assertEquals(Grid.CellType.EMPTY, copy.getGrid().getCell(3, 3));
+        assertNull(copy.getExplosionCell(3, 3));
+    }
+
+    @Test
+    void testEventsArePublishedInGameOrder() {
+        Game g = new Game(7, 7, 2, 0, dummyLevel, aiDifficulty);
+        g.getGrid().setCell(1, 2, Grid.CellType.DESTRUCTIBLE);
+        Player p = g.getPlayers().get(0), other = g.getPlayers().get(1);
+        GameEvents.Cursor cursor = g.getEvents().newCursor();
+        List<String> seen = new ArrayList<>();
+        GameEvents.Handler record = (type, tick, slot, x, y, value) -> {
+            if (type != GameEvents.Type.BONUS_SPAWNED) seen.add(type + ":" + slot + "@" + x + "," + y + "=" + value);
+        };
+
+        g.placeBomb(p);
+        g.movePlayer(p, 1, 0);
+        g.movePlayer(p, -1, 0); // bloqué par la bombe : pas d'événement
+        for (int i = 0; i < Bomb.DEFAULT_TIMER + 1; i++) g.updateBombs();
+        cursor.poll(record);
+        int range = p.getBombRange();
+        assertEquals(List.of(
+                "BOMB_PLACED:0@1,1=" + range,
+                "PLAYER_MOVED:0@2,1=" + Game.Direction.RIGHT.ordinal(),
+                "BOMB_EXPLODED:0@1,1=" + range,
+                "PLAYER_HIT:0@2,1=2",
+                "WALL_DESTROYED:-1@1,2=0"), seen);
+
+        // La fin de partie n'est publiée qu'une fois
+        seen.clear();
+        while (other.isAlive()) other.takeDamage();
+        g.updateGameState();
+        g.updateGameState();
+        assertEquals(1, cursor.poll(record));
+        assertEquals(List.of("MATCH_ENDED:0@-1,-1=0"), seen);
+    }
+
+    @Test
+    void testSteadyStateTickDoesNotAllocate() throws Exception {
+        // Piliers seulement : sans mur destructible, aucun bonus n'apparaît en cours de partie
+        int[][] layout = new int[13][15];
+        for (int y = 0; y < 13; y++) {
+            for (int x = 0; x < 15; x++) {
+                if (x == 0 || y == 0 || x == 14 || y == 12 || (x % 2 == 0 && y % 2 == 0)) layout[y][x] = 1;
+            }
+        }
+        Game busy = new Game(15, 13, 0, 4, new Level("busy", "", "", "", layout), AIDifficulty.HARD, 11L);
+        for (Player p : busy.getPlayers()) {
+            for (int i = 0; i < 100_000; i++) p.addLife();
+        }
+        for (int i = 0; i < 2_000; i++) busy.tick(); // préchauffage : tampons et réserves dimensionnés
+
+        // Le module du jeu ne lit pas java.management : compteur d'allocation du thread par réflexion
+        Object threads = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+        Method allocatedBytes = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+        long threadId = Thread.currentThread().threadId();
+        // Coût de la mesure elle-même (tableau d'arguments, valeurs encapsulées), retranché ensuite
+        long probe = (Long) allocatedBytes.invoke(threads, threadId);
+        long overhead = (Long) allocatedBytes.invoke(threads, threadId) - probe;
+        int bombsPlaced = 0;
+        long before = (Long) allocatedBytes.invoke(threads, threadId);
+        for (int i = 0; i < 10_000; i++) {
+            int count = busy.getBombs().size();
+            busy.tick();
+            if (busy.getBombs().size() > count) bombsPlaced++;
+        }
+        long allocated = (Long) allocatedBytes.invoke(threads, threadId) - before - overhead;
+
+        assertFalse(busy.isGameOver());
+        assertTrue(bombsPlaced > 100, "partie trop calme : " + bombsPlaced + " poses");
+        // Une seule allocation par tick coûterait au moins 160 000 octets ; la marge ne couvre que
+        // les objets rematérialisés par le JIT lors d'une désoptimisation (0 octet en mode interprété)
+        assertTrue(allocated < 4_096, allocated + " octets alloués sur 10 000 ticks");
+    }
+}
@@ -0,0 +1,121 @@
+package com.bomberman.model;
+
+/**
+ * Micro-benchmark de la grille en couches de bits (lancé à la main, hors suite de tests).
+ * Compare, sur des grilles 15x13, 63x63 et 255x255 générées avec la même graine,
+ * les requêtes faites case par case sur un tableau {@code CellType[][]} (ancien stockage)
+ * et les requêtes par mots de {@link Grid} : masque des cases praticables, portée des souffles
+ * de portée 8 dans les quatre directions depuis chaque case, explosions sur chaque ligne.
+ */
+public class GridBenchmark {
+    private static final int[][] SIZES = {{15, 13}, {63, 63}, {255, 255}};
+    private static final int[][] DIRS = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+    private static final int RANGE = 8;
+    private static final long BUDGET_NANOS = 300_000_000L;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        for (int[] size : SIZES) {
+            int width = size[0], height = size[1];
+            Grid grid = new Grid(width, height, null, new GameRandom(42L));
+            GameRandom random = new GameRandom(7L);
+            for (int i = 0; i < width * height / 20; i++) {
+                int x = random.nextInt(width), y = random.nextInt(height);
+                if (grid.getCell(x, y) == Grid.CellType.EMPTY) grid.setCell(x, y, Grid.CellType.EXPLOSION);
+            }
+            Grid.CellType[][] cells = new Grid.CellType[width][height];
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) cells[x][y] = grid.getCell(x, y);
+            }
+            long[] mask = new long[height * grid.getRowWords()];
+
+            System.out.printf("%dx%d%n", width, height);
+            report("  masque praticable  tableau", measure(() -> arrayWalkable(cells, mask)),
+                    "bits", measure(() -> grid.fillWalkableMask(mask)));
+            report("  portée des souffles tableau", measure(() -> sink += arrayReach(cells)),
+                    "bits", measure(() -> sink += bitReach(grid)));
+            report("  explosions par ligne tableau", measure(() -> sink += arrayRows(cells)),
+                    "bits", measure(() -> sink += bitRows(grid)));
+        }
+        if (sink == 42) System.out.println();
+    }
+
+    private static void report(String label, double arrayNanos, String bitLabel, double bitNanos) {
+        System.out.printf("%s %10.0f ns | %s %10.0f ns (x%.1f)%n", label, arrayNanos, bitLabel, bitNanos, arrayNanos / bitNanos);
+    }
+
+    /** @return temps moyen d'un appel, après chauffe */
+    private static double measure(Runnable op) {
+        for (long end = System.nanoTime() + BUDGET_NANOS / 3; System.nanoTime() < end; ) op.run();
+        long start = System.nanoTime(), runs = 0;
+        while (System.nanoTime() - start < BUDGET_NANOS) {
+            op.run();
+            runs++;
+        }
+        return (System.nanoTime() - start) / (double) runs;
+    }
+
+    private static void arrayWalkable(Grid.CellType[][] cells, long[] out) {
+        int width = cells.length, height = cells[0].length, rowWords = (width + 63) >>> 6;
+        for (int y = 0; y < height; y++) {
+            for (int w = 0; w < rowWords; w++) {
+                long word = 0;
+                for (int b = 0; b < 64 && (w << 6) + b < width; b++) {
+                    if (cells[(w << 6) + b][y] == Grid.CellType.EMPTY) word |= 1L << b;
+                }
+                out[y * rowWords + w] = word;
+            }
+        }
+    }
+
+    private static long arrayReach(Grid.CellType[][] cells) {
+        int width = cells.length, height = cells[0].length;
+        long total = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                for (int[] dir : DIRS) {
+                    int reach = 0;
+                    for (int i = 1; i <= RANGE; i++) {
+                        int nx = x + dir[0] * i, ny = y + dir[1] * i;
+                        if (nx < 0 || ny < 0 || nx >= width || ny >= height) break;
+                        Grid.CellType c = cells[nx][ny];
+                        if (c == Grid.CellType.INDESTRUCTIBLE) break;
+                        reach = i;
+                        if (c == Grid.CellType.DESTRUCTIBLE) break;
+                    }
+                    total += reach;
+                }
+            }
+        }
+        return total;
+    }
+
+    private static long bitReach(Grid grid) {
+        long total = 0;
+        for (int y = 0; y < grid.getHeight(); y++) {
+            for (int x = 0; x < grid.getWidth(); x++) {
+                for (int[] dir : DIRS) total += grid.blastReach(x, y, dir[0], dir[1], RANGE);
+            }
+        }
+        return total;
+    }
+
+    private static int arrayRows(Grid.CellType[][] cells) {
+        int rows = 0;
+        for (int y = 0; y < cells[0].length; y++) {
+            for (Grid.CellType[] column : cells) {
+                if (column[y] == Grid.CellType.EXPLOSION) { rows++; break; }
+            }
+        }
+        return rows;
+    }
+
+    private static int bitRows(Grid grid) {
+        int rows = 0;
+        for (int y = 0; y < grid.getHeight(); y++) {
+            if (grid.rowHasExplosion(y)) rows++;
+        }
+        return rows;
+    }
+}
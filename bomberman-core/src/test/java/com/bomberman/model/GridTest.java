@@ -0,0 +1,159 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridTest {
+
+    @Test
+    void testGridInitializationWithLevel() {
+        int[][] layout = {
+                {1, 2, 0},
+                {0, 1, 2},
+                {2, 0, 1}
+        };
+        Level level = new Level("lvl", "author", "easy", "desc", layout);
+        Grid grid = new Grid(3, 3, level);
+
+        // Les valeurs du layout doivent être correctement traduites
+        assertEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(0, 0));
+        assertEquals(Grid.CellType.DESTRUCTIBLE, grid.getCell(1, 0));
+        assertEquals(Grid.CellType.EMPTY, grid.getCell(2, 0));
+        assertEquals(Grid.CellType.DESTRUCTIBLE, grid.getCell(0, 2));
+        assertEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(2, 2));
+    }
+
+    @Test
+    void testGridInitializationProcedural() {
+        // Teste la grille générée procéduralement sans Level
+        Grid grid = new Grid(5, 5, null);
+        // Les bords doivent être indestructibles
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(i, 0));
+            assertEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(i, 4));
+            assertEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(0, i));
+            assertEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(4, i));
+        }
+        // Les cases centrales sont soit EMPTY, soit DESTRUCTIBLE, soit INDESTRUCTIBLE selon la génération
+        assertNotNull(grid.getCell(2, 2));
+    }
+
+    @Test
+    void testSetAndGetCell() {
+        int[][] layout = new int[3][3];
+        Level level = new Level("lvl", "author", "easy", "desc", layout);
+        Grid grid = new Grid(3, 3, level);
+
+        grid.setCell(1, 1, Grid.CellType.DESTRUCTIBLE);
+        assertEquals(Grid.CellType.DESTRUCTIBLE, grid.getCell(1, 1));
+
+        grid.setCell(1, 1, Grid.CellType.EMPTY);
+        assertEquals(Grid.CellType.EMPTY, grid.getCell(1, 1));
+    }
+
+    @Test
+    void testIsInBounds() {
+        Level level = new Level("lvl", "author", "easy", "desc", new int[2][2]);
+        Grid grid = new Grid(2, 2, level);
+
+        assertTrue(grid.isInBounds(0, 0));
+        assertTrue(grid.isInBounds(1, 1));
+        assertFalse(grid.isInBounds(-1, 0));
+        assertFalse(grid.isInBounds(0, 2));
+        assertFalse(grid.isInBounds(2, 0));
+    }
+
+    @Test
+    void testGetCellOutOfBoundsReturnsNull() {
+        Level level = new Level("lvl", "author", "easy", "desc", new int[2][2]);
+        Grid grid = new Grid(2, 2, level);
+
+        assertNull(grid.getCell(-1, 0));
+        assertNull(grid.getCell(2, 1));
+        assertNull(grid.getCell(0, 2));
+    }
+
+    @Test
+    void testCellTypesAreExclusive() {
+        Grid grid = new Grid(70, 3, new Level("lvl", "author", "easy", "desc", new int[3][70]));
+        for (Grid.CellType type : Grid.CellType.values()) {
+            grid.setCell(65, 1, type);
+            assertEquals(type, grid.getCell(65, 1));
+        }
+        grid.setCell(65, 1, Grid.CellType.EMPTY);
+        assertEquals(Grid.CellType.EMPTY, grid.getCell(65, 1));
+        assertEquals(Grid.CellType.EMPTY, grid.getCell(1, 1));
+    }
+
+    @Test
+    void testWalkableMaskIgnoresBitsOutsideGrid() {
+        Grid grid = new Grid(70, 2, new Level("lvl", "author", "easy", "desc", new int[2][70]));
+        grid.setCell(3, 0, Grid.CellType.BOMB);
+        grid.setCell(66, 1, Grid.CellType.DESTRUCTIBLE);
+        long[] mask = new long[2 * grid.getRowWords()];
+        grid.fillWalkableMask(mask);
+
+        assertEquals(2, grid.getRowWords());
+        assertEquals(~(1L << 3), mask[0]);
+        assertEquals((1L << 6) - 1, mask[1]);
+        assertEquals(-1L, mask[2]);
+        assertEquals(((1L << 6) - 1) & ~(1L << 2), mask[3]);
+    }
+
+    @Test
+    void testBlastReachStopsAtWalls() {
+        int[][] layout = new int[3][100];
+        layout[1][80] = 1;  // indestructible à droite, dans le deuxième mot
+        layout[1][10] = 2;  // destructible à gauche
+        Grid grid = new Grid(100, 3, new Level("lvl", "author", "easy", "desc", layout));
+
+        assertEquals(19, grid.blastReach(60, 1, 1, 0, 30));
+        assertEquals(5, grid.blastReach(60, 1, 1, 0, 5));
+        assertEquals(50, grid.blastReach(60, 1, -1, 0, 60));
+        assertEquals(2, grid.blastReach(97, 1, 1, 0, 10)); // bord de la grille
+        assertEquals(1, grid.blastReach(60, 1, 0, 1, 4));
+        assertEquals(50, grid.distanceToObstacle(60, 1, -1, 0, 60, true));
+        assertEquals(61, grid.distanceToObstacle(60, 1, -1, 0, 60, false)); // bord à 61
+    }
+
+    @Test
+    void testRowHasExplosion() {
+        Grid grid = new Grid(100, 3, new Level("lvl", "author", "easy", "desc", new int[3][100]));
+        assertFalse(grid.rowHasExplosion(1));
+        grid.setCell(90, 1, Grid.CellType.EXPLOSION);
+        assertTrue(grid.rowHasExplosion(1));
+        assertFalse(grid.rowHasExplosion(0));
+        assertFalse(grid.rowHasExplosion(5));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        Grid grid = new Grid(5, 5, null);
+        Grid copy = new Grid(grid);
+        for (int y = 0; y < 5; y++) {
+            for (int x = 0; x < 5; x++) assertEquals(grid.getCell(x, y), copy.getCell(x, y));
+        }
+        copy.setCell(1, 1, Grid.CellType.BOMB);
+        assertNotEquals(Grid.CellType.BOMB, grid.getCell(1, 1));
+    }
+
+    @Test
+    void testLargeArenaKeepsSameFacadeAndQueries() {
+        Grid grid = new Grid(600, 600, new Level("lvl", "author", "easy", "desc", new int[0][0]), new GameRandom(3L));
+        assertTrue(grid.isLargeArena());
+        grid.setCell(300, 300, Grid.CellType.EMPTY);
+        grid.setCell(305, 300, Grid.CellType.DESTRUCTIBLE);
+        grid.setCell(301, 300, Grid.CellType.EMPTY);
+        assertEquals(Grid.CellType.DESTRUCTIBLE, grid.getCell(305, 300));
+        for (int x = 301; x < 305; x++) grid.setCell(x, 300, Grid.CellType.EMPTY);
+        assertEquals(5, grid.blastReach(300, 300, 1, 0, 8));
+        grid.setCell(302, 300, Grid.CellType.EXPLOSION);
+        assertTrue(grid.rowHasExplosion(300));
+
+        Grid copy = new Grid(grid);
+        assertTrue(copy.isLargeArena());
+        assertEquals(Grid.CellType.EXPLOSION, copy.getCell(302, 300));
+        assertEquals(Grid.CellType.INDESTRUCTIBLE, copy.getCell(0, 0));
+    }
+}
@@ -0,0 +1,34 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesUseBucketUpperBounds() {
+        LatencyHistogram h = new LatencyHistogram(1_000_000L, 100); // cases de 1 ms
+        for (int ms = 1; ms <= 100; ms++) h.record(ms * 1_000_000L - 1);
+        assertEquals(100, h.count());
+        assertEquals(50_000_000L, h.percentile(50));
+        assertEquals(95_000_000L, h.percentile(95));
+        assertEquals(99_000_000L, h.percentile(99));
+        assertEquals(h.max(), h.percentile(100));
+    }
+
+    @Test
+    void testOverflowKeepsExactMaximum() {
+        LatencyHistogram h = new LatencyHistogram(1_000L, 10);
+        h.record(-5);
+        h.record(3_000_000L);
+        assertEquals(1, h.overflowCount());
+        assertEquals(3_000_000L, h.max());
+        assertEquals(3_000_000L, h.percentile(99));
+        assertEquals(1_000L, h.percentile(50)); // la mesure négative compte pour 0
+
+        h.reset();
+        assertEquals(0, h.count());
+        assertEquals(0, h.percentile(50));
+    }
+}
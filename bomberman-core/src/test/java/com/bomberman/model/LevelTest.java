@@ -89,4 +89,33 @@ class LevelTest {
                     .forEach(p -> { try { Files.deleteIfExists(p); } catch (IOException ignored) {} });
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testLargeLevelIsStreamedIntoChunks() throws IOException {
+        Path tempFile = Files.createTempFile("large", ".level");
+        try {
+            StringBuilder sb = new StringBuilder("name: Large\nlayout:\n");
+            String emptyRow = "0".repeat(1024);
+            for (int y = 0; y < 1024; y++) {
+                sb.append(y == 5 ? "1".repeat(10) + emptyRow.substring(10) : emptyRow).append('\n');
+            }
+            Files.writeString(tempFile, sb);
+            Level loaded = Level.fromFile(tempFile);
+
+            assertEquals(1024, loaded.getWidth());
+            assertEquals(1024, loaded.getHeight());
+            assertEquals(1, loaded.getTile(9, 5));
+            assertEquals(0, loaded.getTile(10, 5));
+            assertEquals(1, loaded.getTiles().getAllocatedChunks());
+
+            Grid grid = new Grid(1024, 1024, loaded);
+            assertTrue(grid.isLargeArena());
+            assertEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(0, 5));
+            assertEquals(Grid.CellType.EMPTY, grid.getCell(1023, 1023));
+            assertTrue(grid.cellMemoryBytes() < 16 * 1024);
+            assertEquals(java.util.Arrays.deepHashCode(loaded.getLayout()), loaded.layoutHash());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+}
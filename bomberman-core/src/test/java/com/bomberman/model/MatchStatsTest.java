@@ -0,0 +1,55 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchStatsTest {
+
+    @Test
+    void testCountsEventsPerPlayer() {
+        GameEvents events = new GameEvents();
+        MatchStats stats = new MatchStats(events, 2);
+        events.publish(GameEvents.Type.BOMB_PLACED, 1, 0, 1, 1, 1);
+        events.publish(GameEvents.Type.BOMB_PLACED, 2, 1, 5, 5, 1);
+        events.publish(GameEvents.Type.BOMB_PLACED, 3, 0, 1, 2, 1);
+        events.publish(GameEvents.Type.WALL_DESTROYED, 5, -1, 1, 3, 0);
+        events.publish(GameEvents.Type.BONUS_SPAWNED, 5, -1, 1, 3, GameEvents.BONUS_LIFE);
+        events.publish(GameEvents.Type.BONUS_COLLECTED, 7, 0, 1, 3, GameEvents.BONUS_LIFE);
+        events.publish(GameEvents.Type.PLAYER_HIT, 9, 1, 5, 5, 0);
+        events.publish(GameEvents.Type.PLAYER_DIED, 9, 1, 5, 5, 0);
+        assertEquals(8, stats.update());
+        assertEquals(-1, stats.getEndTick());
+
+        events.publish(GameEvents.Type.MATCH_ENDED, 9, 0, -1, -1, 0);
+        assertEquals(1, stats.update());
+        assertEquals(2, stats.getBombsPlaced(0));
+        assertEquals(1, stats.getBombsPlaced(1));
+        assertEquals(1, stats.getWallsDestroyed());
+        assertEquals(1, stats.getBonusesSpawned());
+        assertEquals(1, stats.getBonusesCollected(0));
+        assertEquals(1, stats.getHitsTaken(1));
+        assertEquals(-1, stats.getDiedAtTick(0));
+        assertEquals(9, stats.getDiedAtTick(1));
+        assertEquals(0, stats.getWinnerSlot());
+        assertEquals(9, stats.getEndTick());
+        assertEquals(0, stats.getMissedEvents());
+    }
+
+    @Test
+    void testFollowsARealMatch() {
+        Game game = new Game(15, 13, 0, 4, null, AIDifficulty.HARD, 5L);
+        MatchStats stats = new MatchStats(game.getEvents(), 4);
+        for (int i = 0; i < 3_000 && !game.isGameOver(); i++) {
+            game.tick();
+            stats.update();
+        }
+        int bombs = 0;
+        for (int slot = 0; slot < 4; slot++) bombs += stats.getBombsPlaced(slot);
+        assertTrue(bombs > 0);
+        assertEquals(0, stats.getMissedEvents());
+        if (game.isGameOver()) {
+            assertEquals(game.getWinner() != null ? game.getWinner().getSlot() : -1, stats.getWinnerSlot());
+        }
+    }
+}
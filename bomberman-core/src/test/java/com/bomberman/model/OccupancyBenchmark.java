@@ -0,0 +1,101 @@
+package com.bomberman.model;
+
+import java.util.List;
+
+/**
+ * Micro-benchmark de l'index d'occupation (lancé à la main, hors suite de tests) :
+ * carte 4 joueurs avec 60 bombes et 60 bonus vivants.
+ * Compare les recherches par coordonnées d'un tick (ramassage des bonus, contrôle de pose,
+ * dégâts et réaction en chaîne sur une explosion de portée 3) par parcours des listes
+ * et par l'index, puis mesure le coût d'un {@link Game#updateBombs()} complet.
+ */
+public class OccupancyBenchmark {
+    private static final int SIZE = 31;
+    private static final int ENTITIES = 60;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        Game game = new Game(SIZE, SIZE, 4, 0, new Level("bench", "", "", "", new int[SIZE][SIZE]), AIDifficulty.EASY);
+        int placed = 0;
+        for (int y = 2; y < SIZE - 2 && placed < ENTITIES * 2; y += 2) {
+            for (int x = 2; x < SIZE - 2 && placed < ENTITIES * 2; x += 2, placed++) {
+                if (placed % 2 == 0) {
+                    game.getBombs().add(new Bomb(x, y, Integer.MAX_VALUE, 3));
+                } else {
+                    game.getBonuses().add(new LifeBonus(x, y));
+                }
+            }
+        }
+        game.updateBombs();
+        System.out.printf("bombes=%d bonus=%d joueurs=%d%n",
+                game.getBombs().size(), game.getBonuses().size(), game.getPlayers().size());
+
+        for (int i = 0; i < WARMUP; i++) {
+            sink += scanLookups(game);
+            sink += indexedLookups(game);
+        }
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += scanLookups(game);
+        long t1 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += indexedLookups(game);
+        long t2 = System.nanoTime();
+        for (int i = 0; i < ITERATIONS / 10; i++) game.updateBombs();
+        long t3 = System.nanoTime();
+
+        System.out.printf("recherches par parcours de listes : %8.1f ns/tick%n", (t1 - t0) / (double) ITERATIONS);
+        System.out.printf("recherches par index             : %8.1f ns/tick%n", (t2 - t1) / (double) ITERATIONS);
+        System.out.printf("updateBombs complet (indexé)     : %8.1f ns/tick%n", (t3 - t2) / (double) (ITERATIONS / 10));
+        if (sink == 42) System.out.println();
+    }
+
+    /** Recherches d'un tick telles que faites avant l'index. */
+    private static int scanLookups(Game game) {
+        List<Player> players = game.getPlayers();
+        List<Bomb> bombs = game.getBombs();
+        List<Bonus> bonuses = game.getBonuses();
+        int hits = 0;
+        for (Player p : players) {
+            for (Bonus b : bonuses) {
+                if (p.getX() == b.getX() && p.getY() == b.getY()) hits++;
+            }
+            for (Bomb b : bombs) {
+                if (b.getX() == p.getX() && b.getY() == p.getY()) hits++;
+            }
+        }
+        int cx = SIZE / 2, cy = SIZE / 2;
+        for (int d = 0; d < 4; d++) {
+            for (int i = 0; i <= 3; i++) {
+                int x = cx + (d == 0 ? i : d == 1 ? -i : 0), y = cy + (d == 2 ? i : d == 3 ? -i : 0);
+                for (Bomb b : bombs) {
+                    if (b.getX() == x && b.getY() == y) hits++;
+                }
+                for (Player p : players) {
+                    if (p.getX() == x && p.getY() == y) hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /** Mêmes recherches via l'index d'occupation. */
+    private static int indexedLookups(Game game) {
+        Occupancy index = game.getOccupancy();
+        int hits = 0;
+        for (Player p : game.getPlayers()) {
+            if (index.getBonusAt(p.getX(), p.getY()) != null) hits++;
+            if (index.hasBombAt(p.getX(), p.getY())) hits++;
+        }
+        int cx = SIZE / 2, cy = SIZE / 2;
+        for (int d = 0; d < 4; d++) {
+            for (int i = 0; i <= 3; i++) {
+                int x = cx + (d == 0 ? i : d == 1 ? -i : 0), y = cy + (d == 2 ? i : d == 3 ? -i : 0);
+                if (index.hasBombAt(x, y)) hits++;
+                hits += Long.bitCount(index.getPlayerMask(x, y, 0));
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyTest {
+
+    private Occupancy occupancy;
+
+    @BeforeEach
+    void setUp() {
+        occupancy = new Occupancy(5, 5, 4);
+    }
+
+    @Test
+    void testPutAndRemoveBomb() {
+        Bomb bomb = new Bomb(2, 3, 3, 1);
+        assertTrue(occupancy.putBomb(bomb));
+        assertSame(bomb, occupancy.getBombAt(2, 3));
+        assertTrue(occupancy.hasBombAt(2, 3));
+
+        // Une seule bombe par case
+        assertFalse(occupancy.putBomb(new Bomb(2, 3, 3, 1)));
+
+        occupancy.removeBomb(bomb);
+        assertNull(occupancy.getBombAt(2, 3));
+        assertFalse(occupancy.hasBombAt(-1, 0));
+    }
+
+    @Test
+    void testPutAndRemoveBonus() {
+        Bonus bonus = new LifeBonus(1, 1);
+        assertTrue(occupancy.putBonus(bonus));
+        assertSame(bonus, occupancy.getBonusAt(1, 1));
+        occupancy.removeBonus(bonus);
+        assertNull(occupancy.getBonusAt(1, 1));
+    }
+
+    @Test
+    void testPlayerMask() {
+        occupancy.addPlayer(0, 1, 1);
+        occupancy.addPlayer(3, 1, 1);
+        assertEquals(0b1001L, occupancy.getPlayerMask(1, 1, 0));
+
+        occupancy.movePlayer(0, 1, 1, 2, 1);
+        assertEquals(0b1000L, occupancy.getPlayerMask(1, 1, 0));
+        assertEquals(0b0001L, occupancy.getPlayerMask(2, 1, 0));
+        assertTrue(occupancy.hasPlayerAt(2, 1));
+        assertFalse(occupancy.hasPlayerAt(3, 3));
+    }
+
+    @Test
+    void testPlayerMaskBeyondSixtyFourSlots() {
+        Occupancy large = new Occupancy(3, 3, 130);
+        assertEquals(3, large.getPlayerWords());
+        large.addPlayer(129, 0, 0);
+        assertEquals(0L, large.getPlayerMask(0, 0, 0));
+        assertEquals(1L << 1, large.getPlayerMask(0, 0, 2));
+        assertTrue(large.hasPlayerAt(0, 0));
+    }
+
+    @Test
+    void testGameKeepsIndexInSyncWithPlayersAndBombs() {
+        Level level = new Level("test", "tester", "easy", "unit test", new int[7][7]);
+        Game game = new Game(7, 7, 2, 0, level, AIDifficulty.EASY);
+        Player p = game.getPlayers().get(0);
+        Occupancy index = game.getOccupancy();
+        assertTrue(index.hasPlayerAt(p.getX(), p.getY()));
+
+        game.placeBomb(p);
+        assertNotNull(index.getBombAt(p.getX(), p.getY()));
+
+        int oldX = p.getX(), oldY = p.getY();
+        game.movePlayer(p, 1, 0);
+        assertFalse(index.hasPlayerAt(oldX, oldY));
+        assertTrue(index.hasPlayerAt(p.getX(), p.getY()));
+
+        for (int i = 0; i < Bomb.DEFAULT_TIMER; i++) {
+            game.updateBombs();
+        }
+        assertNull(index.getBombAt(oldX, oldY));
+    }
+
+    @Test
+    void testBombsAddedToListAreIndexedAndChain() {
+        Level level = new Level("test", "tester", "easy", "unit test", new int[7][7]);
+        Game game = new Game(7, 7, 2, 0, level, AIDifficulty.EASY);
+        Bomb first = new Bomb(3, 3, 1, 2);
+        Bomb second = new Bomb(3, 5, 50, 1);
+        game.getBombs().add(first);
+        game.getBombs().add(second);
+        // Doublon sur la même case : ignoré
+        game.getBombs().add(new Bomb(3, 3, 50, 1));
+
+        game.updateBombs();
+        assertTrue(second.isExploded());
+        assertTrue(game.getBombs().isEmpty());
+        assertFalse(game.getOccupancy().hasBombAt(3, 5));
+    }
+}
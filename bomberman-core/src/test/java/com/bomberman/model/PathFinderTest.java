@@ -0,0 +1,93 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathFinderTest {
+
+    /** Vérifie que le chemin part d'une case voisine du départ et avance d'une case à chaque pas. */
+    private static void assertContiguous(int w, int sx, int sy, int[] path, int length) {
+        int x = sx, y = sy;
+        for (int i = 0; i < length; i++) {
+            int nx = path[i] % w, ny = path[i] / w;
+            assertEquals(1, Math.abs(nx - x) + Math.abs(ny - y), "pas " + i);
+            x = nx;
+            y = ny;
+        }
+    }
+
+    @Test
+    void testReturnsFullShortestPath() {
+        Grid grid = TestGrids.emptyGrid(9);
+        // Mur indestructible de (4,0) à (4,6) : il faut le contourner par le bas
+        for (int y = 0; y <= 6; y++) grid.setCell(4, y, Grid.CellType.INDESTRUCTIBLE);
+        PathFinder finder = new PathFinder();
+        int[] path = new int[64];
+
+        int length = finder.findPath(grid, TestGrids.dangers(grid), 1, 1, 7, 1, 256, path);
+
+        assertEquals(18, length);
+        assertContiguous(9, 1, 1, path, length);
+        assertEquals(1 * 9 + 7, path[length - 1]);
+        assertEquals(0, finder.findPath(grid, TestGrids.dangers(grid), 3, 3, 3, 3, 256, path));
+    }
+
+    @Test
+    void testDestructibleWallsArePassable() {
+        Grid grid = TestGrids.emptyGrid(9);
+        for (int y = 0; y < 9; y++) grid.setCell(4, y, Grid.CellType.DESTRUCTIBLE);
+        int[] path = new int[64];
+
+        int length = new PathFinder().findPath(grid, TestGrids.dangers(grid), 2, 4, 6, 4, 256, path);
+
+        assertEquals(4, length);
+        assertEquals(4 * 9 + 4, path[1]);
+    }
+
+    @Test
+    void testDetoursAroundThreatenedCells() {
+        Grid grid = TestGrids.emptyGrid(9);
+        // Une bombe lente menace la ligne droite : un détour de deux pas est moins cher que le danger
+        DangerMap map = TestGrids.dangers(grid, new Bomb(4, 0, 30, 1));
+        int[] path = new int[64];
+
+        int length = new PathFinder().findPath(grid, map, 1, 1, 7, 1, 256, path);
+
+        assertEquals(8, length);
+        assertContiguous(9, 1, 1, path, length);
+        for (int i = 0; i < length; i++) assertNotEquals(1 * 9 + 4, path[i]);
+    }
+
+    @Test
+    void testCellExplodingOnArrivalIsForbidden() {
+        Grid grid = TestGrids.emptyGrid(9);
+        // Couloir vertical d'une case de large ; sa case (1,3) explose au tick 1
+        for (int y = 0; y < 9; y++) {
+            grid.setCell(0, y, Grid.CellType.INDESTRUCTIBLE);
+            grid.setCell(2, y, Grid.CellType.INDESTRUCTIBLE);
+        }
+        DangerMap map = TestGrids.dangers(grid, new Bomb(1, 3, 1, 0));
+        int[] path = new int[64];
+        PathFinder finder = new PathFinder();
+
+        // Arrivée au tick 2 : interdite ; arrivée au tick 3 : permise
+        assertEquals(-1, finder.findPath(grid, map, 1, 1, 1, 5, 256, path));
+        assertEquals(5, finder.findPath(grid, map, 1, 0, 1, 5, 256, path));
+        assertFalse(PathFinder.passableAt(1, 2));
+        assertTrue(PathFinder.passableAt(1, 3));
+        assertTrue(PathFinder.passableAt(DangerMap.SAFE, 0));
+    }
+
+    @Test
+    void testGivesUpAfterExpansionBudget() {
+        Grid grid = TestGrids.emptyGrid(9);
+        int[] path = new int[64];
+        PathFinder finder = new PathFinder();
+
+        assertEquals(-1, finder.findPath(grid, TestGrids.dangers(grid), 0, 0, 8, 8, 5, path));
+        assertEquals(5, finder.lastExpansions());
+        assertEquals(16, finder.findPath(grid, TestGrids.dangers(grid), 0, 0, 8, 8, 256, path));
+        assertEquals(-1, finder.findPath(grid, TestGrids.dangers(grid), 0, 0, 8, 8, 256, new int[8]));
+    }
+}
@@ -92,6 +92,24 @@ class PlayerTest {
         assertEquals(4, player.getLives());
     }
 
+    @Test
+    void testDropBombUsesActiveBombCounter() {
+        assertTrue(player.canDropBomb());
+        assertNotNull(player.dropBomb(3));
+        player.onBombPlaced();
+        assertEquals(1, player.getActiveBombCount());
+        assertNull(player.dropBomb(3));
+
+        player.setMaxBombs(2);
+        assertNotNull(player.dropBomb(3));
+        player.onBombExploded();
+        player.onBombExploded(); // jamais négatif
+        assertEquals(0, player.getActiveBombCount());
+
+        player.kill();
+        assertFalse(player.canDropBomb());
+    }
+
     @Test
     void testBombDropLimit() {
         List<Bomb> activeBombs = new ArrayList<>();
@@ -145,4 +163,35 @@ class PlayerTest {
         assertEquals(rangeBefore, player.getBombRange());
         assertEquals(0, player.getActiveBonuses().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStackedFlameEffectsExpireIndependently() {
+        player.addFlameBonusTemp(1, 1.0);
+        player.addFlameBonusTemp(2, 2.0);
+        assertEquals(4, player.getBombRange());
+        // La portée de base peut changer sans fausser le retrait des effets
+        player.setBombRange(3);
+        assertEquals(6, player.getBombRange());
+
+        player.updateActiveBonuses();
+        player.updateActiveBonuses(); // 1.0 s : premier effet expiré
+        assertEquals(5, player.getBombRange());
+        player.updateActiveBonuses();
+        player.updateActiveBonuses();
+        assertEquals(3, player.getBombRange());
+        assertFalse(player.hasEffect(ActiveBonus.Type.FLAME));
+    }
+
+    @Test
+    void testRefreshEffectIsProlongedNotDuplicated() {
+        player.addJacketBonusTemp(1.0);
+        player.addJacketBonusTemp(2.0);
+        assertEquals(1, player.getActiveBonuses().size());
+        assertEquals(ActiveBonus.Type.JACKET.mask(), player.getEffectMask());
+        for (int i = 0; i < 3; i++) player.updateActiveBonuses();
+        assertTrue(player.isInvincibleToBombs());
+        player.updateActiveBonuses();
+        assertFalse(player.isInvincibleToBombs());
+        assertEquals(0, player.getEffectMask());
+    }
+}
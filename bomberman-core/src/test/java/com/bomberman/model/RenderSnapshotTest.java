@@ -0,0 +1,55 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderSnapshotTest {
+
+    @Test
+    void testCaptureCopiesWhatTheViewDraws() {
+        Level level = new Level("s", "", "", "", new int[7][7]);
+        Game game = new Game(7, 7, 2, 0, level, AIDifficulty.EASY, 3L);
+        Player p = game.getPlayers().get(0);
+        game.placeBomb(p);
+        game.movePlayer(p, 1, 0);
+
+        RenderSnapshot snapshot = new RenderSnapshot();
+        snapshot.capture(game);
+        assertEquals(7, snapshot.getWidth());
+        assertEquals(2, snapshot.getPlayerCount());
+        assertEquals(p.getX(), snapshot.getPlayerX(0));
+        assertTrue(snapshot.isHuman(0));
+        assertEquals(1, snapshot.getBombCount());
+        assertEquals(1, snapshot.getBombX(0));
+
+        // L'instantané ne suit pas la partie : il garde l'état de la capture
+        for (int i = 0; i < Bomb.DEFAULT_TIMER; i++) game.tick();
+        assertEquals(1, snapshot.getBombCount());
+        assertNull(snapshot.getExplosionCell(1, 1));
+
+        snapshot.capture(game);
+        assertEquals(0, snapshot.getBombCount());
+        assertEquals(Grid.CellType.EXPLOSION, snapshot.getCell(1, 1));
+        assertEquals(Game.ExplosionPartType.CENTRE, snapshot.getExplosionCell(1, 1).type);
+        assertEquals(game.getTickCount(), snapshot.getTick());
+    }
+
+    @Test
+    void testCaptureKeepsSubmitTimesOfAppliedCommands() {
+        Game game = new Game(7, 7, 1, 0, new Level("s", "", "", "", new int[7][7]), AIDifficulty.EASY, 3L);
+        RenderSnapshot snapshot = new RenderSnapshot();
+        long before = System.nanoTime();
+        game.submitMove(0, 1, 0);
+        game.submitMove(0, 0, 1);
+        snapshot.capture(game);
+        assertEquals(0, snapshot.getCommandsApplied()); // pas encore appliquées
+
+        game.tick();
+        snapshot.capture(game);
+        assertEquals(2, snapshot.getCommandsApplied());
+        assertTrue(snapshot.getCommandNanos(0) >= before);
+        assertTrue(snapshot.getCommandNanos(1) >= snapshot.getCommandNanos(0));
+        assertEquals(2, game.getCommandWaitHistogram().count());
+    }
+}
@@ -0,0 +1,106 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    private static final int TICKS = 600;
+
+    private Level level;
+    private Game game;
+    private ReplayRecorder recorder;
+    private final List<Long> checksums = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        int[][] layout = new int[13][15];
+        for (int y = 0; y < 13; y++) {
+            for (int x = 0; x < 15; x++) {
+                if (x == 0 || y == 0 || x == 14 || y == 12 || (x % 2 == 0 && y % 2 == 0)) layout[y][x] = 1;
+                else if ((x + y) % 3 == 0) layout[y][x] = 2;
+            }
+        }
+        level = new Level("replay", "sol.png", "mur.png", "bloc.png", layout);
+        game = new Game(15, 13, 2, 2, level, AIDifficulty.NORMAL, 99L);
+        recorder = new ReplayRecorder(game, level);
+        game.setReplayRecorder(recorder);
+
+        // Partie scriptée : les humains bougent et posent des bombes entre les ticks
+        int[][] moves = {{1, 0}, {0, 1}, {-1, 0}, {0, -1}};
+        checksums.add(game.stateChecksum());
+        for (int t = 0; t < TICKS; t++) {
+            Player human = game.getPlayers().get(t % 2);
+            int[] m = moves[(t / 3) % 4];
+            game.movePlayer(human, m[0], m[1]);
+            if (t % 17 == 0) game.placeBomb(human);
+            game.tick();
+            checksums.add(game.stateChecksum());
+        }
+        recorder.finish(game);
+    }
+
+    @Test
+    void testReplayReproducesFinalState() throws IOException {
+        ReplayPlayer player = new ReplayPlayer(recorder.toByteArray(), level);
+        assertTrue(player.isComplete());
+        assertEquals(TICKS, player.getEndTick());
+        assertEquals("replay", player.getLevelName());
+        assertEquals(TICKS, player.runToEnd());
+        assertTrue(player.matchesRecordedChecksum());
+        assertEquals(game.stateChecksum(), player.getGame().stateChecksum());
+    }
+
+    @Test
+    void testEveryTickMatchesLiveMatch() throws IOException {
+        ReplayPlayer player = new ReplayPlayer(recorder.toByteArray(), level);
+        for (int t = 0; t < TICKS - 1; t++) {
+            assertEquals(checksums.get(t), player.getGame().stateChecksum(), "divergence au tick " + t);
+            player.step();
+        }
+    }
+
+    @Test
+    void testSeekUsesKeyframesBackwardAndForward() throws IOException {
+        ReplayPlayer player = new ReplayPlayer(recorder.toByteArray(), level, 50);
+        player.seek(520);
+        assertEquals(checksums.get(520), player.getGame().stateChecksum());
+        assertTrue(player.getKeyframeCount() >= 11);
+
+        player.seek(123);
+        assertEquals(123, player.getGame().getTickCount());
+        assertEquals(checksums.get(123), player.getGame().stateChecksum());
+
+        player.seek(301);
+        assertEquals(checksums.get(301), player.getGame().stateChecksum());
+    }
+
+    @Test
+    void testReplayIsCompact() {
+        // 600 ticks à 200 ms = 2 minutes de jeu, avec une action humaine par tick et les actions des IA
+        int bytes = recorder.size();
+        assertTrue(bytes < TICKS * 8, "replay trop gros : " + bytes + " octets");
+    }
+
+    @Test
+    void testWrongLevelIsRejected() {
+        Level other = new Level("replay", "sol.png", "mur.png", "bloc.png", new int[13][15]);
+        assertThrows(IOException.class, () -> new ReplayPlayer(recorder.toByteArray(), other));
+        assertThrows(IOException.class, () -> new ReplayPlayer(new byte[]{1, 2, 3}, level));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        Game copy = game.copy();
+        assertEquals(game.stateChecksum(), copy.stateChecksum());
+        copy.tick();
+        assertNotEquals(game.getTickCount(), copy.getTickCount());
+        assertEquals(checksums.get(TICKS), game.stateChecksum());
+    }
+}
@@ -0,0 +1,44 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationThreadTest {
+
+    private static final long TICK = 1_000_000L;
+
+    @Test
+    void testPublishesInitialStateBeforeStart() {
+        Game game = new Game(7, 7, 2, 0, new Level("s", "", "", "", new int[7][7]), AIDifficulty.EASY, 1L);
+        SimulationThread simulation = new SimulationThread(new GameEngine(game, TICK, 5));
+        RenderSnapshot snapshot = simulation.latestSnapshot();
+        assertEquals(0, snapshot.getTick());
+        assertEquals(2, snapshot.getPlayerCount());
+        assertFalse(simulation.isRunning());
+    }
+
+    @Test
+    void testSubmittedCommandsAreAppliedAndPublished() throws Exception {
+        Game game = new Game(7, 7, 2, 0, new Level("s", "", "", "", new int[7][7]), AIDifficulty.EASY, 1L);
+        SimulationThread simulation = new SimulationThread(new GameEngine(game, TICK, 5));
+        simulation.start();
+        try {
+            assertTrue(game.submitMove(0, 1, 0));
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            RenderSnapshot snapshot = simulation.latestSnapshot();
+            while ((snapshot.getPlayerX(0) != 2 || snapshot.getTick() < 10) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+                snapshot = simulation.latestSnapshot();
+            }
+            assertEquals(2, snapshot.getPlayerX(0));
+            assertTrue(snapshot.getTick() >= 10, "tick " + snapshot.getTick());
+        } finally {
+            simulation.stop();
+        }
+        assertFalse(simulation.isRunning());
+        long tick = game.getTickCount();
+        Thread.sleep(20);
+        assertEquals(tick, game.getTickCount());
+    }
+}
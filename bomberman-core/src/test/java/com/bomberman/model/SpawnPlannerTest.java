@@ -0,0 +1,47 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+class SpawnPlannerTest {
+
+    @Test
+    void testArenaSideIsOddAndGrowsWithPlayers() {
+        assertEquals(65, SpawnPlanner.arenaSide(64));
+        assertEquals(129, SpawnPlanner.arenaSide(256));
+        assertEquals(13, SpawnPlanner.arenaSide(2));
+        for (int n = 1; n <= Game.MAX_PLAYERS; n++) assertEquals(1, SpawnPlanner.arenaSide(n) & 1);
+    }
+
+    @Test
+    void testSpawnsAreDistinctWalkableAndSpread() {
+        int side = SpawnPlanner.arenaSide(64);
+        Grid grid = new Grid(side, side, null, new GameRandom(5L));
+        int[][] spawns = SpawnPlanner.plan(grid, 64);
+        assertEquals(64, spawns.length);
+        assertArrayEquals(new int[] {1, 1}, spawns[0]);
+
+        Set<Integer> cells = new HashSet<>();
+        int closest = Integer.MAX_VALUE;
+        for (int i = 0; i < spawns.length; i++) {
+            assertNotEquals(Grid.CellType.INDESTRUCTIBLE, grid.getCell(spawns[i][0], spawns[i][1]));
+            assertTrue(cells.add(spawns[i][1] * side + spawns[i][0]));
+            for (int j = 0; j < i; j++) {
+                closest = Math.min(closest, Math.abs(spawns[i][0] - spawns[j][0]) + Math.abs(spawns[i][1] - spawns[j][1]));
+            }
+        }
+        // 64 joueurs sur 65x65 : une grille régulière les placerait à 8 cases les uns des autres
+        assertTrue(closest >= 6, "écart minimal " + closest);
+    }
+
+    @Test
+    void testPlanIsDeterministicAndRejectsTooManyPlayers() {
+        Grid grid = new Grid(33, 33, null, new GameRandom(9L));
+        assertArrayEquals(SpawnPlanner.plan(grid, 16), SpawnPlanner.plan(grid, 16));
+        assertThrows(IllegalArgumentException.class, () -> SpawnPlanner.plan(new Grid(7, 7, null, new GameRandom(1L)), 10));
+    }
+}
@@ -0,0 +1,26 @@
+package com.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grilles de test communes aux tests des recherches des IA.
+ */
+final class TestGrids {
+
+    private TestGrids() {
+    }
+
+    /** @return grille carrée de {@code size} cases de côté, entièrement vide */
+    static Grid emptyGrid(int size) {
+        return new Grid(size, size, new Level("vide", "", "", "", new int[size][size]));
+    }
+
+    /** @return carte des dangers des bombes données sur la grille, au tick 0 */
+    static DangerMap dangers(Grid grid, Bomb... bombs) {
+        List<Bomb> list = new ArrayList<>(List.of(bombs));
+        DangerMap map = new DangerMap();
+        map.rebuild(grid, list, 0);
+        return map;
+    }
+}
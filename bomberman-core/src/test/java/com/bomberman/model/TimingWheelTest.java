@@ -0,0 +1,83 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private final List<String> fired = new ArrayList<>();
+    private final TimingWheel.Handler record = (kind, value, ref) -> fired.add(kind + ":" + value);
+
+    @Test
+    void testEventsFireAtTheirTickInSchedulingOrder() {
+        TimingWheel wheel = new TimingWheel(8);
+        wheel.schedule(2, 0, 1, null);
+        wheel.schedule(1, 0, 2, null);
+        wheel.schedule(2, 1, 3, null);
+        assertEquals(3, wheel.size());
+
+        assertEquals(1, wheel.advance(record));
+        assertEquals(List.of("0:2"), fired);
+        assertEquals(2, wheel.advance(record));
+        assertEquals(List.of("0:2", "0:1", "1:3"), fired);
+        assertEquals(0, wheel.size());
+        assertEquals(2, wheel.getCurrentTick());
+    }
+
+    @Test
+    void testDueTicksBeyondOneTurnWaitForTheirRound() {
+        TimingWheel wheel = new TimingWheel(4);
+        wheel.schedule(9, 0, 9, null);  // même case que les ticks 1 et 5
+        wheel.schedule(1, 0, 1, null);
+        for (int t = 1; t <= 8; t++) wheel.advance(record);
+        assertEquals(List.of("0:1"), fired);
+        wheel.advance(record);
+        assertEquals(List.of("0:1", "0:9"), fired);
+    }
+
+    @Test
+    void testCancelBeforeAndDuringFiring() {
+        TimingWheel wheel = new TimingWheel(8);
+        int a = wheel.schedule(3, 0, 1, null);
+        wheel.cancel(a);
+        assertEquals(0, wheel.size());
+
+        int[] second = new int[1];
+        wheel.schedule(1, 0, 10, null);
+        second[0] = wheel.schedule(1, 0, 11, null);
+        // Le premier événement annule le second, échu au même tick
+        wheel.advance((kind, value, ref) -> {
+            fired.add(kind + ":" + value);
+            wheel.cancel(second[0]);
+        });
+        assertEquals(List.of("0:10"), fired);
+        for (int t = 0; t < 5; t++) wheel.advance(record);
+        assertEquals(List.of("0:10"), fired);
+    }
+
+    @Test
+    void testHandlerCanScheduleAndCapacityGrows() {
+        TimingWheel wheel = new TimingWheel(16);
+        for (int i = 0; i < 100; i++) wheel.schedule(1 + i % 3, 0, i, null);
+        assertEquals(100, wheel.size());
+        wheel.advance((kind, value, ref) -> wheel.schedule(wheel.getCurrentTick() + 5, 1, value, null));
+        assertEquals(100, wheel.size());
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(1, 0, 0, null));
+    }
+
+    @Test
+    void testClearResetsTick() {
+        TimingWheel wheel = new TimingWheel(8);
+        wheel.schedule(4, 0, 1, null);
+        wheel.clear(10);
+        assertEquals(0, wheel.size());
+        assertEquals(10, wheel.getCurrentTick());
+        wheel.schedule(11, 0, 2, null);
+        wheel.advance(record);
+        assertEquals(List.of("0:2"), fired);
+    }
+}
@@ -0,0 +1,56 @@
+package com.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TripleBufferTest {
+
+    @Test
+    void testReaderSeesLatestPublishedBuffer() {
+        TripleBuffer<int[]> buffer = new TripleBuffer<>(new int[1], new int[1], new int[1]);
+        int[] initial = buffer.acquire();
+        assertFalse(buffer.hasFresh());
+
+        buffer.writeBuffer()[0] = 1;
+        buffer.publish();
+        buffer.writeBuffer()[0] = 2;
+        buffer.publish();
+        assertTrue(buffer.hasFresh());
+        int[] latest = buffer.acquire();
+        assertEquals(2, latest[0]);
+        assertNotSame(initial, latest);
+        // Sans nouvelle publication, le lecteur garde le même tampon
+        assertSame(latest, buffer.acquire());
+        assertNotSame(latest, buffer.writeBuffer());
+    }
+
+    @Test
+    void testPublishedBufferIsNeverHandedBackToWriterWhileRead() throws Exception {
+        TripleBuffer<long[]> buffer = new TripleBuffer<>(new long[8], new long[8], new long[8]);
+        Thread writer = new Thread(() -> {
+            for (long v = 1; v <= 200_000; v++) {
+                long[] b = buffer.writeBuffer();
+                for (int i = 0; i < b.length; i++) b[i] = v;
+                buffer.publish();
+            }
+        });
+        writer.start();
+        long last = 0;
+        while (writer.isAlive() || buffer.hasFresh()) {
+            long[] b = buffer.acquire();
+            long v = b[0];
+            for (long x : b) assertEquals(v, x, "tampon modifié pendant la lecture");
+            assertTrue(v >= last, "retour à un état plus ancien");
+            last = v;
+        }
+        writer.join();
+        assertEquals(200_000, buffer.acquire()[0]);
+    }
+
+    @Test
+    void testRejectsSharedBuffers() {
+        int[] a = new int[1];
+        assertThrows(IllegalArgumentException.class, () -> new TripleBuffer<>(a, a, new int[1]));
+    }
+}
@@ -1,6 +1,7 @@
 package com.bomberman.controller;
 
 import com.bomberman.model.*;
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.fxml.FXML;
@@ -9,6 +10,7 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
@@ -22,6 +24,9 @@ import com.bomberman.model.Game.ExplosionPartType;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,15 +45,36 @@ public class GameController {
 
     // Constantes d'affichage
     public static final int DEFAULT_CELL_SIZE = 48;
-    private static final int CELL_SIZE = DEFAULT_CELL_SIZE;
+    /** Taille maximale du plateau affiché, en pixels : les grandes arènes réduisent la taille des cases. */
+    private static final int MAX_BOARD_WIDTH = 1280;
+    private static final int MAX_BOARD_HEIGHT = 800;
+    private static final int MIN_CELL_SIZE = 4;
+    private int cellSize = DEFAULT_CELL_SIZE;
     private static final double BORDER_PIXEL_RATIO = 0.5;
     private static final double TOP_UI_HEIGHT_RATIO = 2.5;
 
     // Données du jeu
     private Game game;
-    private Timeline gameTimeline;
+    private SimulationThread simulation;
+    /** Dernier instantané publié par le thread de simulation, seul état de partie lu par l'affichage. */
+    private RenderSnapshot snapshot;
+    private AnimationTimer renderTimer;
+    /** Lecture des événements de la partie par l'affichage : pas des joueurs et fin de partie. */
+    private GameEvents.Cursor renderEvents;
+    private final GameEvents.Handler renderHandler = this::onGameEvent;
+    private long missedRenderEvents;
+    private int endedWinnerSlot = -2; // -2 : partie en cours
+    private MatchStats matchStats;
+
+    // Latence entre une touche (dépôt de la commande) et la première image qui en montre l'effet
+    private final LatencyHistogram inputLatency = new LatencyHistogram();
+    private long displayedCommands;
+    private boolean showLatencyOverlay = true;
+    private boolean latencyReported;
     private Timeline timerTimeline;
     private int timerSeconds = 180; // 3 minutes
+    private ReplayRecorder replayRecorder;
+    private static final String REPLAY_DIR = "replays";
 
     // Ressources graphiques
     private static final String[] AVATAR_PATHS = {
@@ -88,6 +114,8 @@ public class GameController {
     private final Image[][] playerSprites = new Image[4][4];
 
     private int[] playerDirections = new int[4];
+    /** Indice de sprite (bas, haut, gauche, droite) de chaque {@link Game.Direction}. */
+    private static final int[] DIRECTION_SPRITES = {1, 0, 2, 3};
 
     // Animation des joueurs
     private static class PlayerAnim {
@@ -101,6 +129,8 @@ public class GameController {
     private int playerCount;
     private int iaCount;
     private AIDifficulty aiDifficulty = AIDifficulty.EASY;
+    private int mapWidth = 15;
+    private int mapHeight = 13;
 
     private Image wallIndestructibleImg;
     private Image wallDestructibleImg;
@@ -120,6 +150,7 @@ public class GameController {
     public void setPlayerCount(int playerCount) { this.playerCount = playerCount; }
     public void setIaCount(int iaCount) { this.iaCount = iaCount; }
     public void setAIDifficulty(AIDifficulty aiDifficulty) { this.aiDifficulty = aiDifficulty; }
+    public void setMapSize(int width, int height) { this.mapWidth = width; this.mapHeight = height; }
 
     @FXML
     public void initialize() {}
@@ -128,7 +159,22 @@ public class GameController {
      * Démarre une partie et initialise l'affichage et la logique.
      */
     public void startGame() {
-        game = new Game(15, 13, playerCount, iaCount, level, aiDifficulty);
+        // Battle royale : arène procédurale agrandie selon le nombre de joueurs
+        boolean battleRoyale = playerCount + iaCount > 4;
+        int side = battleRoyale ? SpawnPlanner.arenaSide(playerCount + iaCount) : 0;
+        Level mapLevel = battleRoyale ? null : level;
+        game = new Game(Math.max(mapWidth, side), Math.max(mapHeight, side), playerCount, iaCount, mapLevel, aiDifficulty);
+        // Des dizaines de joueurs : ramassage, fin de partie et cibles des IA lisent les colonnes
+        if (battleRoyale) game.enableEntityStore();
+        replayRecorder = new ReplayRecorder(game, mapLevel);
+        game.setReplayRecorder(replayRecorder);
+        // La partie n'est plus touchée que par le thread de simulation à partir d'ici
+        simulation = new SimulationThread(new GameEngine(game));
+        snapshot = simulation.latestSnapshot();
+        renderEvents = game.getEvents().newCursor();
+        missedRenderEvents = 0;
+        endedWinnerSlot = -2;
+        matchStats = new MatchStats(game.getEvents(), game.getPlayers().size());
 
         for (int i = 0; i < avatarsJoueurs.length; i++) {
             avatarsJoueurs[i] = safeImageFromResource(AVATAR_PATHS[i]);
@@ -156,12 +202,14 @@ public class GameController {
         explosionV2BrancheImg = safeImageFromResource("/images/explosion/ExplosionV2.png");
         explosionV2FinImg     = safeImageFromResource("/images/explosion/ExplosionV2-fin.png");
 
-        int gridWidth = game.getGrid().getWidth();
-        int gridHeight = game.getGrid().getHeight();
-        double borderPixel = CELL_SIZE * BORDER_PIXEL_RATIO;
-        double topUiHeight = CELL_SIZE * TOP_UI_HEIGHT_RATIO;
-        double canvasWidth = borderPixel * 2 + gridWidth * CELL_SIZE;
-        double canvasHeight = topUiHeight + borderPixel * 2 + gridHeight * CELL_SIZE;
+        int gridWidth = snapshot.getWidth();
+        int gridHeight = snapshot.getHeight();
+        cellSize = Math.max(MIN_CELL_SIZE, Math.min(DEFAULT_CELL_SIZE,
+                Math.min(MAX_BOARD_WIDTH / gridWidth, MAX_BOARD_HEIGHT / gridHeight)));
+        double borderPixel = cellSize * BORDER_PIXEL_RATIO;
+        double topUiHeight = topUiHeight();
+        double canvasWidth = borderPixel * 2 + gridWidth * cellSize;
+        double canvasHeight = topUiHeight + borderPixel * 2 + gridHeight * cellSize;
         gameCanvas.setWidth(canvasWidth);
         gameCanvas.setHeight(canvasHeight);
         if (stage != null) {
@@ -173,18 +221,17 @@ public class GameController {
             stage.setMaxHeight(canvasHeight + 40);
         }
 
-        playerDirections = new int[game.getPlayers().size()];
-        for (int i = 0; i < playerDirections.length; i++) playerDirections[i] = 0;
-
-        playerAnims = new PlayerAnim[game.getPlayers().size()];
-        for (int i = 0; i < playerAnims.length; i++) {
-            Player p = game.getPlayers().get(i);
+        int nbPlayers = snapshot.getPlayerCount();
+        playerDirections = new int[nbPlayers];
+        playerAnims = new PlayerAnim[nbPlayers];
+        for (int i = 0; i < nbPlayers; i++) {
             playerAnims[i] = new PlayerAnim();
-            playerAnims[i].visX = p.getX();
-            playerAnims[i].visY = p.getY();
-            playerAnims[i].targetX = p.getX();
-            playerAnims[i].targetY = p.getY();
+            playerAnims[i].visX = playerAnims[i].targetX = snapshot.getPlayerX(i);
+            playerAnims[i].visY = playerAnims[i].targetY = snapshot.getPlayerY(i);
         }
+        inputLatency.reset();
+        displayedCommands = snapshot.getCommandsApplied();
+        latencyReported = false;
 
         drawGrid();
 
@@ -192,11 +239,16 @@ public class GameController {
         gameCanvas.setFocusTraversable(true);
         gameCanvas.setOnKeyPressed(this::handleKeyPressed);
 
-        // Ticks de jeu
-        if (gameTimeline != null) gameTimeline.stop();
-        gameTimeline = new Timeline(new KeyFrame(Duration.seconds(0.05), e -> updateIAAndGame()));
-        gameTimeline.setCycleCount(Timeline.INDEFINITE);
-        gameTimeline.play();
+        // Simulation sur son thread, affichage du dernier instantané à chaque pulsation JavaFX
+        if (renderTimer != null) renderTimer.stop();
+        renderTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                renderLatestSnapshot();
+            }
+        };
+        renderTimer.start();
+        simulation.start();
 
         // Timer décompte
         if (timerTimeline != null) timerTimeline.stop();
@@ -205,7 +257,6 @@ public class GameController {
             timerSeconds--;
             if (timerSeconds <= 0) {
                 timerTimeline.stop();
-                gameTimeline.stop();
                 showEndGameScreen("Time's up!");
             }
             drawGrid();
@@ -219,8 +270,9 @@ public class GameController {
      * @param message Message à afficher
      */
     private void showEndGameScreen(String message) {
-        if (gameTimeline != null) gameTimeline.stop();
-        if (timerTimeline != null) timerTimeline.stop();
+        stopGame();
+        saveReplay();
+        reportEndOfMatch();
 
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/bomberman/view/EndGameScreen.fxml"));
@@ -241,70 +293,116 @@ public class GameController {
     }
 
     /**
-     * Vérifie si la partie est terminée.
+     * Arrête l'affichage, le décompte et le thread de simulation : la partie peut ensuite être lue ici.
      */
-    private void checkGameOver() {
-        if (gameEnded) return;
-        long aliveCount = game.getPlayers().stream().filter(Player::isAlive).count();
-        if (aliveCount <= 1) {
-            gameEnded = true;
-            Player winner = game.getPlayers().stream().filter(Player::isAlive).findFirst().orElse(null);
-            String message;
-            if (winner != null) {
-                message = (winner.isHuman() ? "Player " : "AI ") + winner.getId() + " wins!";
-            } else {
-                message = "It's a tie!";
-            }
-            showEndGameScreen(message);
-        }
+    private void stopGame() {
+        if (renderTimer != null) renderTimer.stop();
+        if (timerTimeline != null) timerTimeline.stop();
+        if (simulation != null) simulation.stop();
     }
 
     /**
-     * Met à jour la logique du jeu et les IA, puis vérifie la fin de partie.
+     * Écrit en fin de partie les statistiques tirées du flux d'événements, les percentiles de
+     * latence entrée → affichage, et la part passée dans la file de commandes (jusqu'au tick qui
+     * les applique).
      */
-    private void updateIAAndGame() {
-        int nbPlayers = game.getPlayers().size();
-        int[] prevX = new int[nbPlayers];
-        int[] prevY = new int[nbPlayers];
-        for (int i = 0; i < nbPlayers; i++) {
-            Player p = game.getPlayers().get(i);
-            prevX[i] = p.getX();
-            prevY[i] = p.getY();
+    private void reportEndOfMatch() {
+        if (latencyReported || game == null) return;
+        latencyReported = true;
+        matchStats.update(); // simulation arrêtée : tout ce qui a été publié est lisible
+        System.out.println("Partie : " + matchStats.summary());
+        System.out.println("Latence entrée → affichage : " + inputLatency.summary());
+        System.out.println("  dont attente du tick     : " + game.getCommandWaitHistogram().summary());
+    }
+
+    /**
+     * Termine l'enregistrement de la partie et l'écrit dans le dossier des replays.
+     */
+    private void saveReplay() {
+        if (replayRecorder == null || replayRecorder.isFinished()) return;
+        replayRecorder.finish(game);
+        try {
+            Path dir = Paths.get(REPLAY_DIR);
+            Files.createDirectories(dir);
+            replayRecorder.save(dir.resolve("replay-" + System.currentTimeMillis() + ".bmr"));
+        } catch (IOException e) {
+            e.printStackTrace();
         }
+    }
 
-        // On ne fait updateAIs et updateBombs que toutes les 4 frames (pour l'animation)
-        boolean doLogicTick = (System.currentTimeMillis() / 50) % 4 == 0;
-        if (doLogicTick) {
-            game.updateAIs();
-            game.updateBombs();
+    /**
+     * Affiche l'écran de fin une fois la fin de partie reçue dans le flux d'événements.
+     */
+    private void checkGameOver() {
+        if (gameEnded || endedWinnerSlot == -2) return;
+        gameEnded = true;
+        int winner = endedWinnerSlot;
+        String message;
+        if (winner >= 0) {
+            message = (snapshot.isHuman(winner) ? "Player " : "AI ") + snapshot.getPlayerId(winner) + " wins!";
+        } else {
+            message = "It's a tie!";
         }
+        showEndGameScreen(message);
+    }
 
-        for (int i = 0; i < nbPlayers; i++) {
-            Player p = game.getPlayers().get(i);
-            int dx = p.getX() - prevX[i];
-            int dy = p.getY() - prevY[i];
-            if ((dx != 0 || dy != 0) && playerAnims != null) {
-                playerAnims[i].targetX = p.getX();
-                playerAnims[i].targetY = p.getY();
+    /**
+     * Prend le dernier instantané publié, lit les événements publiés depuis la pulsation
+     * précédente (pas des joueurs, fin de partie), dessine puis vérifie la fin de partie.
+     * Appelé à chaque pulsation JavaFX.
+     */
+    private void renderLatestSnapshot() {
+        snapshot = simulation.latestSnapshot();
+        renderEvents.poll(renderHandler);
+        if (renderEvents.missed() != missedRenderEvents) {
+            // Des pas ont été écrasés avant d'être lus : les animations repartent de l'instantané
+            missedRenderEvents = renderEvents.missed();
+            for (int i = 0; i < snapshot.getPlayerCount(); i++) {
+                playerAnims[i].targetX = snapshot.getPlayerX(i);
+                playerAnims[i].targetY = snapshot.getPlayerY(i);
                 playerAnims[i].moving = true;
             }
-            if (!p.isHuman()) {
-                if      (dx ==  1) playerDirections[i] = 3; // droite
-                else if (dx == -1) playerDirections[i] = 2; // gauche
-                else if (dy ==  1) playerDirections[i] = 0; // bas
-                else if (dy == -1) playerDirections[i] = 1; // haut
-            }
         }
+        matchStats.update();
         drawGrid();
+        recordInputLatency();
         checkGameOver();
     }
 
+    private void onGameEvent(GameEvents.Type type, long tick, int slot, int x, int y, int value) {
+        switch (type) {
+            case PLAYER_MOVED -> {
+                playerAnims[slot].targetX = x;
+                playerAnims[slot].targetY = y;
+                playerAnims[slot].moving = true;
+                if (!snapshot.isHuman(slot)) playerDirections[slot] = DIRECTION_SPRITES[value];
+            }
+            case MATCH_ENDED -> endedWinnerSlot = slot;
+            default -> { }
+        }
+    }
+
+    /**
+     * Mesure, pour chaque commande appliquée depuis la dernière image, le temps entre son dépôt
+     * et l'image qui vient d'être dessinée (la première qui en montre l'effet).
+     */
+    private void recordInputLatency() {
+        long applied = snapshot.getCommandsApplied();
+        if (applied <= displayedCommands) return;
+        long now = System.nanoTime();
+        for (long rank = Math.max(displayedCommands, applied - Game.COMMAND_CAPACITY); rank < applied; rank++) {
+            inputLatency.record(now - snapshot.getCommandNanos(rank));
+        }
+        displayedCommands = applied;
+    }
+
     /**
      * Retour au menu principal.
      */
     private void returnToMenu() {
-        if (gameTimeline != null) gameTimeline.stop();
-        if (timerTimeline != null) timerTimeline.stop();
+        stopGame();
+        saveReplay();
+        reportEndOfMatch();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/bomberman/view/menu.fxml"));
             Parent root = loader.load();
@@ -317,63 +415,60 @@ public class GameController {
     }
 
     /**
-     * Gère les entrées clavier pour les joueurs humains.
+     * Gère les entrées clavier pour les joueurs humains : les commandes sont déposées dans la file
+     * de la partie et appliquées par le thread de simulation au début du tick suivant.
      * @param event Événement clavier
      */
     private void handleKeyPressed(KeyEvent event) {
-        if (game.getPlayers().isEmpty()) return;
-        for (int idx = 0; idx < game.getPlayers().size(); idx++) {
-            Player p = game.getPlayers().get(idx);
-            if (!p.isAlive() || !p.isHuman()) continue;
+        if (snapshot == null || snapshot.getPlayerCount() == 0) return;
+        if (event.getCode() == KeyCode.F3) {
+            showLatencyOverlay = !showLatencyOverlay;
+            drawGrid();
+            return;
+        }
+        for (int idx = 0; idx < snapshot.getPlayerCount(); idx++) {
+            if (!snapshot.isAlive(idx) || !snapshot.isHuman(idx)) continue;
             switch (idx) {
                 case 0 -> { // Player 1: arrows + space
                     switch (event.getCode()) {
                         case UP    -> {
                             playerDirections[0] = 1;
-                            game.movePlayer(p, 0, -1);
-                            updatePlayerAnim(0, p);
+                            game.submitMove(idx, 0, -1);
                         }
                         case DOWN  -> {
                             playerDirections[0] = 0;
-                            game.movePlayer(p, 0, 1);
-                            updatePlayerAnim(0, p);
+                            game.submitMove(idx, 0, 1);
                         }
                         case LEFT  -> {
                             playerDirections[0] = 2;
-                            game.movePlayer(p, -1, 0);
-                            updatePlayerAnim(0, p);
+                            game.submitMove(idx, -1, 0);
                         }
                         case RIGHT -> {
                             playerDirections[0] = 3;
-                            game.movePlayer(p, 1, 0);
-                            updatePlayerAnim(0, p);
+                            game.submitMove(idx, 1, 0);
                         }
-                        case SPACE -> game.placeBomb(p);
+                        case SPACE -> game.submitBomb(idx);
                     }
                 }
                 case 1 -> { // Player 2: ZQSD + shift
                     switch (event.getCode()) {
                         case Z     -> {
                             playerDirections[1] = 1;
-                            game.movePlayer(p, 0, -1);
-                            updatePlayerAnim(1, p);
+                            game.submitMove(idx, 0, -1);
                         }
                         case S     -> {
                             playerDirections[1] = 0;
-                            game.movePlayer(p, 0, 1);
-                            updatePlayerAnim(1, p);
+                            game.submitMove(idx, 0, 1);
                         }
                         case Q     -> {
                             playerDirections[1] = 2;
-                            game.movePlayer(p, -1, 0);
-                            updatePlayerAnim(1, p);
+                            game.submitMove(idx, -1, 0);
                         }
                         case D     -> {
                             playerDirections[1] = 3;
-                            game.movePlayer(p, 1, 0);
-                            updatePlayerAnim(1, p);
+                            game.submitMove(idx, 1, 0);
                         }
-                        case SHIFT -> game.placeBomb(p);
+                        case SHIFT -> game.submitBomb(idx);
                     }
                 }
             }
@@ -381,25 +476,17 @@ public class GameController {
         drawGrid();
     }
 
-    /**
-     * Met à jour l'animation pour le joueur donné.
-     */
-    private void updatePlayerAnim(int idx, Player p) {
-        playerAnims[idx].targetX = p.getX();
-        playerAnims[idx].targetY = p.getY();
-        playerAnims[idx].moving = true;
-    }
-
     /**
      * Affichage principal du plateau et de l'interface.
      */
     private void drawGrid() {
-        if (game == null || game.getPlayers().isEmpty()) return;
+        RenderSnapshot s = snapshot;
+        if (s == null || s.getPlayerCount() == 0) return;
 
         // Animation des joueurs
         if (playerAnims != null) {
             double speed = 0.18; // cases par frame
-            for (int i = 0; i < game.getPlayers().size(); i++) {
+            for (int i = 0; i < s.getPlayerCount(); i++) {
                 PlayerAnim anim = playerAnims[i];
                 if (anim.moving) {
                     double dx = anim.targetX - anim.visX;
@@ -418,19 +505,18 @@ public class GameController {
         }
 
         GraphicsContext gc = gameCanvas.getGraphicsContext2D();
-        var grid = game.getGrid();
-        int gridWidth = grid.getWidth();
-        int gridHeight = grid.getHeight();
-        double borderPixel = CELL_SIZE * BORDER_PIXEL_RATIO;
-        double topUiHeight = CELL_SIZE * TOP_UI_HEIGHT_RATIO;
-        double canvasWidth = borderPixel * 2 + gridWidth * CELL_SIZE;
-        double canvasHeight = topUiHeight + borderPixel * 2 + gridHeight * CELL_SIZE;
+        int gridWidth = s.getWidth();
+        int gridHeight = s.getHeight();
+        double borderPixel = cellSize * BORDER_PIXEL_RATIO;
+        double topUiHeight = topUiHeight();
+        double canvasWidth = borderPixel * 2 + gridWidth * cellSize;
+        double canvasHeight = topUiHeight + borderPixel * 2 + gridHeight * cellSize;
 
         // --- Barre du haut ---
         gc.setFill(Color.ORANGE);
         gc.fillRect(0, 0, canvasWidth, topUiHeight);
 
-        int totalPlayers = game.getPlayers().size();
+        int totalPlayers = s.getPlayerCount();
         double desiredSpacing = topUiHeight * 0.08;
         double minSpacing = 8;
         double iconSize = topUiHeight * 0.65;
@@ -443,10 +529,21 @@ public class GameController {
         double blocksWidth = totalPlayers * (iconSize + counterSize) + (totalPlayers + 1) * spacing + timerWidth;
         double x = (canvasWidth - blocksWidth) / 2.0;
         int leftPlayers = totalPlayers <= 2 ? 1 : totalPlayers / 2;
+        boolean battleRoyale = totalPlayers > 4;
+        if (battleRoyale) {
+            // Trop de joueurs pour un bloc chacun : compteur de survivants à gauche du timer
+            leftPlayers = 0;
+            blocksWidth = timerWidth;
+            x = (canvasWidth - blocksWidth) / 2.0;
+            int alive = s.aliveCount();
+            gc.setFill(Color.BLACK);
+            gc.setFont(Font.font("Consolas", counterSize * 0.7));
+            gc.fillText("Alive " + alive + "/" + totalPlayers, margin, topUiHeight / 2 + counterSize * 0.25);
+        }
 
         // Joueurs gauche
         for (int i = 0; i < leftPlayers; i++) {
-            drawPlayerBlock(gc, game.getPlayers().get(i), avatarsJoueurs[i], x, (topUiHeight - iconSize) / 2, iconSize, counterSize);
+            drawPlayerBlock(gc, s, i, avatarsJoueurs[i % avatarsJoueurs.length], x, (topUiHeight - iconSize) / 2, iconSize, counterSize);
             x += iconSize + counterSize + spacing;
         }
 
@@ -473,33 +570,33 @@ public class GameController {
         x += timerWidth + spacing;
 
         // Joueurs droite
-        for (int i = leftPlayers; i < totalPlayers; i++) {
-            drawPlayerBlock(gc, game.getPlayers().get(i), avatarsJoueurs[i], x, (topUiHeight - iconSize) / 2, iconSize, counterSize);
+        for (int i = leftPlayers; i < (battleRoyale ? 0 : totalPlayers); i++) {
+            drawPlayerBlock(gc, s, i, avatarsJoueurs[i % avatarsJoueurs.length], x, (topUiHeight - iconSize) / 2, iconSize, counterSize);
             x += iconSize + counterSize + spacing;
         }
 
         // --- Plateau ---
         gc.setFill(Color.rgb(34, 34, 34));
         gc.fillRect(0, topUiHeight, canvasWidth, borderPixel);
-        gc.fillRect(0, topUiHeight + borderPixel + gridHeight * CELL_SIZE, canvasWidth, borderPixel);
-        gc.fillRect(0, topUiHeight, borderPixel, borderPixel + gridHeight * CELL_SIZE);
-        gc.fillRect(borderPixel + gridWidth * CELL_SIZE, topUiHeight, borderPixel, borderPixel + gridHeight * CELL_SIZE);
+        gc.fillRect(0, topUiHeight + borderPixel + gridHeight * cellSize, canvasWidth, borderPixel);
+        gc.fillRect(0, topUiHeight, borderPixel, borderPixel + gridHeight * cellSize);
+        gc.fillRect(borderPixel + gridWidth * cellSize, topUiHeight, borderPixel, borderPixel + gridHeight * cellSize);
 
         // Affichage des cases
         for (int y = 0; y < gridHeight; y++) {
             for (int xg = 0; xg < gridWidth; xg++) {
-                double drawX = borderPixel + xg * CELL_SIZE;
-                double drawY = topUiHeight + borderPixel + y * CELL_SIZE;
-                switch (grid.getCell(xg, y)) {
-                    case INDESTRUCTIBLE -> gc.drawImage(wallIndestructibleImg, drawX, drawY, CELL_SIZE, CELL_SIZE);
-                    case DESTRUCTIBLE   -> gc.drawImage(wallDestructibleImg, drawX, drawY, CELL_SIZE, CELL_SIZE);
-                    case BOMB           -> gc.drawImage(solImg, drawX, drawY, CELL_SIZE, CELL_SIZE);
+                double drawX = borderPixel + xg * cellSize;
+                double drawY = topUiHeight + borderPixel + y * cellSize;
+                switch (s.getCell(xg, y)) {
+                    case INDESTRUCTIBLE -> gc.drawImage(wallIndestructibleImg, drawX, drawY, cellSize, cellSize);
+                    case DESTRUCTIBLE   -> gc.drawImage(wallDestructibleImg, drawX, drawY, cellSize, cellSize);
+                    case BOMB           -> gc.drawImage(solImg, drawX, drawY, cellSize, cellSize);
                     case EXPLOSION -> {
-                        ExplosionCell exCell = game.getExplosionCell(xg, y);
+                        ExplosionCell exCell = s.getExplosionCell(xg, y);
                         if (exCell == null) {
-                            gc.drawImage(explosionImg, drawX, drawY, CELL_SIZE, CELL_SIZE);
+                            gc.drawImage(explosionImg, drawX, drawY, cellSize, cellSize);
                         } else if (exCell.type == ExplosionPartType.CENTRE) {
-                            gc.drawImage(explosionV2CentreImg, drawX, drawY, CELL_SIZE, CELL_SIZE);
+                            gc.drawImage(explosionV2CentreImg, drawX, drawY, cellSize, cellSize);
                         } else {
                             gc.save();
                             double angle = switch (exCell.direction) {
@@ -509,53 +606,54 @@ public class GameController {
                                 case LEFT -> 270;
                                 default -> 0;
                             };
-                            gc.translate(drawX + CELL_SIZE / 2, drawY + CELL_SIZE / 2);
+                            gc.translate(drawX + cellSize / 2, drawY + cellSize / 2);
                             gc.rotate(angle);
-                            gc.translate(-CELL_SIZE / 2, -CELL_SIZE / 2);
+                            gc.translate(-cellSize / 2, -cellSize / 2);
                             if (exCell.type == ExplosionPartType.BRANCH) {
-                                gc.drawImage(explosionV2BrancheImg, 0, 0, CELL_SIZE, CELL_SIZE);
+                                gc.drawImage(explosionV2BrancheImg, 0, 0, cellSize, cellSize);
                             } else if (exCell.type == ExplosionPartType.END) {
-                                gc.drawImage(explosionV2FinImg, 0, 0, CELL_SIZE, CELL_SIZE);
+                                gc.drawImage(explosionV2FinImg, 0, 0, cellSize, cellSize);
                             }
                             gc.restore();
                         }
                     }
-                    default -> gc.drawImage(solImg, drawX, drawY, CELL_SIZE, CELL_SIZE);
+                    default -> gc.drawImage(solImg, drawX, drawY, cellSize, cellSize);
                 }
             }
         }
 
         // Affichage des bonus
-        for (Bonus bonus : game.getBonuses()) {
-            double bx = borderPixel + bonus.getX() * CELL_SIZE;
-            double by = topUiHeight  + borderPixel + bonus.getY() * CELL_SIZE;
-            gc.drawImage(bonus.getSprite(), bx, by, CELL_SIZE, CELL_SIZE);
+        for (int i = 0; i < s.getBonusCount(); i++) {
+            double bx = borderPixel + s.getBonusX(i) * cellSize;
+            double by = topUiHeight  + borderPixel + s.getBonusY(i) * cellSize;
+            // Le moteur ne donne que le chemin : l'image est décodée une fois puis prise dans le cache
+            gc.drawImage(safeImageFromResource(s.getBonusSprite(i)), bx, by, cellSize, cellSize);
         }
         // Affichage des bombes
-        for (Bomb b : game.getBombs()) {
-            double bx = borderPixel + b.getX() * CELL_SIZE;
-            double by = topUiHeight + borderPixel + b.getY() * CELL_SIZE;
-            gc.drawImage(bombImg, bx, by, CELL_SIZE, CELL_SIZE);
+        for (int i = 0; i < s.getBombCount(); i++) {
+            double bx = borderPixel + s.getBombX(i) * cellSize;
+            double by = topUiHeight + borderPixel + s.getBombY(i) * cellSize;
+            gc.drawImage(bombImg, bx, by, cellSize, cellSize);
         }
         // Affichage des joueurs (humains ET IA) avec sprite directionnel
-        for (int idx = 0; idx < game.getPlayers().size(); idx++) {
-            Player p = game.getPlayers().get(idx);
-            if (p.isAlive()) {
-                double px = borderPixel + playerAnims[idx].visX * CELL_SIZE;
-                double py = topUiHeight + borderPixel + playerAnims[idx].visY * CELL_SIZE;
+        for (int idx = 0; idx < s.getPlayerCount(); idx++) {
+            if (s.isAlive(idx)) {
+                double px = borderPixel + playerAnims[idx].visX * cellSize;
+                double py = topUiHeight + borderPixel + playerAnims[idx].visY * cellSize;
                 int direction = playerDirections[idx];
-                Image currentSprite = playerSprites[idx][direction];
-                gc.drawImage(currentSprite, px, py, CELL_SIZE, CELL_SIZE);
+                Image currentSprite = playerSprites[idx % playerSprites.length][direction];
+                gc.drawImage(currentSprite, px, py, cellSize, cellSize);
             }
         }
 
-        // Afficher le temps restant des bonus pour chaque joueur
-        for (Player p : game.getPlayers()) {
+        // Afficher les effets actifs de chaque joueur
+        for (int idx = 0; idx < s.getPlayerCount(); idx++) {
+            if (battleRoyale && !s.isHuman(idx)) continue;
             double textX;
             double baseY;
             int bonusIndex = 0;
 
-            if (p.getId() == 1) {
+            if (s.getPlayerId(idx) == 1) {
                 textX = margin + iconSize + spacing + counterSize + 8;
                 baseY = topUiHeight * 0.6 + 12;
             } else {
@@ -566,10 +664,11 @@ public class GameController {
             double lineHeight = 18;
             double imgSize = iconSize * 0.5;
 
-            for (ActiveBonus ab : p.getActiveBonuses()) {
+            for (ActiveBonus.Type type : ActiveBonus.Type.values()) {
+                if ((s.getEffectMask(idx) & type.mask()) == 0) continue;
                 double y = baseY + bonusIndex * lineHeight;
                 double imgY = y - imgSize + (lineHeight - imgSize) / 2 + imgSize * 0.1;
-                Image bonusImg = switch (ab.getType()) {
+                Image bonusImg = switch (type) {
                     case FLAME -> flameBonusImg;
                     case JACKET -> jacketBonusImg;
                     case LIFE -> null;
@@ -581,12 +680,29 @@ public class GameController {
                 bonusIndex++;
             }
         }
+
+        // Latence entrée → affichage (F3 pour masquer)
+        if (showLatencyOverlay && inputLatency.count() > 0) {
+            String latency = String.format("Input→display  p50 %.1f ms  p95 %.1f ms  p99 %.1f ms  (n=%d)",
+                    inputLatency.percentile(50) / 1e6, inputLatency.percentile(95) / 1e6,
+                    inputLatency.percentile(99) / 1e6, inputLatency.count());
+            gc.setFont(Font.font("Consolas", 12));
+            gc.setFill(new Color(0, 0, 0, 0.6));
+            gc.fillRect(borderPixel, canvasHeight - borderPixel - 20, latency.length() * 7 + 8, 18);
+            gc.setFill(Color.WHITE);
+            gc.fillText(latency, borderPixel + 4, canvasHeight - borderPixel - 6);
+        }
+    }
+
+    /** @return hauteur de la barre du haut, qui garde une taille lisible quand les cases rétrécissent */
+    private double topUiHeight() {
+        return Math.max(cellSize, DEFAULT_CELL_SIZE / 2) * TOP_UI_HEIGHT_RATIO;
     }
 
     /**
      * Affiche l'avatar d'un joueur, ses vies, et s'il est IA.
      */
-    private void drawPlayerBlock(GraphicsContext gc, Player player, Image avatar, double x, double y, double iconSize, double counterSize) {
+    private void drawPlayerBlock(GraphicsContext gc, RenderSnapshot s, int slot, Image avatar, double x, double y, double iconSize, double counterSize) {
         gc.drawImage(avatar, x, y, iconSize, iconSize);
         double counterX = x + iconSize;
         double counterY = y + (iconSize - counterSize) / 2;
@@ -596,7 +712,7 @@ public class GameController {
         gc.setLineWidth(2);
         gc.strokeRoundRect(counterX, counterY, counterSize, counterSize, 12, 12);
 
-        String vieStr = String.valueOf(player.getLives());
+        String vieStr = String.valueOf(s.getPlayerLives(slot));
         gc.setFill(Color.WHITE);
         gc.setFont(Font.font("Consolas", counterSize * 0.7));
         Text text = new Text(vieStr);
@@ -607,7 +723,7 @@ public class GameController {
         double textY = counterY + counterSize / 2 + textHeight / 3;
         gc.fillText(vieStr, textX, textY);
 
-        if (player.isAI()) {
+        if (!s.isHuman(slot)) {
             gc.setFill(Color.ORANGE);
             gc.setFont(Font.font("Consolas", counterSize * 0.20));
             gc.fillText("IA", counterX + counterSize - 24, counterY + 18);
@@ -1,7 +1,9 @@
 package com.bomberman.controller;
 
+import com.bomberman.model.Game;
 import com.bomberman.model.GameSettings;
 import com.bomberman.model.Level;
+import com.bomberman.model.SpawnPlanner;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -23,6 +25,9 @@ import java.util.List;
 /**
  * Contrôleur de l'écran de configuration de partie.
  * Permet de sélectionner le nombre de joueurs, d'IAs, le niveau et de lancer la partie.
+ * Au-delà de {@link #CLASSIC_PLAYERS} joueurs, la partie est un battle royale sur une arène
+ * procédurale (le niveau choisi est ignoré) : le nombre d'IA y double le total de joueurs
+ * à chaque pas, jusqu'à {@link Game#MAX_PLAYERS}.
  */
 public class GameSetupController {
 
@@ -35,6 +40,9 @@ public class GameSetupController {
             themeLeftArrow, themeRightArrow,
             playerCountLabel, iaCountLabel, themeLabel;
 
+    /** Nombre maximal de joueurs d'une partie classique (les quatre coins du niveau). */
+    private static final int CLASSIC_PLAYERS = 4;
+
     private final IntegerProperty playerCount = new SimpleIntegerProperty(2);
     private final IntegerProperty iaCount = new SimpleIntegerProperty(0);
     private final IntegerProperty levelIndex = new SimpleIntegerProperty(0);
@@ -50,14 +58,14 @@ public class GameSetupController {
         List<Level> allLevels = new ArrayList<>();
         try {
             allLevels.addAll(Level.loadLevelsFromDirectory(
-                    Path.of("src/main/resources/levels/predefined")
+                    Path.of("bomberman-ui/src/main/resources/levels/predefined")
             ));
         } catch (Exception e) {
             System.err.println("Erreur lors du chargement des niveaux prédéfinis : " + e.getMessage());
         }
         try {
             allLevels.addAll(Level.loadLevelsFromDirectory(
-                    Path.of("src/main/resources/levels/custom")
+                    Path.of("bomberman-ui/src/main/resources/levels/custom")
             ));
         } catch (Exception e) {
             System.err.println("Erreur lors du chargement des niveaux personnalisés : " + e.getMessage());
@@ -112,7 +120,7 @@ public class GameSetupController {
         playerRightArrow.visibleProperty().bind(playerCount.lessThan(2));
         iaLeftArrow.visibleProperty().bind(iaCount.greaterThan(0));
         iaRightArrow.visibleProperty().bind(Bindings.createBooleanBinding(
-                () -> playerCount.get() + iaCount.get() < 4,
+                () -> playerCount.get() + iaCount.get() < Game.MAX_PLAYERS,
                 playerCount, iaCount
         ));
         boolean hasMultipleLevels = levels.length > 1;
@@ -162,7 +170,13 @@ public class GameSetupController {
         }
         playerCountLabel.setText(String.valueOf(playerCount.get()));
         iaCountLabel.setText(String.valueOf(iaCount.get()));
-        themeLabel.setText(levels[levelIndex.get()].getName().toUpperCase());
+        int total = playerCount.get() + iaCount.get();
+        if (total > CLASSIC_PLAYERS) {
+            int side = SpawnPlanner.arenaSide(total);
+            themeLabel.setText("BATTLE ROYALE " + side + "x" + side);
+        } else {
+            themeLabel.setText(levels[levelIndex.get()].getName().toUpperCase());
+        }
         showLevelPreview(levels[levelIndex.get()]);
         updateHighlight();
     }
@@ -274,7 +288,7 @@ public class GameSetupController {
             }
             case 1 -> {
                 if (iaCount.get() > 0) {
-                    iaCount.set(iaCount.get() - 1);
+                    iaCount.set(previousIaCount());
                     if (iaCount.get() == 0 && playerCount.get() < 2) {
                         playerCount.set(2);
                     }
@@ -295,14 +309,14 @@ public class GameSetupController {
     private void incrementSelected() {
         switch (selectedField) {
             case 0 -> {
-                if (playerCount.get() < 2 && playerCount.get() + iaCount.get() < 4) {
+                if (playerCount.get() < 2 && playerCount.get() + iaCount.get() < CLASSIC_PLAYERS) {
                     playerCount.set(playerCount.get() + 1);
                     updateUI();
                 }
             }
             case 1 -> {
-                if (playerCount.get() + iaCount.get() < 4) {
-                    iaCount.set(iaCount.get() + 1);
+                if (playerCount.get() + iaCount.get() < Game.MAX_PLAYERS) {
+                    iaCount.set(nextIaCount());
                     updateUI();
                 }
             }
@@ -313,4 +327,23 @@ public class GameSetupController {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * @return nombre d'IA après un pas vers le haut : un de plus jusqu'à {@link #CLASSIC_PLAYERS}
+     *         joueurs, puis de quoi doubler le total (battle royale), borné à {@link Game#MAX_PLAYERS}
+     */
+    private int nextIaCount() {
+        int total = playerCount.get() + iaCount.get();
+        int next = total < CLASSIC_PLAYERS ? total + 1 : Math.min(Game.MAX_PLAYERS, total * 2);
+        return next - playerCount.get();
+    }
+
+    /**
+     * @return nombre d'IA après un pas vers le bas, inverse de {@link #nextIaCount()}
+     */
+    private int previousIaCount() {
+        int total = playerCount.get() + iaCount.get();
+        int previous = total <= CLASSIC_PLAYERS ? total - 1 : Math.max(CLASSIC_PLAYERS, Integer.highestOneBit(total - 1));
+        return previous - playerCount.get();
+    }
+}
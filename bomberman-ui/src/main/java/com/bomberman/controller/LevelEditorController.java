@@ -296,7 +296,7 @@ public class LevelEditorController {
         fc.setTitle(title);
         fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("Images", "*.png", "*.jpg", "*.jpeg"));
 
-        File initialDir = new File("src/main/resources/images/elementsMap");
+        File initialDir = new File("bomberman-ui/src/main/resources/images/elementsMap");
         if (initialDir.exists()) {
             fc.setInitialDirectory(initialDir);
         }
@@ -334,7 +334,7 @@ public class LevelEditorController {
 
         FileChooser fc = new FileChooser();
         fc.setTitle("Sauvegarder niveau");
-        File customDir = new File("src/main/resources/levels/custom");
+        File customDir = new File("bomberman-ui/src/main/resources/levels/custom");
         if (!customDir.exists()) customDir.mkdirs();
         fc.setInitialDirectory(customDir);
         fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("Fichier de niveau", "*.level"));
@@ -357,7 +357,7 @@ public class LevelEditorController {
     private void loadLevel() {
         FileChooser fc = new FileChooser();
         fc.setTitle("Charger un niveau");
-        File customDir = new File("src/main/resources/levels/custom");
+        File customDir = new File("bomberman-ui/src/main/resources/levels/custom");
         if (!customDir.exists()) customDir.mkdirs();
         fc.setInitialDirectory(customDir);
         fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("Fichier de niveau", "*.level"));
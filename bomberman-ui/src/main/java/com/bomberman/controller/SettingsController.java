@@ -3,6 +3,7 @@ package com.bomberman.controller;
 import com.bomberman.model.GameSettings;
 import javafx.application.Platform;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -33,7 +34,8 @@ public class SettingsController {
     @FXML private Label aiLevelLabel;
     @FXML private Label aiLevelRightArrow;
 
-    private final IntegerProperty aiLevelIndex = GameSettings.aiLevelIndexProperty();
+    // Propriété de l'écran, recopiée dans les réglages du jeu à chaque changement
+    private final IntegerProperty aiLevelIndex = new SimpleIntegerProperty(GameSettings.getAiLevelIndex());
     private int selectedField = 0; // 0 : levelEditor, 1 : AI, 2 : retour
 
     private Stage stage;
@@ -65,7 +67,8 @@ public class SettingsController {
         backButton.setOnAction(e -> returnToMenu());
         levelEditorButton.setOnAction(e -> openLevelEditor());
 
-        // Liaison du label de niveau d'IA à la propriété globale
+        aiLevelIndex.addListener((obs, oldValue, newValue) -> GameSettings.setAiLevelIndex(newValue.intValue()));
+        // Liaison du label de niveau d'IA à la propriété de l'écran
         aiLevelLabel.textProperty().bind(aiLevelIndex.asString().map(idx -> GameSettings.AI_LEVELS[Integer.parseInt(idx)]));
 
         aiLevelLeftArrow.setOnMouseClicked(e -> selectFieldAndAdjustAILevel(1, this::decrementAiLevel));
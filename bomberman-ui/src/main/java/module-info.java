@@ -1,13 +1,12 @@
 module com.bomberman {
+    requires com.bomberman.core;
     requires javafx.controls;
     requires javafx.fxml;
     requires java.desktop;
 
     opens com.bomberman.controller to javafx.fxml;
-    opens com.bomberman.model to javafx.fxml;
     opens com.bomberman.view to javafx.fxml;
     exports com.bomberman;
     exports com.bomberman.controller;
-    exports com.bomberman.model;
     exports com.bomberman.view;
-}
\ No newline at end of file
+}